@@ -0,0 +1,72 @@
+package org.folio.benchmark;
+
+import static org.folio.util.RestUtils.ACQUISITIONS_UNIT_IDS;
+import static org.folio.util.RestUtils.NO_ACQ_UNIT_ASSIGNED_CQL;
+import static org.folio.util.RestUtils.combineCqlExpressions;
+import static org.folio.util.RestUtils.convertIdsToCqlQuery;
+import static org.folio.util.RestUtils.encodeQuery;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures building of the CQL queries sent to storage: id lists, acquisitions units clause combined with
+ * the client query and URL encoding of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CqlBuildBenchmark {
+
+  @Param({"1", "10", "100", "1000", "5000"})
+  private int idCount;
+
+  @Param({"false", "true"})
+  private boolean sortBy;
+
+  private List<String> ids;
+  private String unitsClause;
+  private String query;
+  private String combinedQuery;
+
+  @Setup
+  public void setUp() {
+    ids = Stream.generate(() -> UUID.randomUUID().toString())
+      .limit(idCount)
+      .toList();
+    unitsClause = String.format("%s or (%s)", convertIdsToCqlQuery(ids, ACQUISITIONS_UNIT_IDS, false), NO_ACQ_UNIT_ASSIGNED_CQL);
+    query = "name==\"Amazon*\" and status==\"Active\"" + (sortBy ? " sortBy name/sort.ascending" : "");
+    combinedQuery = combineCqlExpressions("and", unitsClause, query);
+  }
+
+  @Benchmark
+  public String convertIds() {
+    return convertIdsToCqlQuery(ids);
+  }
+
+  @Benchmark
+  public String combineWithUnitsClause() {
+    return combineCqlExpressions("and", unitsClause, query);
+  }
+
+  @Benchmark
+  public String combineIdsQuery() {
+    return combineCqlExpressions("and", query, convertIdsToCqlQuery(ids));
+  }
+
+  @Benchmark
+  public String encode() {
+    return encodeQuery(combinedQuery);
+  }
+}
@@ -0,0 +1,85 @@
+package org.folio.benchmark;
+
+import static org.folio.util.RestUtils.ACQUISITIONS_UNIT_IDS;
+import static org.folio.util.RestUtils.NO_ACQ_UNIT_ASSIGNED_CQL;
+import static org.folio.util.RestUtils.combineCqlExpressions;
+import static org.folio.util.RestUtils.convertIdsToCqlQuery;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.folio.util.CqlCanonicalizer;
+import org.folio.util.CqlNode;
+import org.folio.util.CqlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures parsing and canonicalization of CQL queries: a typical organization search and id lists of growing size,
+ * alone and combined with the acquisitions units clause.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CqlParseBenchmark {
+
+  private static final String TYPICAL_QUERY = "(name==\"Amazon*\" OR code==\"AMAZ*\") and status==\"Active\""
+    + " sortBy name/sort.ascending";
+
+  @Param({"1", "10", "100", "1000", "5000"})
+  private int idCount;
+
+  private String idsQuery;
+  private String combinedQuery;
+  private CqlNode parsedIdsQuery;
+
+  @Setup
+  public void setUp() {
+    List<String> ids = Stream.generate(() -> UUID.randomUUID().toString())
+      .limit(idCount)
+      .toList();
+    idsQuery = convertIdsToCqlQuery(ids);
+    String unitsClause = String.format("%s or (%s)", convertIdsToCqlQuery(ids, ACQUISITIONS_UNIT_IDS, false),
+      NO_ACQ_UNIT_ASSIGNED_CQL);
+    combinedQuery = combineCqlExpressions("and", unitsClause, TYPICAL_QUERY);
+    parsedIdsQuery = CqlParser.parse(idsQuery);
+  }
+
+  @Benchmark
+  public CqlNode parseTypical() {
+    return CqlParser.parse(TYPICAL_QUERY);
+  }
+
+  @Benchmark
+  public String canonicalizeTypical() {
+    return CqlCanonicalizer.canonicalize(TYPICAL_QUERY);
+  }
+
+  @Benchmark
+  public CqlNode parseIds() {
+    return CqlParser.parse(idsQuery);
+  }
+
+  @Benchmark
+  public String renderIds() {
+    return CqlCanonicalizer.canonicalize(parsedIdsQuery).toCql();
+  }
+
+  @Benchmark
+  public String canonicalizeIds() {
+    return CqlCanonicalizer.canonicalize(idsQuery);
+  }
+
+  @Benchmark
+  public String canonicalizeCombined() {
+    return CqlCanonicalizer.canonicalize(combinedQuery);
+  }
+}
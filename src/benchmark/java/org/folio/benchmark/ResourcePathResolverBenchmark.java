@@ -0,0 +1,57 @@
+package org.folio.benchmark;
+
+import static org.folio.util.ResourcePathResolver.ACQUISITIONS_UNITS;
+import static org.folio.util.ResourcePathResolver.ORGANIZATIONS;
+import static org.folio.util.ResourcePathResolver.resourceByIdPath;
+import static org.folio.util.ResourcePathResolver.resourcesPath;
+import static org.folio.util.RestUtils.GET_UNITS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures resolution of storage endpoints done for every outbound request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourcePathResolverBenchmark {
+
+  private String id;
+  private String query;
+
+  @Setup
+  public void setUp() {
+    id = UUID.randomUUID().toString();
+    query = "isDeleted=* and id==" + id;
+  }
+
+  @Benchmark
+  public String collectionPath() {
+    return resourcesPath(ORGANIZATIONS);
+  }
+
+  @Benchmark
+  public String byIdPath() {
+    return resourceByIdPath(ORGANIZATIONS, id);
+  }
+
+  @Benchmark
+  public String unitsQueryEndpoint() {
+    return String.format(GET_UNITS_BY_QUERY, Integer.MAX_VALUE, 0, buildQuery(query));
+  }
+
+  @Benchmark
+  public String collectionQueryEndpoint() {
+    return resourcesPath(ACQUISITIONS_UNITS) + "?limit=10&offset=0" + buildQuery(query);
+  }
+}
@@ -0,0 +1,259 @@
+package org.folio.benchmark.load;
+
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.rest.RestVerticle;
+import org.folio.rest.tools.utils.NetworkUtils;
+
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * End-to-end load test: deploys {@link RestVerticle} against an in-process {@link StorageStub} and drives a mix of
+ * organization requests with a fixed number of concurrent clients, each sending the next request as soon as the
+ * previous one completes. Throughput and latency percentiles are reported per operation.
+ * <p>
+ * Settings are read from system properties:
+ * <ul>
+ *   <li>{@code load.organizations} - number of generated organizations, default 10000</li>
+ *   <li>{@code load.protectedShare} - share of organizations assigned to a protected acquisitions unit, default 0.5</li>
+ *   <li>{@code load.latencyMs} / {@code load.jitterMs} - storage latency and its random addition, default 5 / 5</li>
+ *   <li>{@code load.concurrency} - number of concurrent clients, default 32</li>
+ *   <li>{@code load.warmup} / {@code load.duration} - warm-up and measurement time in seconds, default 10 / 30</li>
+ *   <li>{@code load.mix} - operation weights, default {@code getById:70,getCollection:20,post:5,put:5}</li>
+ *   <li>{@code load.limit} - page size of collection requests, default 50</li>
+ * </ul>
+ */
+public class LoadTest {
+
+  private static final String TENANT = "load_test";
+  private static final String ORGANIZATIONS_PATH = "/organizations/organizations";
+
+  private final Vertx vertx;
+  private final StorageStub stub;
+  private final WebClient client;
+  private final MultiMap headers;
+  private final List<Operation> mix;
+  private final int concurrency;
+  private final int limit;
+  private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+  private long measureFrom;
+  private long measureTo;
+  private int activeClients;
+
+  enum Operation {
+    GET_BY_ID("getById", "GET " + ORGANIZATIONS_PATH + "/{id}"),
+    GET_COLLECTION("getCollection", "GET " + ORGANIZATIONS_PATH),
+    POST("post", "POST " + ORGANIZATIONS_PATH),
+    PUT("put", "PUT " + ORGANIZATIONS_PATH + "/{id}");
+
+    private final String key;
+    private final String title;
+
+    Operation(String key, String title) {
+      this.key = key;
+      this.title = title;
+    }
+
+    static Operation fromKey(String key) {
+      return Arrays.stream(values())
+        .filter(operation -> operation.key.equals(key))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+  }
+
+  LoadTest(Vertx vertx, StorageStub stub, int modulePort, int stubPort, List<Operation> mix, int concurrency, int limit) {
+    this.vertx = vertx;
+    this.stub = stub;
+    this.mix = mix;
+    this.concurrency = concurrency;
+    this.limit = limit;
+    this.client = WebClient.create(vertx, new WebClientOptions()
+      .setDefaultPort(modulePort)
+      .setKeepAlive(true), new PoolOptions().setHttp1MaxSize(concurrency));
+    this.headers = MultiMap.caseInsensitiveMultiMap()
+      .add(OKAPI_HEADER_TENANT, TENANT)
+      .add(OKAPI_URL, "http://localhost:" + stubPort)
+      .add(OKAPI_USERID_HEADER, StorageStub.USER_ID)
+      .add("Accept", "application/json, text/plain");
+    for (Operation operation : Operation.values()) {
+      recorders.put(operation, new LatencyRecorder());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    int volume = Integer.getInteger("load.organizations", 10000);
+    double protectedShare = Double.parseDouble(System.getProperty("load.protectedShare", "0.5"));
+    long latencyMs = Long.getLong("load.latencyMs", 5);
+    long jitterMs = Long.getLong("load.jitterMs", 5);
+    int concurrency = Integer.getInteger("load.concurrency", 32);
+    int warmup = Integer.getInteger("load.warmup", 10);
+    int duration = Integer.getInteger("load.duration", 30);
+    int limit = Integer.getInteger("load.limit", 50);
+    List<Operation> mix = parseMix(System.getProperty("load.mix", "getById:70,getCollection:20,post:5,put:5"));
+
+    Vertx vertx = Vertx.vertx();
+    int stubPort = NetworkUtils.nextFreePort();
+    int modulePort = NetworkUtils.nextFreePort();
+    StorageStub stub = new StorageStub(vertx, volume, protectedShare, latencyMs, jitterMs);
+    try {
+      stub.start(stubPort)
+        .compose(server -> vertx.deployVerticle(RestVerticle.class.getName(),
+          new DeploymentOptions().setConfig(new JsonObject().put("http.port", modulePort))))
+        .await(60, TimeUnit.SECONDS);
+
+      System.out.printf(Locale.ROOT, "organizations=%d protectedShare=%.2f latency=%d+%dms concurrency=%d warmup=%ds duration=%ds%n",
+        volume, protectedShare, latencyMs, jitterMs, concurrency, warmup, duration);
+      LoadTest loadTest = new LoadTest(vertx, stub, modulePort, stubPort, mix, concurrency, limit);
+      loadTest.run(warmup, duration).await(warmup + duration + 60L, TimeUnit.SECONDS);
+      loadTest.report(duration);
+    } finally {
+      vertx.close().await(30, TimeUnit.SECONDS);
+    }
+    System.exit(0);
+  }
+
+  Future<Void> run(int warmupSeconds, int durationSeconds) {
+    Promise<Void> done = Promise.promise();
+    Context context = vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      long now = System.nanoTime();
+      measureFrom = now + TimeUnit.SECONDS.toNanos(warmupSeconds);
+      measureTo = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+      activeClients = concurrency;
+      for (int i = 0; i < concurrency; i++) {
+        next(done);
+      }
+    });
+    return done.future();
+  }
+
+  private void next(Promise<Void> done) {
+    long start = System.nanoTime();
+    if (start >= measureTo) {
+      if (--activeClients == 0) {
+        done.complete();
+      }
+      return;
+    }
+    Operation operation = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+    send(operation).onComplete(ar -> {
+      if (start >= measureFrom) {
+        boolean succeeded = ar.succeeded() && ar.result().statusCode() < 300;
+        recorders.get(operation).record(System.nanoTime() - start, succeeded);
+      }
+      next(done);
+    });
+  }
+
+  private Future<HttpResponse<Buffer>> send(Operation operation) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (operation) {
+      case GET_BY_ID -> client.get(ORGANIZATIONS_PATH + "/" + stub.organization(random.nextInt(stub.size())).getString("id"))
+        .putHeaders(headers)
+        .send();
+      case GET_COLLECTION -> client.get(ORGANIZATIONS_PATH)
+        .putHeaders(headers)
+        .addQueryParam("offset", String.valueOf(random.nextInt(Math.max(1, stub.size() - limit))))
+        .addQueryParam("limit", String.valueOf(limit))
+        .send();
+      case POST -> client.post(ORGANIZATIONS_PATH)
+        .putHeaders(headers)
+        .sendJsonObject(new JsonObject()
+          .put("name", "Load test organization")
+          .put("code", "LOAD-" + UUID.randomUUID())
+          .put("status", "Active")
+          .put("isVendor", false));
+      case PUT -> {
+        JsonObject organization = stub.organization(random.nextInt(stub.size()));
+        yield client.put(ORGANIZATIONS_PATH + "/" + organization.getString("id"))
+          .putHeaders(headers)
+          .sendJsonObject(organization.put("description", "updated"));
+      }
+    };
+  }
+
+  void report(int durationSeconds) {
+    System.out.printf(Locale.ROOT, "%-45s %9s %7s %9s %9s %9s %9s %9s%n",
+      "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+    recorders.forEach((operation, recorder) -> {
+      if (recorder.count() > 0) {
+        System.out.printf(Locale.ROOT, "%-45s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+          operation.title, recorder.count(), recorder.errors, recorder.count() / (double) durationSeconds,
+          recorder.percentile(50), recorder.percentile(95), recorder.percentile(99), recorder.percentile(100));
+      }
+    });
+  }
+
+  private static List<Operation> parseMix(String mix) {
+    List<Operation> operations = new ArrayList<>();
+    for (String entry : mix.split(",")) {
+      String[] weight = entry.trim().split(":");
+      Operation operation = Operation.fromKey(weight[0]);
+      for (int i = 0; i < Integer.parseInt(weight[1]); i++) {
+        operations.add(operation);
+      }
+    }
+    if (operations.isEmpty()) {
+      throw new IllegalArgumentException("Empty operation mix: " + mix);
+    }
+    return operations;
+  }
+
+  /**
+   * Latencies of a single operation, accessed only from the driver context.
+   */
+  private static class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+    private boolean sorted;
+
+    void record(long nanos, boolean succeeded) {
+      if (count == samples.length) {
+        samples = Arrays.copyOf(samples, count * 2);
+      }
+      samples[count++] = nanos;
+      sorted = false;
+      if (!succeeded) {
+        errors++;
+      }
+    }
+
+    int count() {
+      return count;
+    }
+
+    double percentile(double percentile) {
+      if (!sorted) {
+        Arrays.sort(samples, 0, count);
+        sorted = true;
+      }
+      int index = Math.max(0, (int) Math.ceil(percentile / 100 * count) - 1);
+      return samples[index] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+}
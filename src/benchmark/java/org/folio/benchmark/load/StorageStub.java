@@ -0,0 +1,172 @@
+package org.folio.benchmark.load;
+
+import static org.folio.util.ResourcePathResolver.ACQUISITIONS_MEMBERSHIPS;
+import static org.folio.util.ResourcePathResolver.ACQUISITIONS_UNITS;
+import static org.folio.util.ResourcePathResolver.ORGANIZATIONS;
+import static org.folio.util.ResourcePathResolver.resourcesPath;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * In-process stub of organizations and acquisitions units storage. Records are generated once and served from
+ * pre-encoded buffers, every response is delayed by the configured latency plus a random jitter.
+ * <p>
+ * A share of the organizations is assigned to a single fully protected acquisitions unit the load user is a member of,
+ * so that reads and updates of these records go through the whole acquisitions units check.
+ */
+public class StorageStub {
+
+  public static final String UNIT_ID = uuid("unit-0");
+  public static final String USER_ID = uuid("user-0");
+
+  private static final String ORGANIZATIONS_PATH = resourcesPath(ORGANIZATIONS);
+  private static final String UNITS_PATH = resourcesPath(ACQUISITIONS_UNITS);
+  private static final String MEMBERSHIPS_PATH = resourcesPath(ACQUISITIONS_MEMBERSHIPS);
+
+  private final Vertx vertx;
+  private final long latencyMs;
+  private final long jitterMs;
+  private final List<JsonObject> organizations = new ArrayList<>();
+  private final List<Buffer> encodedOrganizations = new ArrayList<>();
+  private final Map<String, Integer> indexById = new HashMap<>();
+  private final Buffer units;
+  private final Buffer memberships;
+
+  public StorageStub(Vertx vertx, int volume, double protectedShare, long latencyMs, long jitterMs) {
+    this.vertx = vertx;
+    this.latencyMs = latencyMs;
+    this.jitterMs = jitterMs;
+    for (int i = 0; i < volume; i++) {
+      JsonObject organization = new JsonObject()
+        .put("id", uuid("organization-" + i))
+        .put("name", "Organization " + i)
+        .put("code", "ORG-" + i)
+        .put("status", "Active")
+        .put("isVendor", i % 2 == 0)
+        .put("acqUnitIds", i < volume * protectedShare ? new JsonArray().add(UNIT_ID) : new JsonArray());
+      indexById.put(organization.getString("id"), i);
+      organizations.add(organization);
+      encodedOrganizations.add(organization.toBuffer());
+    }
+    units = new JsonObject()
+      .put("acquisitionsUnits", new JsonArray().add(new JsonObject()
+        .put("id", UNIT_ID)
+        .put("name", "Load test unit")
+        .put("isDeleted", false)
+        .put("protectCreate", true)
+        .put("protectRead", true)
+        .put("protectUpdate", true)
+        .put("protectDelete", true)))
+      .put("totalRecords", 1)
+      .toBuffer();
+    memberships = new JsonObject()
+      .put("acquisitionsUnitMemberships", new JsonArray().add(new JsonObject()
+        .put("id", uuid("membership-0"))
+        .put("userId", USER_ID)
+        .put("acquisitionsUnitId", UNIT_ID)))
+      .put("totalRecords", 1)
+      .toBuffer();
+  }
+
+  public Future<HttpServer> start(int port) {
+    return vertx.createHttpServer()
+      .requestHandler(this::handle)
+      .listen(port);
+  }
+
+  public int size() {
+    return organizations.size();
+  }
+
+  public JsonObject organization(int index) {
+    return organizations.get(index).copy();
+  }
+
+  private void handle(HttpServerRequest request) {
+    String path = request.path();
+    if (path.startsWith(ORGANIZATIONS_PATH)) {
+      handleOrganizations(request, path.substring(ORGANIZATIONS_PATH.length()));
+    } else if (path.equals(UNITS_PATH)) {
+      respond(request, 200, units);
+    } else if (path.equals(MEMBERSHIPS_PATH)) {
+      respond(request, 200, memberships);
+    } else {
+      respond(request, 404, null);
+    }
+  }
+
+  private void handleOrganizations(HttpServerRequest request, String subPath) {
+    if (subPath.isEmpty()) {
+      if (request.method() == HttpMethod.POST) {
+        request.body().onSuccess(body -> respond(request, 201,
+          body.toJsonObject().put("id", UUID.randomUUID().toString()).toBuffer()));
+      } else {
+        respond(request, 200, page(intParam(request, "offset", 0), intParam(request, "limit", 10)));
+      }
+      return;
+    }
+    Integer index = indexById.get(subPath.substring(1));
+    if (index == null) {
+      respond(request, 404, null);
+    } else if (request.method() == HttpMethod.GET) {
+      respond(request, 200, encodedOrganizations.get(index));
+    } else {
+      request.body().onSuccess(body -> respond(request, 204, null));
+    }
+  }
+
+  private Buffer page(int offset, int limit) {
+    Buffer page = Buffer.buffer().appendString("{\"organizations\":[");
+    int end = (int) Math.min(encodedOrganizations.size(), (long) offset + limit);
+    for (int i = offset; i < end; i++) {
+      if (i > offset) {
+        page.appendString(",");
+      }
+      page.appendBuffer(encodedOrganizations.get(i));
+    }
+    return page.appendString("],\"totalRecords\":").appendString(String.valueOf(encodedOrganizations.size())).appendString("}");
+  }
+
+  private void respond(HttpServerRequest request, int status, Buffer body) {
+    long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+    if (delay == 0) {
+      send(request, status, body);
+    } else {
+      vertx.setTimer(delay, id -> send(request, status, body));
+    }
+  }
+
+  private static void send(HttpServerRequest request, int status, Buffer body) {
+    var response = request.response().setStatusCode(status);
+    if (body == null) {
+      response.end();
+    } else {
+      response.putHeader(HttpHeaders.CONTENT_TYPE, "application/json").end(body);
+    }
+  }
+
+  private static int intParam(HttpServerRequest request, String name, int defaultValue) {
+    String value = request.getParam(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  private static String uuid(String name) {
+    return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+}
@@ -1,33 +1,214 @@
 package org.folio.config;
 
+import org.folio.rest.client.DeadlinePolicy;
+import org.folio.rest.client.EventLoopWatchdog;
+import org.folio.rest.client.HedgePolicy;
 import org.folio.rest.client.RestClient;
+import org.folio.rest.client.RetryPolicy;
+import org.folio.rest.client.StorageCircuitBreakers;
+import org.folio.rest.client.StorageConcurrencyLimiter;
+import org.folio.rest.client.StoragePriorityLanes;
+import org.folio.service.admission.EventLoopLagMonitor;
+import org.folio.service.admission.LoadShedder;
+import org.folio.service.admission.ScheduledBankingInformationService;
+import org.folio.service.admission.ScheduledOrganizationService;
+import org.folio.service.admission.TenantScheduler;
 import org.folio.service.organization.BankingInformationService;
 import org.folio.service.organization.BankingInformationServiceImpl;
+import org.folio.service.organization.OrganizationChangeLog;
+import org.folio.service.organization.OrganizationDuplicateIndex;
+import org.folio.service.organization.OrganizationEventBroker;
+import org.folio.service.organization.OrganizationFacetIndex;
+import org.folio.service.organization.OrganizationIdBatchFetcher;
+import org.folio.service.organization.OrganizationQueryCache;
 import org.folio.service.organization.OrganizationService;
 import org.folio.service.organization.OrganizationStorageService;
+import org.folio.service.organization.OrganizationSuggestIndex;
+import org.folio.service.organization.TenantOrganizationIndex;
 import org.folio.service.protection.AcquisitionsUnitsService;
 import org.folio.service.protection.AcquisitionsUnitsServiceImpl;
 import org.folio.service.protection.ProtectionService;
 import org.folio.service.protection.ProtectionServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 @Configuration
 public class ApplicationConfig {
   @Bean
   public OrganizationService organizationService(ProtectionService protectionService, RestClient restClient,
-                                                 AcquisitionsUnitsService acquisitionUnitsService) {
-    return new OrganizationStorageService(protectionService, restClient, acquisitionUnitsService);
+                                                 AcquisitionsUnitsService acquisitionUnitsService, OrganizationQueryCache queryCache,
+                                                 OrganizationIdBatchFetcher idBatchFetcher, TenantOrganizationIndex organizationIndex,
+                                                 OrganizationSuggestIndex suggestIndex,
+                                                 OrganizationDuplicateIndex duplicateIndex, OrganizationFacetIndex facetIndex,
+                                                 OrganizationChangeLog changeLog, OrganizationEventBroker eventBroker,
+                                                 @Value("${organizations.duplicates.check-on-create:false}") boolean checkDuplicatesOnCreate,
+                                                 TenantScheduler tenantScheduler) {
+    return new ScheduledOrganizationService(new OrganizationStorageService(protectionService, restClient, acquisitionUnitsService,
+      queryCache, idBatchFetcher, organizationIndex, suggestIndex, duplicateIndex, facetIndex, changeLog, eventBroker,
+      // not the scheduled bean: the banking information is read within an organization operation already scheduled
+      new BankingInformationServiceImpl(restClient), checkDuplicatesOnCreate), tenantScheduler);
+  }
+
+  @Bean
+  public OrganizationChangeLog organizationChangeLog(@Value("${organizations.changes.max-tombstones-per-tenant:10000}") int maxTombstonesPerTenant) {
+    return new OrganizationChangeLog(maxTombstonesPerTenant);
+  }
+
+  @Bean
+  public OrganizationEventBroker organizationEventBroker(@Value("${organizations.events.enabled:true}") boolean enabled,
+                                                         @Value("${organizations.events.buffer-size:1000}") int bufferSize,
+                                                         @Value("${organizations.events.idle-timeout-ms:120000}") long idleTimeoutMs,
+                                                         MeterRegistry meterRegistry) {
+    return new OrganizationEventBroker(enabled, bufferSize, idleTimeoutMs, meterRegistry);
+  }
+
+  @Bean
+  public TenantOrganizationIndex tenantOrganizationIndex(@Value("${organizations.index.page-size:1000}") int pageSize,
+                                                         @Value("${organizations.index.max-age-ms:600000}") long maxAgeMs,
+                                                         RestClient restClient, MeterRegistry meterRegistry) {
+    return new TenantOrganizationIndex(pageSize, maxAgeMs, restClient, meterRegistry);
+  }
+
+  @Bean
+  public OrganizationDuplicateIndex organizationDuplicateIndex(@Value("${organizations.duplicates.enabled:false}") boolean enabled,
+                                                               @Value("${organizations.duplicates.min-score:0.6}") double minScore,
+                                                               TenantOrganizationIndex organizationIndex) {
+    return new OrganizationDuplicateIndex(enabled, minScore, organizationIndex);
+  }
+
+  @Bean
+  public OrganizationFacetIndex organizationFacetIndex(@Value("${organizations.facets.enabled:false}") boolean enabled,
+                                                       TenantOrganizationIndex organizationIndex) {
+    return new OrganizationFacetIndex(enabled, organizationIndex);
+  }
+
+  @Bean
+  public OrganizationSuggestIndex organizationSuggestIndex(@Value("${organizations.suggest.enabled:false}") boolean enabled,
+                                                           TenantOrganizationIndex organizationIndex) {
+    return new OrganizationSuggestIndex(enabled, organizationIndex);
+  }
+
+  @Bean
+  public OrganizationIdBatchFetcher organizationIdBatchFetcher(@Value("${organizations.id-batch.min-ids:50}") int minIds,
+                                                               @Value("${organizations.id-batch.chunk-size:50}") int chunkSize,
+                                                               @Value("${organizations.id-batch.max-chunks-in-flight:4}") int maxChunksInFlight,
+                                                               RestClient restClient) {
+    return new OrganizationIdBatchFetcher(minIds, chunkSize, maxChunksInFlight, restClient);
+  }
+
+  @Bean
+  public OrganizationQueryCache organizationQueryCache(@Value("${organizations.query-cache.enabled:false}") boolean enabled,
+                                                       @Value("${organizations.query-cache.ttl-ms:5000}") long ttlMs,
+                                                       @Value("${organizations.query-cache.max-payload-bytes:16777216}") long maxPayloadBytes,
+                                                       MeterRegistry meterRegistry) {
+    return new OrganizationQueryCache(enabled, ttlMs, maxPayloadBytes, meterRegistry);
+  }
+
+  @Bean
+  public BankingInformationService bankingInformationService(RestClient restClient, TenantScheduler tenantScheduler) {
+    return new ScheduledBankingInformationService(new BankingInformationServiceImpl(restClient), tenantScheduler);
+  }
+
+  @Bean
+  public TenantScheduler tenantScheduler(@Value("${tenant.scheduler.enabled:false}") boolean enabled,
+                                         @Value("${tenant.scheduler.max-in-flight:100}") int maxInFlight,
+                                         @Value("${tenant.scheduler.max-in-flight-per-tenant:20}") int maxInFlightPerTenant,
+                                         @Value("${tenant.scheduler.queue-size:200}") int maxQueueSizePerTenant,
+                                         @Value("${tenant.scheduler.queue-timeout-ms:5000}") long queueTimeoutMs,
+                                         MeterRegistry meterRegistry) {
+    return new TenantScheduler(enabled, maxInFlight, maxInFlightPerTenant, maxQueueSizePerTenant, queueTimeoutMs, meterRegistry);
+  }
+
+  @Bean
+  public RestClient restClient(RetryPolicy retryPolicy, HedgePolicy hedgePolicy, StorageCircuitBreakers circuitBreakers,
+                               StorageConcurrencyLimiter concurrencyLimiter, StoragePriorityLanes priorityLanes) {
+    return new RestClient(retryPolicy, hedgePolicy, circuitBreakers, concurrencyLimiter, priorityLanes);
+  }
+
+  @Bean
+  public RetryPolicy retryPolicy(@Value("${storage.retry.max-attempts:1}") int maxAttempts,
+                                 @Value("${storage.retry.base-delay-ms:50}") long baseDelayMs,
+                                 @Value("${storage.retry.max-delay-ms:1000}") long maxDelayMs,
+                                 @Value("${storage.retry.budget-ratio:0.1}") double budgetRatio,
+                                 @Value("${storage.retry.budget-min:10}") int budgetMin) {
+    return new RetryPolicy(maxAttempts, baseDelayMs, maxDelayMs, budgetRatio, budgetMin);
+  }
+
+  @Bean
+  public HedgePolicy hedgePolicy(@Value("${storage.hedge.enabled:false}") boolean enabled,
+                                 @Value("${storage.hedge.min-delay-ms:20}") long minDelayMs) {
+    return new HedgePolicy(enabled, minDelayMs);
+  }
+
+  @Bean
+  public StorageCircuitBreakers storageCircuitBreakers(@Value("${storage.circuit-breaker.enabled:false}") boolean enabled,
+                                                       @Value("${storage.circuit-breaker.max-failures:5}") int maxFailures,
+                                                       @Value("${storage.circuit-breaker.reset-timeout-ms:30000}") long resetTimeoutMs,
+                                                       @Value("${storage.circuit-breaker.timeout-ms:-1}") long timeoutMs,
+                                                       MeterRegistry meterRegistry) {
+    return new StorageCircuitBreakers(enabled, maxFailures, resetTimeoutMs, timeoutMs, meterRegistry);
+  }
+
+  @Bean
+  public StorageConcurrencyLimiter storageConcurrencyLimiter(@Value("${storage.concurrency.enabled:false}") boolean enabled,
+                                                             @Value("${storage.concurrency.initial-limit:20}") int initialLimit,
+                                                             @Value("${storage.concurrency.max-limit:200}") int maxLimit,
+                                                             @Value("${storage.concurrency.latency-threshold-ms:1000}") long latencyThresholdMs,
+                                                             @Value("${storage.concurrency.queue-size:100}") int maxQueueSize,
+                                                             @Value("${storage.concurrency.queue-timeout-ms:1000}") long queueTimeoutMs,
+                                                             MeterRegistry meterRegistry) {
+    return new StorageConcurrencyLimiter(enabled, initialLimit, maxLimit, latencyThresholdMs, maxQueueSize, queueTimeoutMs,
+      meterRegistry);
+  }
+
+  @Bean
+  public StoragePriorityLanes storagePriorityLanes(@Value("${storage.lanes.enabled:false}") boolean enabled,
+                                                   @Value("${storage.lanes.max-in-flight:64}") int maxInFlight,
+                                                   @Value("${storage.lanes.reserved-item:16}") int reservedItem,
+                                                   @Value("${storage.lanes.reserved-collection:8}") int reservedCollection,
+                                                   @Value("${storage.lanes.reserved-bulk:4}") int reservedBulk,
+                                                   @Value("${storage.lanes.queue-size:500}") int maxQueueSize,
+                                                   @Value("${storage.lanes.queue-timeout-ms:5000}") long queueTimeoutMs,
+                                                   MeterRegistry meterRegistry) {
+    return new StoragePriorityLanes(enabled, maxInFlight, reservedItem, reservedCollection, reservedBulk, maxQueueSize,
+      queueTimeoutMs, meterRegistry);
+  }
+
+  @Bean
+  public EventLoopLagMonitor eventLoopLagMonitor(@Value("${load-shedding.probe-interval-ms:100}") long intervalMs,
+                                                 @Value("${load-shedding.warm-up-ms:10000}") long warmUpMs,
+                                                 MeterRegistry meterRegistry) {
+    return new EventLoopLagMonitor(intervalMs, warmUpMs, meterRegistry);
+  }
+
+  @Bean
+  public LoadShedder loadShedder(@Value("${load-shedding.enabled:false}") boolean enabled,
+                                 @Value("${load-shedding.lag-threshold-ms:500}") long lagThresholdMs,
+                                 @Value("${load-shedding.retry-after-seconds:1}") long retryAfterSeconds,
+                                 EventLoopLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+    return new LoadShedder(enabled, lagThresholdMs, retryAfterSeconds, lagMonitor, meterRegistry);
+  }
+
+  @Bean
+  public EventLoopWatchdog eventLoopWatchdog(@Value("${event-loop.watchdog.enabled:false}") boolean enabled,
+                                             @Value("${event-loop.watchdog.threshold-ms:200}") long thresholdMs,
+                                             @Value("${event-loop.watchdog.stack-depth:20}") int stackDepth,
+                                             MeterRegistry meterRegistry) {
+    return new EventLoopWatchdog(enabled, thresholdMs, stackDepth, meterRegistry);
   }
 
   @Bean
-  public BankingInformationService bankingInformationService(RestClient restClient) {
-    return new BankingInformationServiceImpl(restClient);
+  public DeadlinePolicy deadlinePolicy(@Value("${request.timeout-ms:60000}") long timeoutMs) {
+    return new DeadlinePolicy(timeoutMs);
   }
 
   @Bean
-  public RestClient restClient() {
-    return new RestClient();
+  public MeterRegistry meterRegistry() {
+    return Metrics.globalRegistry;
   }
 
   @Bean
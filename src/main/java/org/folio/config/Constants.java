@@ -7,6 +7,7 @@ public class Constants {
 
   public static final String ID = "id";
   public static final String OKAPI_URL = "x-okapi-url";
+  public static final String OKAPI_REQUEST_TIMEOUT = "x-okapi-request-timeout";
 
   public static final String EMPTY_ARRAY = "[]";
 }
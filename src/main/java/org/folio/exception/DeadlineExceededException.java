@@ -0,0 +1,17 @@
+package org.folio.exception;
+
+import static javax.ws.rs.core.Response.Status.GATEWAY_TIMEOUT;
+import static org.folio.exception.ErrorCodes.REQUEST_DEADLINE_EXCEEDED;
+
+/**
+ * Thrown when the deadline of the incoming request has passed before a storage call could complete.
+ * Such failures are neither retried nor counted against the storage circuit breakers.
+ */
+public class DeadlineExceededException extends HttpException {
+
+  private static final long serialVersionUID = -3452013746591824213L;
+
+  public DeadlineExceededException() {
+    super(GATEWAY_TIMEOUT.getStatusCode(), REQUEST_DEADLINE_EXCEEDED);
+  }
+}
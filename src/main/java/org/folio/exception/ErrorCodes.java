@@ -6,8 +6,13 @@ public enum ErrorCodes {
 
   ACCOUNT_NUMBER_MUST_BE_UNIQUE("accountNumberMustBeUnique", "Account number must be unique for organization"),
   GENERIC_ERROR_CODE("genericError", "Generic error"),
+  INVALID_CHANGES_POSITION("invalidChangesPosition", "Changes since date or cursor is invalid"),
   MISMATCH_BETWEEN_ID_IN_PATH_AND_BODY("idMismatch", "Mismatch between id in path and request body"),
+  MODULE_OVERLOADED("moduleOverloaded", "Module is overloaded, please retry later"),
   ORGANIZATION_UNITS_NOT_FOUND("organizationAcqUnitsNotFound", "Acquisitions units assigned to organization cannot be found"),
+  REQUEST_DEADLINE_EXCEEDED("requestDeadlineExceeded", "Request deadline exceeded before storage modules responded"),
+  STORAGE_UNAVAILABLE("storageUnavailable", "Storage module is temporarily unavailable, please retry later"),
+  TENANT_REQUESTS_LIMIT_EXCEEDED("tenantRequestsLimitExceeded", "Too many concurrent requests of the tenant, please retry later"),
   USER_HAS_NO_ACQ_PERMISSIONS("userHasNoAcqUnitsPermission", "User does not have permissions to manage acquisition units assignments - operation is restricted"),
   USER_HAS_NO_PERMISSIONS("userHasNoPermission", "User does not have permissions - operation is restricted");
 
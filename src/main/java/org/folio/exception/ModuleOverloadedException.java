@@ -0,0 +1,24 @@
+package org.folio.exception;
+
+import static org.folio.exception.ErrorCodes.MODULE_OVERLOADED;
+
+import org.folio.HttpStatus;
+
+/**
+ * Thrown when a request is shed because the module is overloaded. The response tells the client when to retry.
+ */
+public class ModuleOverloadedException extends HttpException {
+
+  private static final long serialVersionUID = 5120418838671502817L;
+
+  private final long retryAfterSeconds;
+
+  public ModuleOverloadedException(long retryAfterSeconds) {
+    super(HttpStatus.HTTP_UNAVAILABLE.toInt(), MODULE_OVERLOADED);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
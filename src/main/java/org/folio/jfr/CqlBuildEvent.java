@@ -0,0 +1,47 @@
+package org.folio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.organizations.CqlBuild")
+@Label("CQL Build")
+@Description("CQL query combined from several expressions")
+@Category({"FOLIO", "mod-organizations"})
+@StackTrace(false)
+public class CqlBuildEvent extends Event {
+
+  @Label("Operator")
+  String operator;
+
+  @Label("Expression Count")
+  int expressionCount;
+
+  @Label("Sorted")
+  boolean sorted;
+
+  @Label("Query Length")
+  int queryLength;
+
+  /**
+   * Ends the event and commits it if the event is enabled and passes the configured threshold.
+   *
+   * @param operator        boolean operator the expressions are combined with
+   * @param expressionCount number of the combined expressions
+   * @param sorted          whether sorting was moved to the end of the query
+   * @param query           resulting query
+   */
+  public void commit(String operator, int expressionCount, boolean sorted, String query) {
+    end();
+    if (shouldCommit()) {
+      this.operator = operator;
+      this.expressionCount = expressionCount;
+      this.sorted = sorted;
+      this.queryLength = query.length();
+      commit();
+    }
+  }
+}
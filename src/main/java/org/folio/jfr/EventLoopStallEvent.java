@@ -0,0 +1,44 @@
+package org.folio.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.folio.organizations.EventLoopStall")
+@Label("Event Loop Stall")
+@Description("Section of a request handler that held the event loop longer than the watchdog threshold")
+@Category({"FOLIO", "mod-organizations"})
+@StackTrace(false)
+public class EventLoopStallEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Blocked Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long blockedTime;
+
+  /**
+   * Commits the event if it is enabled. The event is created only after the section has ended,
+   * so the time the event loop was blocked is recorded as a field rather than as the event duration.
+   *
+   * @param operation   API handler the section belongs to
+   * @param phase       processing phase of the section
+   * @param blockedTime time the section held the event loop in nanoseconds
+   */
+  public void commit(String operation, String phase, long blockedTime) {
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.phase = phase;
+      this.blockedTime = blockedTime;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.folio.jfr;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.folio.exception.HttpException;
+import org.folio.service.protection.ProtectedOperationType;
+
+import io.vertx.core.AsyncResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.organizations.OperationRestrictions")
+@Label("Operation Restrictions Check")
+@Description("Decision made by acquisitions units protection for the requested operations")
+@Category({"FOLIO", "mod-organizations"})
+@StackTrace(false)
+public class OperationRestrictionsEvent extends Event {
+
+  public static final String ALLOWED = "allowed";
+  public static final String ERROR = "error";
+
+  @Label("Unit Count")
+  int unitCount;
+
+  @Label("Operations")
+  String operations;
+
+  @Label("Outcome")
+  @Description("'allowed', HTTP status code the operation was rejected with or 'error'")
+  String outcome;
+
+  /**
+   * Ends the event and commits it if the event is enabled and passes the configured threshold.
+   *
+   * @param unitIds    acquisitions units assigned to the record
+   * @param operations checked operations
+   * @param result     result of the check
+   */
+  public void commit(Collection<String> unitIds, Set<ProtectedOperationType> operations, AsyncResult<Void> result) {
+    end();
+    if (shouldCommit()) {
+      this.unitCount = unitIds == null ? 0 : unitIds.size();
+      this.operations = operations.toString();
+      if (result.succeeded()) {
+        this.outcome = ALLOWED;
+      } else if (result.cause() instanceof HttpException httpException) {
+        this.outcome = String.valueOf(httpException.getCode());
+      } else {
+        this.outcome = ERROR;
+      }
+      commit();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.jfr;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.client.HttpResponse;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.organizations.RestClientRequest")
+@Label("Storage Request")
+@Description("Request sent by RestClient to a storage module")
+@Category({"FOLIO", "mod-organizations"})
+@StackTrace(false)
+public class RestClientRequestEvent extends Event {
+
+  @Label("Method")
+  String method;
+
+  @Label("Endpoint")
+  String endpoint;
+
+  @Label("Status")
+  @Description("Response status code, 0 if no response was received")
+  int status;
+
+  @Label("Response Size")
+  @DataAmount
+  long bytes;
+
+  /**
+   * Ends the event and commits it if the event is enabled and passes the configured threshold.
+   *
+   * @param method   HTTP method
+   * @param endpoint storage endpoint
+   * @param result   result of the request
+   */
+  public void commit(HttpMethod method, String endpoint, AsyncResult<HttpResponse<Buffer>> result) {
+    end();
+    if (shouldCommit()) {
+      this.method = method.name();
+      this.endpoint = endpoint;
+      if (result.succeeded()) {
+        HttpResponse<Buffer> response = result.result();
+        this.status = response.statusCode();
+        this.bytes = response.body() == null ? 0 : response.body().length();
+      }
+      commit();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.rest.client;
+
+import static org.folio.config.Constants.OKAPI_REQUEST_TIMEOUT;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sets the deadline of an incoming request. The timeout is taken from the {@code X-Okapi-Request-Timeout} header
+ * in milliseconds, capped by the configured timeout, or the configured timeout when the header is absent.
+ * <p>
+ * Storage calls get the time left until the deadline as their timeout and are not sent once it has passed,
+ * so that the remaining steps of a request nobody waits for anymore are skipped.
+ */
+@Log4j2
+public class DeadlinePolicy {
+
+  private final long timeoutMs;
+
+  /**
+   * @param timeoutMs request timeout, zero or less means no deadline unless the client sends one
+   */
+  public DeadlinePolicy(long timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+
+  public void apply(RequestContext requestContext) {
+    long timeout = getTimeoutMs(requestContext.getHeaders());
+    if (timeout > 0) {
+      requestContext.withDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    }
+  }
+
+  long getTimeoutMs(Map<String, String> headers) {
+    long requested = parseTimeout(headers);
+    if (requested <= 0) {
+      return timeoutMs;
+    }
+    return timeoutMs > 0 ? Math.min(requested, timeoutMs) : requested;
+  }
+
+  private static long parseTimeout(Map<String, String> headers) {
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (OKAPI_REQUEST_TIMEOUT.equalsIgnoreCase(header.getKey())) {
+        try {
+          return Long.parseLong(header.getValue().trim());
+        } catch (NumberFormatException e) {
+          log.warn("parseTimeout:: Ignoring invalid request timeout '{}'", header.getValue());
+        }
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,191 @@
+package org.folio.rest.client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.folio.jfr.EventLoopStallEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Context;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Attributes event loop stalls to the API handler and the processing phase that caused them.
+ * <p>
+ * Synchronous sections of request handling (building CQL, encoding storage requests, decoding storage responses) are
+ * entered with {@link #enter(String, String)}, which marks the event loop thread as busy with the given operation and
+ * phase until the returned section is closed. A daemon thread checks the marks periodically and, when a section has
+ * been running longer than the threshold, logs the operation, the phase and the top frames of the event loop stack
+ * while it is still blocked. When such a section ends, its duration is recorded as a timer tagged with the operation
+ * and the phase and as an {@link EventLoopStallEvent}.
+ */
+@Log4j2
+public class EventLoopWatchdog {
+
+  public static final String STALL_METRIC = "vertx.eventloop.stall";
+  public static final String OPERATION_TAG = "operation";
+  public static final String PHASE_TAG = "phase";
+
+  public static final String CQL_PHASE = "cql";
+  public static final String STORAGE_REQUEST_PHASE = "storage-request";
+  public static final String STORAGE_RESPONSE_PHASE = "storage-response";
+  public static final String INDEX_LOAD_PHASE = "index-load";
+  public static final String INDEX_SCAN_PHASE = "index-scan";
+  public static final String DUPLICATE_SCORE_PHASE = "duplicate-score";
+  public static final String FACET_COUNT_PHASE = "facet-count";
+  public static final String JSON_PROJECTION_PHASE = "json-projection";
+
+  private static final long MIN_CHECK_INTERVAL_MS = 10;
+  private static final Section NOOP = () -> { };
+
+  private final boolean enabled;
+  private final long thresholdNanos;
+  private final int stackDepth;
+  private final MeterRegistry meterRegistry;
+  private final Map<Thread, Mark> marks = new ConcurrentHashMap<>();
+  private final ThreadLocal<Mark> currentMark = ThreadLocal.withInitial(this::register);
+  private final ScheduledExecutorService checker;
+
+  /**
+   * @param enabled       whether event loop sections are watched
+   * @param thresholdMs   time a section can hold the event loop before it counts as a stall
+   * @param stackDepth    number of stack frames logged for a stall
+   * @param meterRegistry registry of the stall timers
+   */
+  public EventLoopWatchdog(boolean enabled, long thresholdMs, int stackDepth, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, thresholdMs));
+    this.stackDepth = Math.max(1, stackDepth);
+    this.meterRegistry = meterRegistry;
+    if (enabled) {
+      long intervalMs = Math.max(MIN_CHECK_INTERVAL_MS, thresholdMs / 2);
+      checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-loop-watchdog");
+        thread.setDaemon(true);
+        return thread;
+      });
+      checker.scheduleWithFixedDelay(this::check, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    } else {
+      checker = null;
+    }
+  }
+
+  /**
+   * Marks the calling event loop thread as busy with the phase of the operation. Sections can be nested, closing
+   * the inner section restores the outer one. Outside of an event loop thread the call does nothing.
+   *
+   * @param operation API handler the section belongs to
+   * @param phase     processing phase of the section
+   * @return section to close when the phase is done
+   */
+  public Section enter(String operation, String phase) {
+    if (!enabled || !Context.isOnEventLoopThread()) {
+      return NOOP;
+    }
+    return currentMark.get().enter(operation, phase);
+  }
+
+  public void close() {
+    if (checker != null) {
+      checker.shutdownNow();
+    }
+  }
+
+  private Mark register() {
+    Mark mark = new Mark(Thread.currentThread());
+    marks.put(mark.thread, mark);
+    return mark;
+  }
+
+  private void check() {
+    long now = System.nanoTime();
+    marks.values().forEach(mark -> {
+      long start = mark.startNanos;
+      if (start != 0 && start != mark.reportedStartNanos && now - start > thresholdNanos) {
+        mark.reportedStartNanos = start;
+        report(mark, start, TimeUnit.NANOSECONDS.toMillis(now - start));
+      }
+    });
+  }
+
+  private void report(Mark mark, long start, long blockedMs) {
+    String operation = mark.operation;
+    String phase = mark.phase;
+    if (mark.startNanos != start) {
+      return;
+    }
+    String stack = Arrays.stream(mark.thread.getStackTrace())
+      .limit(stackDepth)
+      .map(frame -> "\tat " + frame)
+      .collect(Collectors.joining(System.lineSeparator()));
+    log.warn("check:: Event loop '{}' blocked for {} ms by '{}' in '{}' phase{}{}", mark.thread.getName(), blockedMs,
+      operation, phase, System.lineSeparator(), stack);
+  }
+
+  private void record(String operation, String phase, long blockedNanos) {
+    Timer.builder(STALL_METRIC)
+      .description("Sections of request handlers that held the event loop longer than the threshold")
+      .tag(OPERATION_TAG, operation)
+      .tag(PHASE_TAG, phase)
+      .register(meterRegistry)
+      .record(blockedNanos, TimeUnit.NANOSECONDS);
+    new EventLoopStallEvent().commit(operation, phase, blockedNanos);
+  }
+
+  /**
+   * Section of request handling running on the event loop.
+   */
+  @FunctionalInterface
+  public interface Section extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  /**
+   * What an event loop thread is busy with. Written only by the event loop thread itself and read by the checker.
+   */
+  private final class Mark {
+
+    private final Thread thread;
+    private volatile String operation;
+    private volatile String phase;
+    private volatile long startNanos;
+    private volatile long reportedStartNanos;
+
+    private Mark(Thread thread) {
+      this.thread = thread;
+    }
+
+    private Section enter(String operation, String phase) {
+      String outerOperation = this.operation;
+      String outerPhase = this.phase;
+      long outerStartNanos = this.startNanos;
+      long start = System.nanoTime();
+      update(operation, phase, start);
+      return () -> {
+        long blockedNanos = System.nanoTime() - start;
+        update(outerOperation, outerPhase, outerStartNanos);
+        if (blockedNanos > thresholdNanos) {
+          record(operation, phase, blockedNanos);
+        }
+      };
+    }
+
+    /**
+     * Clears the start first, so that the checker never sees the start of one section with the phase of another.
+     */
+    private void update(String operation, String phase, long startNanos) {
+      this.startNanos = 0;
+      this.operation = operation;
+      this.phase = phase;
+      this.startNanos = startNanos;
+    }
+  }
+}
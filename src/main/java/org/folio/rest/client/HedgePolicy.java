@@ -0,0 +1,116 @@
+package org.folio.rest.client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends a second, hedged request when the first one takes longer than the p95 latency of the resource and completes
+ * with whichever answers first. The hedge is sent only for resources with enough latency samples, and never earlier
+ * than the min delay. The slower response is ignored.
+ * <p>
+ * Only idempotent requests may be hedged.
+ */
+@Log4j2
+public class HedgePolicy {
+
+  static final int MIN_SAMPLES = 20;
+
+  private final boolean enabled;
+  private final long minDelayMs;
+  private final Map<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+
+  public HedgePolicy(boolean enabled, long minDelayMs) {
+    this.enabled = enabled;
+    this.minDelayMs = minDelayMs;
+  }
+
+  public <T> Future<T> execute(Vertx vertx, String resource, Supplier<Future<T>> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    LatencyTracker tracker = trackers.computeIfAbsent(resource, k -> new LatencyTracker());
+    long delay = tracker.hedgeDelay(minDelayMs);
+    Future<T> primary = track(tracker, action);
+    if (delay < 0) {
+      return primary;
+    }
+    Hedge<T> hedge = new Hedge<>();
+    long timerId = vertx.setTimer(delay, id -> {
+      if (hedge.startHedge()) {
+        log.debug("execute:: No response from '{}' in {} ms, sending hedged request", resource, delay);
+        track(tracker, action).onComplete(hedge::complete);
+      }
+    });
+    primary.onComplete(ar -> {
+      vertx.cancelTimer(timerId);
+      hedge.complete(ar);
+    });
+    return hedge.result.future();
+  }
+
+  private static <T> Future<T> track(LatencyTracker tracker, Supplier<Future<T>> action) {
+    long start = System.nanoTime();
+    return action.get()
+      .onSuccess(result -> tracker.record(System.nanoTime() - start));
+  }
+
+  private static class Hedge<T> {
+    private final Promise<T> result = Promise.promise();
+    private int pending = 1;
+
+    synchronized boolean startHedge() {
+      if (result.future().isComplete()) {
+        return false;
+      }
+      pending++;
+      return true;
+    }
+
+    synchronized void complete(AsyncResult<T> ar) {
+      pending--;
+      if (ar.succeeded()) {
+        result.tryComplete(ar.result());
+      } else if (pending == 0) {
+        result.tryFail(ar.cause());
+      }
+    }
+  }
+
+  /**
+   * Keeps latencies of the last successful requests and recalculates the p95 every few samples.
+   */
+  static class LatencyTracker {
+    private static final int WINDOW = 128;
+    private static final int RECALCULATION_INTERVAL = 16;
+
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private long p95 = -1;
+
+    synchronized void record(long nanos) {
+      samples[count % WINDOW] = nanos;
+      count++;
+      if (count >= MIN_SAMPLES && (p95 < 0 || count % RECALCULATION_INTERVAL == 0)) {
+        long[] sorted = Arrays.copyOf(samples, Math.min(count, WINDOW));
+        Arrays.sort(sorted);
+        p95 = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+      }
+    }
+
+    /**
+     * @return delay before sending a hedged request in milliseconds or -1 if there are not enough samples yet
+     */
+    synchronized long hedgeDelay(long minDelayMs) {
+      return p95 < 0 ? -1 : Math.max(minDelayMs, TimeUnit.NANOSECONDS.toMillis(p95));
+    }
+  }
+}
@@ -1,17 +1,68 @@
 package org.folio.rest.client;
 
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
+import static org.folio.rest.RestVerticle.OKAPI_REQUESTID_HEADER;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import io.opentelemetry.api.trace.Span;
 import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 
 public class RequestContext {
+  private static final List<String> OUTBOUND_HEADERS = List.of(OKAPI_HEADER_TENANT, OKAPI_HEADER_TOKEN, OKAPI_USERID_HEADER,
+    OKAPI_REQUESTID_HEADER, OKAPI_URL);
+  private static final String ACCEPT_VALUE = APPLICATION_JSON + ", " + TEXT_PLAIN;
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+  private static final String UNKNOWN_OPERATION = "unknown";
+
   private Context context;
   private Map<String, String> headers;
+  private MultiMap outboundHeaders;
+  private final ServerTiming serverTiming;
+  private Span span = Span.getInvalid();
+  private long deadlineNanos = NO_DEADLINE;
+  private RequestPriority priority = RequestPriority.ITEM;
+  private String operation = UNKNOWN_OPERATION;
+  private EventLoopWatchdog watchdog;
 
   public RequestContext(Context context, Map<String, String> headers) {
     this.context = context;
-    this.headers = headers;
+    withHeaders(headers);
+    this.serverTiming = ServerTiming.fromHeaders(headers);
+  }
+
+  private RequestContext(RequestContext parent, Span span) {
+    this.context = parent.context;
+    this.headers = parent.headers;
+    this.outboundHeaders = parent.outboundHeaders;
+    this.serverTiming = parent.serverTiming;
+    this.span = span;
+    this.deadlineNanos = parent.deadlineNanos;
+    this.priority = parent.priority;
+    this.operation = parent.operation;
+    this.watchdog = parent.watchdog;
+  }
+
+  /**
+   * Creates a context of the same request for a step traced with its own span, so the storage calls made with it are
+   * children of the step span rather than of the handler span. Settings changed on either context afterwards are not
+   * shared.
+   *
+   * @param span span of the step
+   * @return request context of the step
+   */
+  public RequestContext forSpan(Span span) {
+    return new RequestContext(this, span);
   }
 
   public void withContext(Context context) {
@@ -19,7 +70,36 @@ public class RequestContext {
   }
 
   public void withHeaders(Map<String, String> headers) {
-    this.headers = headers;
+    this.headers = headers == null ? Collections.emptyMap() : Collections.unmodifiableMap(headers);
+    this.outboundHeaders = null;
+  }
+
+  public void withSpan(Span span) {
+    this.span = span;
+  }
+
+  /**
+   * Sets the time by which the request must be completed.
+   *
+   * @param deadlineNanos deadline as a {@link System#nanoTime()} value
+   */
+  public void withDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  public void withPriority(RequestPriority priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * Sets the API handler the request is made for and the watchdog its event loop sections are reported to.
+   *
+   * @param operation name of the API handler
+   * @param watchdog  event loop watchdog
+   */
+  public void withOperation(String operation, EventLoopWatchdog watchdog) {
+    this.operation = operation;
+    this.watchdog = watchdog;
   }
 
   public Context getContext() {
@@ -27,6 +107,83 @@ public class RequestContext {
   }
 
   public Map<String, String> getHeaders() {
-    return Collections.unmodifiableMap(headers);
+    return headers;
+  }
+
+  /**
+   * Headers sent with every storage request: tenant, token, user id, request id, OKAPI URL and the default Accept header.
+   * They are built on first use and shared by all outbound calls of the request, so they must not be modified.
+   *
+   * @return outbound headers
+   */
+  public MultiMap getOutboundHeaders() {
+    if (outboundHeaders == null) {
+      outboundHeaders = buildOutboundHeaders(headers);
+    }
+    return outboundHeaders;
+  }
+
+  public String getOkapiUrl() {
+    return getOutboundHeaders().get(OKAPI_URL);
+  }
+
+  public ServerTiming getServerTiming() {
+    return serverTiming;
+  }
+
+  public Span getSpan() {
+    return span;
+  }
+
+  public RequestPriority getPriority() {
+    return priority;
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * Marks the event loop as busy with the phase of this request until the returned section is closed,
+   * see {@link EventLoopWatchdog#enter(String, String)}.
+   *
+   * @param phase processing phase
+   * @return section to close when the phase is done
+   */
+  public EventLoopWatchdog.Section enterPhase(String phase) {
+    return watchdog == null ? () -> { } : watchdog.enter(operation, phase);
+  }
+
+  public boolean hasDeadline() {
+    return deadlineNanos != NO_DEADLINE;
+  }
+
+  /**
+   * @return milliseconds left until the deadline rounded up, so at least one until it has passed and zero or less after,
+   * {@link Long#MAX_VALUE} without a deadline
+   */
+  public long getRemainingMillis() {
+    if (!hasDeadline()) {
+      return Long.MAX_VALUE;
+    }
+    long remainingNanos = deadlineNanos - System.nanoTime();
+    return remainingNanos <= 0 ? TimeUnit.NANOSECONDS.toMillis(remainingNanos) : TimeUnit.NANOSECONDS.toMillis(remainingNanos - 1) + 1;
+  }
+
+  public boolean isExpired() {
+    return hasDeadline() && deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  private static MultiMap buildOutboundHeaders(Map<String, String> headers) {
+    MultiMap outbound = HttpHeaders.headers();
+    headers.forEach((name, value) -> {
+      for (String outboundName : OUTBOUND_HEADERS) {
+        if (outboundName.equalsIgnoreCase(name)) {
+          outbound.set(outboundName, value);
+          break;
+        }
+      }
+    });
+    return outbound.set(HttpHeaders.ACCEPT, ACCEPT_VALUE);
   }
 }
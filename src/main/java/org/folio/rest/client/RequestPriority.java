@@ -0,0 +1,34 @@
+package org.folio.rest.client;
+
+/**
+ * Priority lane of a request, from the most to the least urgent.
+ */
+public enum RequestPriority {
+
+  /**
+   * Single record reads and writes, typically made by the UI.
+   */
+  ITEM,
+  /**
+   * Collection queries with a page size used for browsing.
+   */
+  COLLECTION,
+  /**
+   * Collection queries with a large page size, e.g. exports and batch jobs.
+   */
+  BULK;
+
+  static final int BULK_LIMIT_THRESHOLD = 500;
+
+  /**
+   * @param limit page size of the collection query
+   * @return priority of a collection query
+   */
+  public static RequestPriority ofCollection(int limit) {
+    return limit > BULK_LIMIT_THRESHOLD ? BULK : COLLECTION;
+  }
+
+  public String getLaneName() {
+    return name().toLowerCase();
+  }
+}
@@ -1,22 +1,32 @@
 package org.folio.rest.client;
 
 import static javax.ws.rs.core.HttpHeaders.LOCATION;
-import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
-import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
-import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.client.EventLoopWatchdog.STORAGE_REQUEST_PHASE;
+import static org.folio.rest.client.EventLoopWatchdog.STORAGE_RESPONSE_PHASE;
+import static org.folio.util.ResourcePathResolver.resourceByPath;
 import static org.folio.util.RestUtils.ID;
+import static org.folio.util.TracingUtils.endSpan;
+import static org.folio.util.TracingUtils.setStatusCode;
+import static org.folio.util.TracingUtils.startClientSpan;
 
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.folio.exception.DeadlineExceededException;
 import org.folio.exception.HttpException;
+import org.folio.jfr.RestClientRequestEvent;
 import org.folio.okapi.common.WebClientFactory;
 
+import io.opentelemetry.api.trace.Span;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
-import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpResponseExpectation;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -25,6 +35,21 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class RestClient {
 
+  private final RetryPolicy retryPolicy;
+  private final HedgePolicy hedgePolicy;
+  private final StorageCircuitBreakers circuitBreakers;
+  private final StorageConcurrencyLimiter concurrencyLimiter;
+  private final StoragePriorityLanes priorityLanes;
+
+  public RestClient(RetryPolicy retryPolicy, HedgePolicy hedgePolicy, StorageCircuitBreakers circuitBreakers,
+                    StorageConcurrencyLimiter concurrencyLimiter, StoragePriorityLanes priorityLanes) {
+    this.retryPolicy = retryPolicy;
+    this.hedgePolicy = hedgePolicy;
+    this.circuitBreakers = circuitBreakers;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.priorityLanes = priorityLanes;
+  }
+
   /**
    * A common method to create a new entry in the storage based on the Json Object.
    *
@@ -33,12 +58,8 @@ public class RestClient {
    */
   public <T> Future<T> post(T recordData, String endpoint, Class<T> responseType,
                             RequestContext requestContext) {
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext())
-      .postAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint)).putHeaders(caseInsensitiveHeader)
-      .sendJson(recordData)
-      .compose(RestClient::convertHttpResponse)
-      .map(bufferHttpResponse -> {
+    return execute(HttpMethod.POST, endpoint, requestContext, request -> request.sendJson(recordData),
+      bufferHttpResponse -> {
         var id = verifyAndExtractRecordId(bufferHttpResponse);
         return bufferHttpResponse.bodyAsJsonObject()
           .put(ID, id)
@@ -53,14 +74,8 @@ public class RestClient {
    * @return future jsonObject of created entity Record or an exception if failed
    */
   public <T> Future<T> get(String endpoint, Class<T> responseType, RequestContext requestContext) {
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext())
-      .getAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .send()
-      .compose(RestClient::convertHttpResponse)
-      .map(HttpResponse::bodyAsJsonObject)
-      .map(jsonObject -> jsonObject.mapTo(responseType));
+    return execute(HttpMethod.GET, endpoint, requestContext, HttpRequest::send,
+      response -> response.bodyAsJsonObject().mapTo(responseType));
   }
 
   /**
@@ -70,13 +85,8 @@ public class RestClient {
    * @param endpoint   endpoint
    */
   public <T> Future<Void> put(String endpoint, T dataObject, RequestContext requestContext) {
-    var recordData = JsonObject.mapFrom(dataObject);
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext())
-      .putAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .sendJson(recordData)
-      .compose(RestClient::convertHttpResponse)
+    return execute(HttpMethod.PUT, endpoint, requestContext, request -> request.sendJson(JsonObject.mapFrom(dataObject)),
+        response -> response)
       .onFailure(log::error)
       .mapEmpty();
   }
@@ -87,16 +97,59 @@ public class RestClient {
    * @param endpoint endpoint
    */
   public Future<Void> delete(String endpoint, RequestContext requestContext) {
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext())
-      .deleteAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .send()
-      .compose(RestClient::convertHttpResponse)
+    return execute(HttpMethod.DELETE, endpoint, requestContext, HttpRequest::send, response -> response)
       .onFailure(t -> log.error("Object cannot be deleted with using endpoint: {}", endpoint, t))
       .mapEmpty();
   }
 
+  private <T> Future<T> execute(HttpMethod method, String endpoint, RequestContext requestContext,
+                                Function<HttpRequest<Buffer>, Future<HttpResponse<Buffer>>> sender,
+                                Function<HttpResponse<Buffer>, T> mapper) {
+    Vertx vertx = requestContext.getContext().owner();
+    String resource = Objects.requireNonNullElseGet(resourceByPath(endpoint), () -> endpoint.split("\\?", 2)[0]);
+    Supplier<Future<HttpResponse<Buffer>>> request = () -> send(method, endpoint, requestContext, sender);
+    if (method == HttpMethod.GET) {
+      Supplier<Future<HttpResponse<Buffer>>> single = request;
+      request = () -> retryPolicy.execute(vertx, () -> hedgePolicy.execute(vertx, resource, single));
+    }
+    Supplier<Future<HttpResponse<Buffer>>> guarded = request;
+    return priorityLanes.execute(vertx, requestContext.getPriority(),
+        () -> concurrencyLimiter.execute(vertx, resource, () -> circuitBreakers.execute(vertx, resource, guarded)))
+      .map(response -> {
+        try (var section = requestContext.enterPhase(STORAGE_RESPONSE_PHASE)) {
+          return mapper.apply(response);
+        }
+      });
+  }
+
+  private Future<HttpResponse<Buffer>> send(HttpMethod method, String endpoint, RequestContext requestContext,
+                                            Function<HttpRequest<Buffer>, Future<HttpResponse<Buffer>>> sender) {
+    if (requestContext.isExpired()) {
+      log.warn("send:: Request deadline exceeded, skipping {} {}", method, endpoint);
+      return Future.failedFuture(new DeadlineExceededException());
+    }
+    var event = new RestClientRequestEvent();
+    event.begin();
+    var request = getVertxWebClient(requestContext.getContext())
+      .requestAbs(method, requestContext.getOkapiUrl() + endpoint)
+      .putHeaders(requestContext.getOutboundHeaders());
+    if (requestContext.hasDeadline()) {
+      // a zero timeout means none, so a deadline passing since the check above still bounds the request
+      request.timeout(Math.max(1, requestContext.getRemainingMillis()));
+    }
+    Span span = startClientSpan(method, endpoint, requestContext, request.headers());
+    Future<HttpResponse<Buffer>> sent;
+    try (var section = requestContext.enterPhase(STORAGE_REQUEST_PHASE)) {
+      sent = sender.apply(request);
+    }
+    return sent
+      .onComplete(ar -> event.commit(method, endpoint, ar))
+      .recover(t -> Future.failedFuture(requestContext.isExpired() ? new DeadlineExceededException() : t))
+      .onSuccess(response -> setStatusCode(span, response.statusCode()))
+      .compose(RestClient::convertHttpResponse)
+      .onComplete(ar -> endSpan(span, ar));
+  }
+
   private static <T> Future<HttpResponse<T>> convertHttpResponse(HttpResponse<T> response) {
     return HttpResponseExpectation.SC_SUCCESS.test(response)
       ? Future.succeededFuture(response)
@@ -115,13 +168,6 @@ public class RestClient {
     return id;
   }
 
-  private static MultiMap convertToCaseInsensitiveMap(Map<String, String> okapiHeaders) {
-    return MultiMap.caseInsensitiveMultiMap()
-      .addAll(okapiHeaders)
-      // set default Accept header
-      .add("Accept", APPLICATION_JSON + ", " + TEXT_PLAIN);
-  }
-
   private static WebClient getVertxWebClient(Context context) {
     WebClientOptions options = new WebClientOptions();
     options.setLogActivity(true);
@@ -132,9 +178,4 @@ public class RestClient {
     return WebClientFactory.getWebClient(context.owner(), options);
   }
 
-  private static String buildAbsEndpoint(MultiMap okapiHeaders, String endpoint) {
-    var okapiURL = okapiHeaders.get(OKAPI_URL);
-    return okapiURL + endpoint;
-  }
-
 }
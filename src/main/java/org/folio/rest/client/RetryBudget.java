@@ -0,0 +1,40 @@
+package org.folio.rest.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting retries to a share of requests: every request deposits {@code ratio} of a token and every retry
+ * takes a whole one. The balance starts full and is capped at {@code min} tokens, so that at most {@code min} retries
+ * can happen in a burst and only {@code ratio} retries per request are allowed in the long run.
+ */
+public class RetryBudget {
+
+  private static final long TOKEN = 1000;
+
+  private final long deposit;
+  private final long capacity;
+  private final AtomicLong balance;
+
+  public RetryBudget(double ratio, int min) {
+    this.deposit = (long) (Math.max(0, ratio) * TOKEN);
+    this.capacity = Math.max(1, min) * TOKEN;
+    this.balance = new AtomicLong(capacity);
+  }
+
+  public void onRequest() {
+    if (deposit > 0) {
+      balance.accumulateAndGet(deposit, (current, added) -> Math.min(capacity, current + added));
+    }
+  }
+
+  public boolean tryAcquire() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < TOKEN) {
+        return false;
+      }
+    } while (!balance.compareAndSet(current, current - TOKEN));
+    return true;
+  }
+}
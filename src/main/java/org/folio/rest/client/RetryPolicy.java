@@ -0,0 +1,86 @@
+package org.folio.rest.client;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.folio.exception.DeadlineExceededException;
+import org.folio.exception.HttpException;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Retries idempotent storage requests failed with a transport error or a 502, 503 or 504 response.
+ * <p>
+ * Delays between attempts grow exponentially from the base delay and are fully jittered, i.e. a random value between
+ * zero and the exponential delay capped by the max delay is used. Retries are limited by a {@link RetryBudget} shared
+ * by all requests, so that a failing storage does not get multiplied load.
+ * Requests past their deadline are not retried.
+ */
+@Log4j2
+public class RetryPolicy {
+
+  private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(502, 503, 504);
+  private static final int MAX_BACKOFF_SHIFT = 20;
+
+  private final int maxAttempts;
+  private final long baseDelayMs;
+  private final long maxDelayMs;
+  private final RetryBudget budget;
+
+  /**
+   * @param maxAttempts  max number of attempts including the first one, 1 disables retries
+   * @param baseDelayMs  delay cap before the first retry
+   * @param maxDelayMs   max delay cap
+   * @param budgetRatio  share of requests that can be retried
+   * @param budgetMin    number of retries allowed regardless of the ratio
+   */
+  public RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs, double budgetRatio, int budgetMin) {
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.baseDelayMs = baseDelayMs;
+    this.maxDelayMs = maxDelayMs;
+    this.budget = new RetryBudget(budgetRatio, budgetMin);
+  }
+
+  public boolean isEnabled() {
+    return maxAttempts > 1;
+  }
+
+  public <T> Future<T> execute(Vertx vertx, Supplier<Future<T>> action) {
+    if (!isEnabled()) {
+      return action.get();
+    }
+    budget.onRequest();
+    return execute(vertx, action, 1);
+  }
+
+  private <T> Future<T> execute(Vertx vertx, Supplier<Future<T>> action, int attempt) {
+    return action.get()
+      .recover(t -> {
+        if (attempt >= maxAttempts || !isRetryable(t) || !budget.tryAcquire()) {
+          return Future.failedFuture(t);
+        }
+        long delay = backoff(attempt);
+        log.warn("execute:: Attempt {} failed, retrying in {} ms: {}", attempt, delay, t.getMessage());
+        return vertx.timer(Math.max(1, delay))
+          .compose(v -> execute(vertx, action, attempt + 1));
+      });
+  }
+
+  long backoff(int attempt) {
+    long cap = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  static boolean isRetryable(Throwable t) {
+    if (t instanceof DeadlineExceededException) {
+      return false;
+    }
+    if (t instanceof HttpException httpException) {
+      return RETRYABLE_STATUS_CODES.contains(httpException.getCode());
+    }
+    return true;
+  }
+}
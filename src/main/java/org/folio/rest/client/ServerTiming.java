@@ -0,0 +1,89 @@
+package org.folio.rest.client;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.vertx.core.Future;
+
+/**
+ * Collects per-phase durations and call counts of a single request to be reported in the
+ * <a href="https://www.w3.org/TR/server-timing/">Server-Timing</a> response header.
+ * <p>
+ * Recording is opt-in: it is enabled only when the incoming request carries {@link #REQUEST_HEADER} set to {@code true},
+ * otherwise {@link #measure(String, Supplier)} just delegates to the supplied action.
+ */
+public class ServerTiming {
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+  public static final String REQUEST_HEADER = "X-Okapi-Server-Timing";
+
+  public static final String STORAGE_PHASE = "storage";
+  public static final String UNITS_CLAUSE_PHASE = "units-clause";
+  public static final String UNITS_PHASE = "units";
+  public static final String MEMBERSHIP_PHASE = "membership";
+  public static final String TOTAL_PHASE = "total";
+
+  private final boolean enabled;
+  private final long startTime;
+  private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+  private ServerTiming(boolean enabled) {
+    this.enabled = enabled;
+    this.startTime = enabled ? System.nanoTime() : 0;
+  }
+
+  public static ServerTiming fromHeaders(Map<String, String> headers) {
+    return new ServerTiming(headers != null && Boolean.parseBoolean(headers.get(REQUEST_HEADER)));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Runs the action and records its duration under the given phase once the returned future completes.
+   *
+   * @param phase  phase name, must be a valid Server-Timing metric name
+   * @param action action to measure
+   * @return future returned by the action
+   */
+  public <T> Future<T> measure(String phase, Supplier<Future<T>> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    long start = System.nanoTime();
+    return action.get()
+      .onComplete(ar -> record(phase, System.nanoTime() - start));
+  }
+
+  /**
+   * @return value of the Server-Timing header, e.g. {@code storage;dur=12.5;desc="calls=1", total;dur=20.1}
+   */
+  public String toHeaderValue() {
+    StringBuilder value = new StringBuilder();
+    phases.forEach((name, phase) -> value.append(name)
+      .append(";dur=").append(toMillis(phase.duration))
+      .append(";desc=\"calls=").append(phase.count).append("\", "));
+    return value.append(TOTAL_PHASE)
+      .append(";dur=").append(toMillis(System.nanoTime() - startTime))
+      .toString();
+  }
+
+  private void record(String phase, long duration) {
+    Phase recorded = phases.computeIfAbsent(phase, k -> new Phase());
+    recorded.duration += duration;
+    recorded.count++;
+  }
+
+  private static String toMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  private static class Phase {
+    private long duration;
+    private int count;
+  }
+}
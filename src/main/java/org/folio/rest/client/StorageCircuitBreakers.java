@@ -0,0 +1,114 @@
+package org.folio.rest.client;
+
+import static org.folio.exception.ErrorCodes.STORAGE_UNAVAILABLE;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.folio.HttpStatus;
+import org.folio.exception.DeadlineExceededException;
+import org.folio.exception.HttpException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.circuitbreaker.CircuitBreaker;
+import io.vertx.circuitbreaker.CircuitBreakerOptions;
+import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Circuit breaker per storage resource. Transport errors and 5xx responses count as failures, other responses and
+ * requests cut short by their own deadline don't.
+ * While a breaker is open requests to its resource fail fast with 503, after the reset timeout a single request is let
+ * through in half-open state and closes the breaker if it succeeds.
+ * <p>
+ * The current state of each breaker is reported as a gauge (0 - closed, 1 - half-open, 2 - open) and each transition
+ * increments a counter tagged with the new state.
+ */
+@Log4j2
+public class StorageCircuitBreakers {
+
+  public static final String STATE_METRIC = "storage.circuit.breaker.state";
+  public static final String TRANSITIONS_METRIC = "storage.circuit.breaker.transitions";
+  public static final String RESOURCE_TAG = "resource";
+  public static final String STATE_TAG = "state";
+
+  private final boolean enabled;
+  private final CircuitBreakerOptions options;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * @param enabled        whether requests go through circuit breakers
+   * @param maxFailures    number of failures opening the breaker
+   * @param resetTimeoutMs time after which an open breaker becomes half-open
+   * @param timeoutMs      time after which a request counts as failed, -1 to disable
+   * @param meterRegistry  registry of the state and transition meters
+   */
+  public StorageCircuitBreakers(boolean enabled, int maxFailures, long resetTimeoutMs, long timeoutMs, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.options = new CircuitBreakerOptions()
+      .setMaxFailures(maxFailures)
+      .setResetTimeout(resetTimeoutMs)
+      .setTimeout(timeoutMs)
+      .setFallbackOnFailure(false);
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> Future<T> execute(Vertx vertx, String resource, Supplier<Future<T>> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    return breakers.computeIfAbsent(resource, name -> create(vertx, name))
+      .execute(action)
+      .recover(t -> {
+        if (t instanceof OpenCircuitException) {
+          return Future.failedFuture(new HttpException(HttpStatus.HTTP_UNAVAILABLE.toInt(),
+            STORAGE_UNAVAILABLE.toError().withAdditionalProperty(RESOURCE_TAG, resource)));
+        }
+        return Future.failedFuture(t);
+      });
+  }
+
+  public CircuitBreakerState getState(String resource) {
+    CircuitBreaker breaker = breakers.get(resource);
+    return breaker == null ? CircuitBreakerState.CLOSED : breaker.state();
+  }
+
+  private CircuitBreaker create(Vertx vertx, String resource) {
+    CircuitBreaker breaker = CircuitBreaker.create("storage-" + resource, vertx, options)
+      .failurePolicy(StorageCircuitBreakers::isFailure)
+      .openHandler(v -> onTransition(resource, CircuitBreakerState.OPEN))
+      .halfOpenHandler(v -> onTransition(resource, CircuitBreakerState.HALF_OPEN))
+      .closeHandler(v -> onTransition(resource, CircuitBreakerState.CLOSED));
+    Gauge.builder(STATE_METRIC, breaker, b -> toGaugeValue(b.state()))
+      .description("State of storage circuit breaker: 0 - closed, 1 - half-open, 2 - open")
+      .tag(RESOURCE_TAG, resource)
+      .register(meterRegistry);
+    return breaker;
+  }
+
+  private void onTransition(String resource, CircuitBreakerState state) {
+    log.warn("onTransition:: Circuit breaker of '{}' storage is {}", resource, state);
+    meterRegistry.counter(TRANSITIONS_METRIC, RESOURCE_TAG, resource, STATE_TAG, state.name().toLowerCase())
+      .increment();
+  }
+
+  private static int toGaugeValue(CircuitBreakerState state) {
+    return switch (state) {
+      case CLOSED -> 0;
+      case HALF_OPEN -> 1;
+      case OPEN -> 2;
+    };
+  }
+
+  private static boolean isFailure(Future<?> result) {
+    return result.failed()
+      && !(result.cause() instanceof DeadlineExceededException)
+      && (!(result.cause() instanceof HttpException httpException) || httpException.getCode() >= 500);
+  }
+}
@@ -0,0 +1,234 @@
+package org.folio.rest.client;
+
+import static org.folio.exception.ErrorCodes.STORAGE_UNAVAILABLE;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.folio.HttpStatus;
+import org.folio.exception.DeadlineExceededException;
+import org.folio.exception.HttpException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Limits the number of concurrent requests to each storage resource with an AIMD (additive increase, multiplicative
+ * decrease) limit. Every request answered within the latency threshold while the limit is at least half used raises
+ * the limit by one, every slow response, transport error or 5xx response lowers it by 10%.
+ * <p>
+ * Requests over the limit wait in a bounded queue. When the queue is full or the request has waited longer than
+ * the queue timeout it fails with 503. A waiting request is resumed or rejected on the Vert.x context it was queued
+ * from. The limit, in-flight requests and queue size of each resource are reported as gauges and the rejected
+ * requests as a counter.
+ */
+@Log4j2
+public class StorageConcurrencyLimiter {
+
+  public static final String LIMIT_METRIC = "storage.concurrency.limit";
+  public static final String IN_FLIGHT_METRIC = "storage.concurrency.in.flight";
+  public static final String QUEUE_METRIC = "storage.concurrency.queue.size";
+  public static final String REJECTED_METRIC = "storage.concurrency.rejected";
+  public static final String RESOURCE_TAG = "resource";
+
+  private static final int MIN_LIMIT = 1;
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final boolean enabled;
+  private final int initialLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final int maxQueueSize;
+  private final long queueTimeoutMs;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * @param enabled            whether requests are limited
+   * @param initialLimit       concurrency limit of a resource before any response is seen
+   * @param maxLimit           max concurrency limit
+   * @param latencyThresholdMs response time above which the limit is lowered
+   * @param maxQueueSize       max number of requests waiting for a resource
+   * @param queueTimeoutMs     max time a request waits in the queue
+   * @param meterRegistry      registry of the limiter meters
+   */
+  public StorageConcurrencyLimiter(boolean enabled, int initialLimit, int maxLimit, long latencyThresholdMs,
+                                   int maxQueueSize, long queueTimeoutMs, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.initialLimit = Math.max(MIN_LIMIT, initialLimit);
+    this.maxLimit = Math.max(this.initialLimit, maxLimit);
+    this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+    this.maxQueueSize = maxQueueSize;
+    this.queueTimeoutMs = queueTimeoutMs;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> Future<T> execute(Vertx vertx, String resource, Supplier<Future<T>> action) {
+    if (!enabled) {
+      return call(action);
+    }
+    return limits.computeIfAbsent(resource, this::create)
+      .execute(vertx, action);
+  }
+
+  public int getLimit(String resource) {
+    Limit limit = limits.get(resource);
+    return limit == null ? initialLimit : limit.getLimit();
+  }
+
+  private Limit create(String resource) {
+    Limit limit = new Limit(resource);
+    Gauge.builder(LIMIT_METRIC, limit, Limit::getLimit)
+      .description("Concurrency limit of storage requests")
+      .tag(RESOURCE_TAG, resource)
+      .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_METRIC, limit, Limit::getInFlight)
+      .description("Storage requests in flight")
+      .tag(RESOURCE_TAG, resource)
+      .register(meterRegistry);
+    Gauge.builder(QUEUE_METRIC, limit, Limit::getQueueSize)
+      .description("Storage requests waiting for the concurrency limit")
+      .tag(RESOURCE_TAG, resource)
+      .register(meterRegistry);
+    return limit;
+  }
+
+  /**
+   * Calls the action, turning an exception thrown by the supplier into a failed future.
+   */
+  private static <T> Future<T> call(Supplier<Future<T>> action) {
+    return Future.future(promise -> action.get().onComplete(promise));
+  }
+
+  private static boolean isDrop(AsyncResult<?> result) {
+    return result.failed()
+      && !(result.cause() instanceof DeadlineExceededException)
+      && (!(result.cause() instanceof HttpException httpException) || httpException.getCode() >= 500);
+  }
+
+  private final class Limit {
+
+    private final String resource;
+    private final Counter rejected;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private double limit = initialLimit;
+    private int inFlight;
+
+    private Limit(String resource) {
+      this.resource = resource;
+      this.rejected = Counter.builder(REJECTED_METRIC)
+        .description("Storage requests rejected by the concurrency limiter")
+        .tag(RESOURCE_TAG, resource)
+        .register(meterRegistry);
+    }
+
+    <T> Future<T> execute(Vertx vertx, Supplier<Future<T>> action) {
+      Waiter waiter = null;
+      boolean acquired = false;
+      synchronized (this) {
+        if (inFlight < getLimit() && queue.isEmpty()) {
+          inFlight++;
+          acquired = true;
+        } else if (queue.size() < maxQueueSize) {
+          waiter = new Waiter(vertx.getOrCreateContext());
+          queue.add(waiter);
+        }
+      }
+      if (acquired) {
+        return run(action);
+      }
+      if (waiter == null) {
+        return Future.failedFuture(rejection("queue is full"));
+      }
+      return await(waiter, action);
+    }
+
+    private <T> Future<T> await(Waiter waiter, Supplier<Future<T>> action) {
+      Context context = waiter.context;
+      long timerId = context.owner().setTimer(Math.max(1, queueTimeoutMs), id -> {
+        if (removeFromQueue(waiter)) {
+          HttpException rejection = rejection("queue timeout exceeded");
+          context.runOnContext(v -> waiter.permit.fail(rejection));
+        }
+      });
+      return waiter.permit.future()
+        .compose(v -> {
+          context.owner().cancelTimer(timerId);
+          return run(action);
+        });
+    }
+
+    private <T> Future<T> run(Supplier<Future<T>> action) {
+      long start = System.nanoTime();
+      return call(action)
+        .onComplete(ar -> release(ar, System.nanoTime() - start));
+    }
+
+    private void release(AsyncResult<?> result, long latencyNanos) {
+      Waiter next = null;
+      synchronized (this) {
+        inFlight--;
+        if (isDrop(result) || latencyNanos > latencyThresholdNanos) {
+          limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        } else if (inFlight * 2 >= limit) {
+          limit = Math.min(maxLimit, limit + 1);
+        }
+        if (inFlight < getLimit() && !queue.isEmpty()) {
+          next = queue.poll();
+          inFlight++;
+        }
+      }
+      if (next != null) {
+        next.resume();
+      }
+    }
+
+    private synchronized boolean removeFromQueue(Waiter waiter) {
+      return queue.remove(waiter);
+    }
+
+    private HttpException rejection(String reason) {
+      log.warn("rejection:: Request to '{}' storage rejected, {}, limit {}", resource, reason, getLimit());
+      rejected.increment();
+      return new HttpException(HttpStatus.HTTP_UNAVAILABLE.toInt(),
+        STORAGE_UNAVAILABLE.toError().withAdditionalProperty(RESOURCE_TAG, resource));
+    }
+
+    int getLimit() {
+      return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+      return inFlight;
+    }
+
+    synchronized int getQueueSize() {
+      return queue.size();
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Context context;
+    private final Promise<Void> permit = Promise.promise();
+
+    private Waiter(Context context) {
+      this.context = context;
+    }
+
+    private void resume() {
+      context.runOnContext(v -> permit.complete());
+    }
+  }
+}
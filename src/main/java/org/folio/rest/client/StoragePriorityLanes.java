@@ -0,0 +1,213 @@
+package org.folio.rest.client;
+
+import static org.folio.exception.ErrorCodes.STORAGE_UNAVAILABLE;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.folio.HttpStatus;
+import org.folio.exception.HttpException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Splits the outbound storage capacity between {@link RequestPriority} lanes. Each lane has reserved slots that other
+ * lanes cannot take, the rest of the capacity is shared. Requests that find neither a reserved nor a shared slot wait
+ * in the bounded queue of their lane, and freed slots go to the waiting requests of the most urgent lane first.
+ * Requests that do not fit into the queue or wait longer than the queue timeout fail with 503. A waiting request is
+ * resumed or rejected on the Vert.x context it was queued from.
+ * <p>
+ * In-flight requests and queue sizes of each lane are reported as gauges, queue wait as a timer and rejections
+ * as a counter, all tagged with the lane.
+ */
+@Log4j2
+public class StoragePriorityLanes {
+
+  public static final String IN_FLIGHT_METRIC = "storage.lane.in.flight";
+  public static final String QUEUE_METRIC = "storage.lane.queue.size";
+  public static final String WAIT_METRIC = "storage.lane.wait";
+  public static final String REJECTED_METRIC = "storage.lane.rejected";
+  public static final String LANE_TAG = "lane";
+
+  private final boolean enabled;
+  private final int sharedCapacity;
+  private final int maxQueueSize;
+  private final long queueTimeoutMs;
+  private final Lane[] lanes;
+
+  /**
+   * @param enabled            whether requests are split into lanes
+   * @param maxInFlight        max storage requests in flight for all lanes
+   * @param reservedItem       slots reserved for {@link RequestPriority#ITEM} requests
+   * @param reservedCollection slots reserved for {@link RequestPriority#COLLECTION} requests
+   * @param reservedBulk       slots reserved for {@link RequestPriority#BULK} requests
+   * @param maxQueueSize       max number of requests waiting in a lane
+   * @param queueTimeoutMs     max time a request waits in the queue
+   * @param meterRegistry      registry of the lane meters
+   */
+  public StoragePriorityLanes(boolean enabled, int maxInFlight, int reservedItem, int reservedCollection, int reservedBulk,
+                              int maxQueueSize, long queueTimeoutMs, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxQueueSize = maxQueueSize;
+    this.queueTimeoutMs = queueTimeoutMs;
+    this.lanes = new Lane[] {
+      new Lane(RequestPriority.ITEM, reservedItem, meterRegistry),
+      new Lane(RequestPriority.COLLECTION, reservedCollection, meterRegistry),
+      new Lane(RequestPriority.BULK, reservedBulk, meterRegistry)
+    };
+    this.sharedCapacity = Math.max(0, maxInFlight - reservedItem - reservedCollection - reservedBulk);
+  }
+
+  public <T> Future<T> execute(Vertx vertx, RequestPriority priority, Supplier<Future<T>> action) {
+    if (!enabled) {
+      return call(action);
+    }
+    Lane lane = lanes[priority.ordinal()];
+    Waiter waiter = null;
+    boolean acquired = false;
+    synchronized (this) {
+      if (lane.queue.isEmpty() && canStart(lane)) {
+        lane.inFlight++;
+        acquired = true;
+      } else if (lane.queue.size() < maxQueueSize) {
+        waiter = new Waiter(vertx.getOrCreateContext());
+        lane.queue.add(waiter);
+      }
+    }
+    if (acquired) {
+      lane.wait.record(0, TimeUnit.NANOSECONDS);
+      return run(lane, action);
+    }
+    if (waiter == null) {
+      return Future.failedFuture(rejection(lane, "queue is full"));
+    }
+    return await(lane, waiter, action);
+  }
+
+  private <T> Future<T> await(Lane lane, Waiter waiter, Supplier<Future<T>> action) {
+    long start = System.nanoTime();
+    Context context = waiter.context;
+    long timerId = context.owner().setTimer(Math.max(1, queueTimeoutMs), id -> {
+      if (remove(lane, waiter)) {
+        HttpException rejection = rejection(lane, "queue timeout exceeded");
+        context.runOnContext(v -> waiter.permit.fail(rejection));
+      }
+    });
+    return waiter.permit.future()
+      .compose(v -> {
+        context.owner().cancelTimer(timerId);
+        lane.wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return run(lane, action);
+      });
+  }
+
+  private <T> Future<T> run(Lane lane, Supplier<Future<T>> action) {
+    return call(action)
+      .onComplete(ar -> release(lane));
+  }
+
+  /**
+   * Calls the action, turning an exception thrown by the supplier into a failed future.
+   */
+  private static <T> Future<T> call(Supplier<Future<T>> action) {
+    return Future.future(promise -> action.get().onComplete(promise));
+  }
+
+  private void release(Lane completed) {
+    List<Waiter> next = new ArrayList<>();
+    synchronized (this) {
+      completed.inFlight--;
+      for (Lane lane : lanes) {
+        while (!lane.queue.isEmpty() && canStart(lane)) {
+          next.add(lane.queue.poll());
+          lane.inFlight++;
+        }
+      }
+    }
+    next.forEach(waiter -> waiter.context.runOnContext(v -> waiter.permit.complete()));
+  }
+
+  private boolean canStart(Lane lane) {
+    return lane.inFlight < lane.reserved || getSharedInFlight() < sharedCapacity;
+  }
+
+  private int getSharedInFlight() {
+    int shared = 0;
+    for (Lane lane : lanes) {
+      shared += Math.max(0, lane.inFlight - lane.reserved);
+    }
+    return shared;
+  }
+
+  private synchronized boolean remove(Lane lane, Waiter waiter) {
+    return lane.queue.remove(waiter);
+  }
+
+  private HttpException rejection(Lane lane, String reason) {
+    log.warn("rejection:: Storage request in '{}' lane rejected, {}", lane.name, reason);
+    lane.rejected.increment();
+    return new HttpException(HttpStatus.HTTP_UNAVAILABLE.toInt(),
+      STORAGE_UNAVAILABLE.toError().withAdditionalProperty(LANE_TAG, lane.name));
+  }
+
+  private synchronized int getInFlight(Lane lane) {
+    return lane.inFlight;
+  }
+
+  private synchronized int getQueueSize(Lane lane) {
+    return lane.queue.size();
+  }
+
+  private final class Lane {
+
+    private final String name;
+    private final int reserved;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final Timer wait;
+    private final Counter rejected;
+    private int inFlight;
+
+    private Lane(RequestPriority priority, int reserved, MeterRegistry meterRegistry) {
+      this.name = priority.getLaneName();
+      this.reserved = Math.max(0, reserved);
+      this.wait = Timer.builder(WAIT_METRIC)
+        .description("Time storage requests wait for a slot in their lane")
+        .tag(LANE_TAG, name)
+        .register(meterRegistry);
+      this.rejected = Counter.builder(REJECTED_METRIC)
+        .description("Storage requests rejected by the priority lanes")
+        .tag(LANE_TAG, name)
+        .register(meterRegistry);
+      Gauge.builder(IN_FLIGHT_METRIC, this, StoragePriorityLanes.this::getInFlight)
+        .description("Storage requests of the lane in flight")
+        .tag(LANE_TAG, name)
+        .register(meterRegistry);
+      Gauge.builder(QUEUE_METRIC, this, StoragePriorityLanes.this::getQueueSize)
+        .description("Storage requests of the lane waiting for a slot")
+        .tag(LANE_TAG, name)
+        .register(meterRegistry);
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Context context;
+    private final Promise<Void> permit = Promise.promise();
+
+    private Waiter(Context context) {
+      this.context = context;
+    }
+  }
+}
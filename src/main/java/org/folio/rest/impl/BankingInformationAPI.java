@@ -6,6 +6,8 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
 import org.folio.rest.jaxrs.model.BankingInformation;
 import org.folio.rest.jaxrs.resource.OrganizationsBankingInformation;
 
@@ -14,15 +16,18 @@ import java.util.Map;
 import org.apache.logging.log4j.Logger;
 import org.folio.service.organization.BankingInformationService;
 import org.folio.spring.SpringContextUtil;
+import org.folio.util.JsonProjection;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import static io.vertx.core.Future.succeededFuture;
+import static org.folio.util.TracingUtils.endSpan;
 import static org.folio.config.Constants.OKAPI_URL;
 
 public class BankingInformationAPI extends BaseApi implements OrganizationsBankingInformation {
 
   private static final Logger logger = LogManager.getLogger(BankingInformationAPI.class);
   private static final String BANKING_INFORMATION_LOCATION_PREFIX = "/organizations/banking-information/%s";
+  private static final String BANKING_INFORMATION_PROPERTY = "bankingInformation";
 
   @Autowired
   private BankingInformationService bankingInformationService;
@@ -33,11 +38,16 @@ public class BankingInformationAPI extends BaseApi implements OrganizationsBanki
 
   @Override
   @Validate
-  public void getOrganizationsBankingInformation(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+  public void getOrganizationsBankingInformation(String query, String totalRecords, int offset, int limit, String fields, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to get banking information with query: {}", query);
-    bankingInformationService.getBankingInformationCollection(offset, limit, query, vertxContext, okapiHeaders)
-      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(buildOkResponse(bankingInformation))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("getOrganizationsBankingInformation", vertxContext, okapiHeaders,
+      RequestPriority.ofCollection(limit));
+    JsonProjection projection = JsonProjection.ofCollection(BANKING_INFORMATION_PROPERTY, fields);
+    admit(requestContext)
+      .compose(v -> bankingInformationService.getBankingInformationCollection(offset, limit, query, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(bankingInformation, projection, requestContext), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
@@ -45,36 +55,45 @@ public class BankingInformationAPI extends BaseApi implements OrganizationsBanki
   public void postOrganizationsBankingInformation(BankingInformation entity, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to create banking information with id: {}", entity.getId());
-    bankingInformationService.createBankingInformation(entity, vertxContext, okapiHeaders)
-      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL),
-        String.format(BANKING_INFORMATION_LOCATION_PREFIX, bankingInformation.getId()), bankingInformation))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("postOrganizationsBankingInformation", vertxContext, okapiHeaders);
+    bankingInformationService.createBankingInformation(entity, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL),
+        String.format(BANKING_INFORMATION_LOCATION_PREFIX, bankingInformation.getId()), bankingInformation), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
   @Validate
   public void putOrganizationsBankingInformationById(String id, BankingInformation entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to update banking information with id: {}", id);
-    bankingInformationService.updateBankingInformation(id, entity, vertxContext, okapiHeaders)
-      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("putOrganizationsBankingInformationById", vertxContext, okapiHeaders);
+    bankingInformationService.updateBankingInformation(id, entity, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildNoContentResponse(), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
   @Validate
   public void deleteOrganizationsBankingInformationById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to delete banking information by id: {}", id);
-    bankingInformationService.deleteBankingInformation(id, vertxContext, okapiHeaders)
-      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("deleteOrganizationsBankingInformationById", vertxContext, okapiHeaders);
+    bankingInformationService.deleteBankingInformation(id, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildNoContentResponse(), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
   @Validate
-  public void getOrganizationsBankingInformationById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+  public void getOrganizationsBankingInformationById(String id, String fields, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to get banking information with id: {}", id);
-    bankingInformationService.getBankingInformationById(id, vertxContext, okapiHeaders)
-      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(buildOkResponse(bankingInformation))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("getOrganizationsBankingInformationById", vertxContext, okapiHeaders);
+    JsonProjection projection = JsonProjection.ofRecord(fields);
+    bankingInformationService.getBankingInformationById(id, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(bankingInformation -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(bankingInformation, projection, requestContext), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 }
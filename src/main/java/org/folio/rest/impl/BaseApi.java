@@ -1,25 +1,43 @@
 package org.folio.rest.impl;
 
 import static io.vertx.core.Future.succeededFuture;
+import static javax.ws.rs.core.HttpHeaders.CACHE_CONTROL;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static javax.ws.rs.core.HttpHeaders.LOCATION;
+import static javax.ws.rs.core.HttpHeaders.RETRY_AFTER;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.SERVER_SENT_EVENTS;
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static org.folio.exception.ErrorCodes.GENERIC_ERROR_CODE;
+import static org.folio.rest.client.EventLoopWatchdog.JSON_PROJECTION_PHASE;
+import static org.folio.rest.client.ServerTiming.SERVER_TIMING_HEADER;
+import static org.folio.util.TracingUtils.startServerSpan;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.Response;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.exception.HttpException;
+import org.folio.exception.ModuleOverloadedException;
+import org.folio.rest.client.DeadlinePolicy;
+import org.folio.rest.client.EventLoopWatchdog;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
+import org.folio.rest.client.ServerTiming;
 import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.Errors;
+import org.folio.service.admission.LoadShedder;
+import org.folio.util.JsonProjection;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
 public class BaseApi {
@@ -28,11 +46,81 @@ public class BaseApi {
   private static final Logger logger = LogManager.getLogger(BaseApi.class);
   private final Errors processingErrors = new Errors();
 
+  @Autowired
+  private DeadlinePolicy deadlinePolicy;
+  @Autowired
+  private LoadShedder loadShedder;
+  @Autowired
+  private EventLoopWatchdog eventLoopWatchdog;
+
+  /**
+   * Creates context shared by all the service and storage calls made while handling the request,
+   * with the deadline after which storage calls are no longer sent.
+   *
+   * @param operation    name of API handler, used as the name of the request span
+   * @param vertxContext Vert.X context
+   * @param okapiHeaders OKAPI headers
+   * @return request context
+   */
+  protected RequestContext createRequestContext(String operation, Context vertxContext, Map<String, String> okapiHeaders) {
+    return createRequestContext(operation, vertxContext, okapiHeaders, RequestPriority.ITEM);
+  }
+
+  /**
+   * Creates request context with the priority lane used for the storage calls of the request.
+   *
+   * @param operation    name of API handler, used as the name of the request span
+   * @param vertxContext Vert.X context
+   * @param okapiHeaders OKAPI headers
+   * @param priority     priority lane of the request
+   * @return request context
+   */
+  protected RequestContext createRequestContext(String operation, Context vertxContext, Map<String, String> okapiHeaders,
+                                                RequestPriority priority) {
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    requestContext.withSpan(startServerSpan(operation, okapiHeaders));
+    requestContext.withPriority(priority);
+    requestContext.withOperation(operation, eventLoopWatchdog);
+    deadlinePolicy.apply(requestContext);
+    return requestContext;
+  }
+
+  /**
+   * Checks whether the module can take the request, collection and bulk requests are shed while it is overloaded.
+   *
+   * @param requestContext request context
+   * @return succeeded future if the request can be handled, failed with 503 otherwise
+   */
+  protected Future<Void> admit(RequestContext requestContext) {
+    return loadShedder.admit(requestContext);
+  }
+
   public Response buildOkResponse(Object body) {
     return Response.ok(body, APPLICATION_JSON)
       .build();
   }
 
+  /**
+   * Builds OK response with the requested fields of the body only, see {@link JsonProjection}.
+   */
+  public Response buildOkResponse(Object body, JsonProjection projection, RequestContext requestContext) {
+    if (projection.isEmpty()) {
+      return buildOkResponse(body);
+    }
+    try (var section = requestContext.enterPhase(JSON_PROJECTION_PHASE)) {
+      return buildOkResponse(projection.write(body));
+    }
+  }
+
+  /**
+   * Builds OK response with a body of server-sent events, which must not be cached.
+   */
+  public Response buildEventStreamResponse(String events) {
+    return Response.ok(events, SERVER_SENT_EVENTS)
+      .header(CACHE_CONTROL, "no-cache")
+      .build();
+  }
+
   public Response buildNoContentResponse() {
     return Response.noContent()
       .build();
@@ -58,6 +146,24 @@ public class BaseApi {
     return null;
   }
 
+  public Void handleErrorResponse(Handler<AsyncResult<Response>> asyncResultHandler, Throwable t, RequestContext requestContext) {
+    asyncResultHandler.handle(succeededFuture(withServerTiming(buildErrorResponse(t), requestContext)));
+    return null;
+  }
+
+  /**
+   * Adds Server-Timing header with the phases recorded for the request if the client opted in for it.
+   */
+  public Response withServerTiming(Response response, RequestContext requestContext) {
+    ServerTiming serverTiming = requestContext.getServerTiming();
+    if (!serverTiming.isEnabled()) {
+      return response;
+    }
+    return Response.fromResponse(response)
+      .header(SERVER_TIMING_HEADER, serverTiming.toHeaderValue())
+      .build();
+  }
+
   public List<Error> getErrors() {
     return processingErrors.getErrors();
   }
@@ -95,7 +201,13 @@ public class BaseApi {
   }
 
   public Response buildErrorResponse(Throwable throwable) {
-    return buildErrorResponse(handleProcessingError(throwable));
+    Response response = buildErrorResponse(handleProcessingError(throwable));
+    if (throwable instanceof ModuleOverloadedException overloaded) {
+      return Response.fromResponse(response)
+        .header(RETRY_AFTER, overloaded.getRetryAfterSeconds())
+        .build();
+    }
+    return response;
   }
 
   public Response buildErrorResponse(int code) {
@@ -105,6 +217,9 @@ public class BaseApi {
     case 403:
     case 404:
     case 422:
+    case 429:
+    case 503:
+    case 504:
       responseBuilder = Response.status(code);
       break;
     default:
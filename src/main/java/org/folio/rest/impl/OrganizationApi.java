@@ -1,6 +1,7 @@
 package org.folio.rest.impl;
 
 import static io.vertx.core.Future.succeededFuture;
+import static org.folio.util.TracingUtils.endSpan;
 import static org.folio.config.Constants.OKAPI_URL;
 
 import java.util.Map;
@@ -10,14 +11,18 @@ import javax.ws.rs.core.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
 import org.folio.rest.jaxrs.model.Organization;
 import org.folio.rest.jaxrs.resource.Organizations;
 import org.folio.service.organization.OrganizationService;
 import org.folio.spring.SpringContextUtil;
+import org.folio.util.JsonProjection;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
@@ -25,6 +30,8 @@ public class OrganizationApi extends BaseApi implements Organizations {
 
   private static final Logger logger = LogManager.getLogger(OrganizationApi.class);
   private static final String ORGANIZATIONS_LOCATION_PREFIX = "/organizations/organizations/%s";
+  private static final String ORGANIZATIONS_PROPERTY = "organizations";
+  private static final String INCLUDE_BANKING_INFORMATION = "bankingInformation";
 
   @Autowired
   private OrganizationService organizationService;
@@ -35,10 +42,80 @@ public class OrganizationApi extends BaseApi implements Organizations {
 
   @Override
   @Validate
-  public void getOrganizationsOrganizations(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    organizationService.getOrganizationCollection(offset, limit, query, vertxContext, okapiHeaders)
-      .onSuccess(organizations -> asyncResultHandler.handle(succeededFuture(buildOkResponse(organizations))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+  public void getOrganizationsOrganizations(String query, String totalRecords, int offset, int limit, String fields, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("getOrganizationsOrganizations", vertxContext, okapiHeaders,
+      RequestPriority.ofCollection(limit));
+    JsonProjection projection = JsonProjection.ofCollection(ORGANIZATIONS_PROPERTY, fields);
+    admit(requestContext)
+      .compose(v -> organizationService.getOrganizationCollection(offset, limit, query, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(organizations -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(organizations, projection, requestContext), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
+  }
+
+  @Override
+  @Validate
+  public void getOrganizationsSuggestions(String prefix, int limit, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("getOrganizationsSuggestions", vertxContext, okapiHeaders,
+      RequestPriority.ofCollection(limit));
+    admit(requestContext)
+      .compose(v -> organizationService.getOrganizationSuggestions(prefix, limit, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(suggestions -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(suggestions), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
+  }
+
+  @Override
+  @Validate
+  public void postOrganizationsDuplicates(int limit, Organization entity, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("postOrganizationsDuplicates", vertxContext, okapiHeaders,
+      RequestPriority.ofCollection(limit));
+    admit(requestContext)
+      .compose(v -> organizationService.findOrganizationDuplicates(entity, limit, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(duplicates -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(duplicates), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
+  }
+
+  @Override
+  @Validate
+  public void getOrganizationsFacets(String query, String facets, boolean rebuild, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("getOrganizationsFacets", vertxContext, okapiHeaders,
+      RequestPriority.COLLECTION);
+    admit(requestContext)
+      .compose(v -> organizationService.getOrganizationFacets(query, facets, rebuild, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(counts -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(counts), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
+  }
+
+  @Override
+  @Validate
+  public void getOrganizationsChanges(String since, String cursor, int limit, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("getOrganizationsChanges", vertxContext, okapiHeaders,
+      RequestPriority.ofCollection(limit));
+    admit(requestContext)
+      .compose(v -> organizationService.getOrganizationChanges(since, cursor, limit, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(changes -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(changes), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
+  }
+
+  @Override
+  @Validate
+  public void getOrganizationsEvents(String subscription, int maxEvents, int wait, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = createRequestContext("getOrganizationsEvents", vertxContext, okapiHeaders,
+      RequestPriority.COLLECTION);
+    admit(requestContext)
+      .compose(v -> organizationService.pollOrganizationEvents(subscription, maxEvents, wait, requestContext))
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(events -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildEventStreamResponse(events), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
@@ -46,20 +123,28 @@ public class OrganizationApi extends BaseApi implements Organizations {
   public void postOrganizationsOrganizations(Organization entity, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to create organization");
-    organizationService.createOrganization(entity, vertxContext, okapiHeaders)
-      .onSuccess(organization -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL),
-          String.format(ORGANIZATIONS_LOCATION_PREFIX, organization.getId()), organization))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("postOrganizationsOrganizations", vertxContext, okapiHeaders);
+    organizationService.createOrganization(entity, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(organization -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL),
+          String.format(ORGANIZATIONS_LOCATION_PREFIX, organization.getId()), organization), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
   @Validate
-  public void getOrganizationsOrganizationsById(String id, Map<String, String> okapiHeaders,
+  public void getOrganizationsOrganizationsById(String id, String fields, String include, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to get organization with id: {}", id);
-    organizationService.getOrganizationById(id, vertxContext, okapiHeaders)
-      .onSuccess(organization -> asyncResultHandler.handle(succeededFuture(buildOkResponse(organization))))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("getOrganizationsOrganizationsById", vertxContext, okapiHeaders);
+    JsonProjection projection = JsonProjection.ofRecord(fields);
+    Future<? extends Organization> organizationFuture = INCLUDE_BANKING_INFORMATION.equals(include) ?
+      organizationService.getOrganizationWithBankingInformationById(id, requestContext) :
+      organizationService.getOrganizationById(id, requestContext);
+    organizationFuture
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(organization -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildOkResponse(organization, projection, requestContext), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
@@ -67,9 +152,11 @@ public class OrganizationApi extends BaseApi implements Organizations {
   public void putOrganizationsOrganizationsById(String id, Organization entity, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to update organization with id: {}", id);
-    organizationService.updateOrganizationById(id, entity, vertxContext, okapiHeaders)
-      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("putOrganizationsOrganizationsById", vertxContext, okapiHeaders);
+    organizationService.updateOrganizationById(id, entity, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildNoContentResponse(), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 
   @Override
@@ -77,8 +164,10 @@ public class OrganizationApi extends BaseApi implements Organizations {
   public void deleteOrganizationsOrganizationsById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Trying to delete organization by id: {}", id);
-    organizationService.deleteOrganizationById(id, vertxContext, okapiHeaders)
-      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
-      .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
+    RequestContext requestContext = createRequestContext("deleteOrganizationsOrganizationsById", vertxContext, okapiHeaders);
+    organizationService.deleteOrganizationById(id, requestContext)
+      .onComplete(ar -> endSpan(requestContext.getSpan(), ar))
+      .onSuccess(vVoid -> asyncResultHandler.handle(succeededFuture(withServerTiming(buildNoContentResponse(), requestContext))))
+      .onFailure(t -> handleErrorResponse(asyncResultHandler, t, requestContext));
   }
 }
@@ -0,0 +1,90 @@
+package org.folio.service.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Measures how late timers fire on the event loops handling module requests. A probe is started on an event loop
+ * with its first request and reschedules itself every interval; the time it fires after the due time is the lag.
+ * <p>
+ * The reported lag decays from the worst recent sample instead of dropping to the latest one, so that a single
+ * quick probe between long blocking tasks does not hide the overload. Samples taken during the warm-up after a probe
+ * started are ignored, so the stalls of class loading and compilation while the first requests are handled are not
+ * taken for an overload. The lag of each event loop is reported as a gauge tagged with the thread name.
+ */
+@Log4j2
+public class EventLoopLagMonitor {
+
+  public static final String LAG_METRIC = "vertx.eventloop.lag";
+  public static final String THREAD_TAG = "thread";
+
+  private static final double DECAY = 0.8;
+
+  private final long intervalMs;
+  private final long warmUpNanos;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+
+  /**
+   * @param intervalMs    interval between probes
+   * @param warmUpMs      time after a probe started during which its samples are ignored
+   * @param meterRegistry registry of the lag gauges
+   */
+  public EventLoopLagMonitor(long intervalMs, long warmUpMs, MeterRegistry meterRegistry) {
+    this.intervalMs = Math.max(1, intervalMs);
+    this.warmUpNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, warmUpMs));
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Returns the lag of the event loop of the calling thread and starts its probe if it is not running yet.
+   *
+   * @param vertx Vert.x instance of the event loop
+   * @return lag in milliseconds, 0 when called outside of an event loop
+   */
+  public long getLagMs(Vertx vertx) {
+    if (!Context.isOnEventLoopThread()) {
+      return 0;
+    }
+    return probes.computeIfAbsent(Thread.currentThread().getName(), thread -> start(vertx, thread))
+      .lagMs;
+  }
+
+  private Probe start(Vertx vertx, String thread) {
+    log.info("start:: Monitoring lag of event loop '{}' every {} ms after a warm-up of {} ms", thread, intervalMs,
+      TimeUnit.NANOSECONDS.toMillis(warmUpNanos));
+    Probe probe = new Probe();
+    Gauge.builder(LAG_METRIC, probe, p -> p.lagMs)
+      .description("Delay of timers on the event loop")
+      .baseUnit("milliseconds")
+      .tag(THREAD_TAG, thread)
+      .register(meterRegistry);
+    probe.schedule(vertx);
+    return probe;
+  }
+
+  private final class Probe {
+
+    private final long warmUpEndNanos = System.nanoTime() + warmUpNanos;
+    private volatile long lagMs;
+
+    private void schedule(Vertx vertx) {
+      long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMs);
+      vertx.setTimer(intervalMs, id -> {
+        long now = System.nanoTime();
+        if (now - warmUpEndNanos >= 0) {
+          long sample = Math.max(0, TimeUnit.NANOSECONDS.toMillis(now - due));
+          lagMs = Math.max(sample, (long) (lagMs * DECAY));
+        }
+        schedule(vertx);
+      });
+    }
+  }
+}
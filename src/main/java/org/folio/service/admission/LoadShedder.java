@@ -0,0 +1,69 @@
+package org.folio.service.admission;
+
+import org.folio.exception.ModuleOverloadedException;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sheds collection and bulk requests with 503 and {@code Retry-After} while the lag of the event loop handling them
+ * is above the threshold. Single record requests are always admitted.
+ * <p>
+ * The threshold is reported as a gauge and the shed requests as a counter tagged with the priority lane.
+ */
+@Log4j2
+public class LoadShedder {
+
+  public static final String SHED_METRIC = "load.shedding.shed";
+  public static final String THRESHOLD_METRIC = "load.shedding.lag.threshold";
+  public static final String LANE_TAG = "lane";
+
+  private final boolean enabled;
+  private final long lagThresholdMs;
+  private final long retryAfterSeconds;
+  private final EventLoopLagMonitor lagMonitor;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * @param enabled           whether requests are shed
+   * @param lagThresholdMs    event loop lag above which requests are shed
+   * @param retryAfterSeconds value of the {@code Retry-After} header of shed requests
+   * @param lagMonitor        event loop lag monitor
+   * @param meterRegistry     registry of the shedding meters
+   */
+  public LoadShedder(boolean enabled, long lagThresholdMs, long retryAfterSeconds, EventLoopLagMonitor lagMonitor,
+                     MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.lagThresholdMs = lagThresholdMs;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.lagMonitor = lagMonitor;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder(THRESHOLD_METRIC, () -> lagThresholdMs)
+      .description("Event loop lag above which collection and bulk requests are shed")
+      .baseUnit("milliseconds")
+      .register(meterRegistry);
+  }
+
+  /**
+   * @param requestContext request context with the priority of the request
+   * @return succeeded future if the request can be handled, failed with {@link ModuleOverloadedException} otherwise
+   */
+  public Future<Void> admit(RequestContext requestContext) {
+    if (!enabled) {
+      return Future.succeededFuture();
+    }
+    long lagMs = lagMonitor.getLagMs(requestContext.getContext().owner());
+    RequestPriority priority = requestContext.getPriority();
+    if (priority == RequestPriority.ITEM || lagMs < lagThresholdMs) {
+      return Future.succeededFuture();
+    }
+    log.warn("admit:: Event loop lag {} ms is above {} ms, shedding {} request", lagMs, lagThresholdMs, priority.getLaneName());
+    meterRegistry.counter(SHED_METRIC, LANE_TAG, priority.getLaneName())
+      .increment();
+    return Future.failedFuture(new ModuleOverloadedException(retryAfterSeconds));
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.service.admission;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.BankingInformation;
+import org.folio.rest.jaxrs.model.BankingInformationCollection;
+import org.folio.service.organization.BankingInformationService;
+
+import io.vertx.core.Future;
+
+/**
+ * Runs {@link BankingInformationService} operations through the {@link TenantScheduler}.
+ */
+public class ScheduledBankingInformationService implements BankingInformationService {
+
+  private final BankingInformationService delegate;
+  private final TenantScheduler scheduler;
+
+  public ScheduledBankingInformationService(BankingInformationService delegate, TenantScheduler scheduler) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Future<BankingInformation> createBankingInformation(BankingInformation bankingInformation, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.createBankingInformation(bankingInformation, requestContext));
+  }
+
+  @Override
+  public Future<BankingInformation> getBankingInformationById(String id, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getBankingInformationById(id, requestContext));
+  }
+
+  @Override
+  public Future<BankingInformationCollection> getBankingInformationCollection(int offset, int limit, String query,
+                                                                              RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getBankingInformationCollection(offset, limit, query, requestContext));
+  }
+
+  @Override
+  public Future<Void> updateBankingInformation(String id, BankingInformation entity, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.updateBankingInformation(id, entity, requestContext));
+  }
+
+  @Override
+  public Future<Void> deleteBankingInformation(String id, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.deleteBankingInformation(id, requestContext));
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.service.admission;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.CompositeOrganization;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationChangeCollection;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationDuplicateCollection;
+import org.folio.rest.jaxrs.model.OrganizationFacetCollection;
+import org.folio.rest.jaxrs.model.OrganizationSuggestionCollection;
+import org.folio.service.organization.OrganizationService;
+
+import io.vertx.core.Future;
+
+/**
+ * Runs {@link OrganizationService} operations through the {@link TenantScheduler}.
+ */
+public class ScheduledOrganizationService implements OrganizationService {
+
+  private final OrganizationService delegate;
+  private final TenantScheduler scheduler;
+
+  public ScheduledOrganizationService(OrganizationService delegate, TenantScheduler scheduler) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Future<Organization> createOrganization(Organization organization, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.createOrganization(organization, requestContext));
+  }
+
+  @Override
+  public Future<Organization> getOrganizationById(String id, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationById(id, requestContext));
+  }
+
+  @Override
+  public Future<CompositeOrganization> getOrganizationWithBankingInformationById(String id, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationWithBankingInformationById(id, requestContext));
+  }
+
+  @Override
+  public Future<OrganizationCollection> getOrganizationCollection(int offset, int limit, String query, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationCollection(offset, limit, query, requestContext));
+  }
+
+  @Override
+  public Future<OrganizationSuggestionCollection> getOrganizationSuggestions(String prefix, int limit, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationSuggestions(prefix, limit, requestContext));
+  }
+
+  @Override
+  public Future<OrganizationDuplicateCollection> findOrganizationDuplicates(Organization organization, int limit,
+                                                                            RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.findOrganizationDuplicates(organization, limit, requestContext));
+  }
+
+  @Override
+  public Future<OrganizationFacetCollection> getOrganizationFacets(String query, String facets, boolean rebuild,
+                                                                   RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationFacets(query, facets, rebuild, requestContext));
+  }
+
+  @Override
+  public Future<OrganizationChangeCollection> getOrganizationChanges(String since, String cursor, int limit,
+                                                                     RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.getOrganizationChanges(since, cursor, limit, requestContext));
+  }
+
+  /**
+   * Not run through the scheduler: a long poll would hold an in-flight slot of the tenant while it waits for events.
+   */
+  @Override
+  public Future<String> pollOrganizationEvents(String subscription, int maxEvents, long waitMs, RequestContext requestContext) {
+    return delegate.pollOrganizationEvents(subscription, maxEvents, waitMs, requestContext);
+  }
+
+  @Override
+  public Future<Void> updateOrganizationById(String id, Organization entity, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.updateOrganizationById(id, entity, requestContext));
+  }
+
+  @Override
+  public Future<Void> deleteOrganizationById(String id, RequestContext requestContext) {
+    return scheduler.submit(requestContext, () -> delegate.deleteOrganizationById(id, requestContext));
+  }
+}
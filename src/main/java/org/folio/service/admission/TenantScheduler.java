@@ -0,0 +1,247 @@
+package org.folio.service.admission;
+
+import static org.folio.exception.ErrorCodes.TENANT_REQUESTS_LIMIT_EXCEEDED;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.folio.exception.HttpException;
+import org.folio.rest.client.RequestContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Admission control for service operations keyed by the {@code x-okapi-tenant} header.
+ * <p>
+ * An operation starts right away when both the module-wide and the tenant limit of operations in flight allow it,
+ * otherwise it waits in the bounded queue of its tenant. Whenever an operation completes, the waiting tenants are
+ * served round-robin, one operation each, so a tenant running a bulk load cannot starve the others. Operations that
+ * do not fit into the queue or wait longer than the queue timeout fail with 429.
+ * <p>
+ * Operations in flight and queue sizes are reported as gauges and rejections as a counter, all tagged with the tenant.
+ */
+@Log4j2
+public class TenantScheduler {
+
+  public static final String IN_FLIGHT_METRIC = "tenant.requests.in.flight";
+  public static final String QUEUE_METRIC = "tenant.requests.queue.size";
+  public static final String REJECTED_METRIC = "tenant.requests.rejected";
+  public static final String TENANT_TAG = "tenant";
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final String UNKNOWN_TENANT = "unknown";
+
+  private final boolean enabled;
+  private final int maxInFlight;
+  private final int maxInFlightPerTenant;
+  private final int maxQueueSizePerTenant;
+  private final long queueTimeoutMs;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, TenantQueue> tenants = new ConcurrentHashMap<>();
+  private final Deque<TenantQueue> waitingTenants = new ArrayDeque<>();
+  private int inFlight;
+
+  /**
+   * @param enabled               whether operations are scheduled
+   * @param maxInFlight           max operations in flight for all tenants
+   * @param maxInFlightPerTenant  max operations in flight for a tenant
+   * @param maxQueueSizePerTenant max operations waiting for a tenant
+   * @param queueTimeoutMs        max time an operation waits in the queue
+   * @param meterRegistry         registry of the scheduler meters
+   */
+  public TenantScheduler(boolean enabled, int maxInFlight, int maxInFlightPerTenant, int maxQueueSizePerTenant,
+                         long queueTimeoutMs, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.maxInFlightPerTenant = Math.max(1, maxInFlightPerTenant);
+    this.maxQueueSizePerTenant = maxQueueSizePerTenant;
+    this.queueTimeoutMs = queueTimeoutMs;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Runs the operation once the limits of the tenant of the request allow it.
+   *
+   * @param requestContext request context with the tenant header
+   * @param operation      service operation
+   * @return future with the operation result or 429 failure if the operation was rejected
+   */
+  public <T> Future<T> submit(RequestContext requestContext, Supplier<Future<T>> operation) {
+    if (!enabled) {
+      return call(operation);
+    }
+    String tenant = getTenant(requestContext);
+    TenantQueue tenantQueue = tenants.computeIfAbsent(tenant, this::create);
+    Waiter waiter = null;
+    boolean admitted = false;
+    synchronized (this) {
+      if (canStart(tenantQueue) && tenantQueue.queue.isEmpty()) {
+        start(tenantQueue);
+        admitted = true;
+      } else if (tenantQueue.queue.size() < maxQueueSizePerTenant) {
+        waiter = new Waiter(requestContext.getContext());
+        enqueue(tenantQueue, waiter);
+      }
+    }
+    if (admitted) {
+      return run(tenantQueue, operation);
+    }
+    if (waiter == null) {
+      return Future.failedFuture(rejection(tenantQueue, "queue is full"));
+    }
+    return await(tenantQueue, waiter, operation);
+  }
+
+  private <T> Future<T> await(TenantQueue tenantQueue, Waiter waiter, Supplier<Future<T>> operation) {
+    Context context = waiter.context;
+    long timerId = context.owner().setTimer(Math.max(1, queueTimeoutMs), id -> {
+      if (remove(tenantQueue, waiter)) {
+        waiter.permit.fail(rejection(tenantQueue, "queue timeout exceeded"));
+      }
+    });
+    return waiter.permit.future()
+      .compose(v -> {
+        context.owner().cancelTimer(timerId);
+        return run(tenantQueue, operation);
+      });
+  }
+
+  private <T> Future<T> run(TenantQueue tenantQueue, Supplier<Future<T>> operation) {
+    return call(operation)
+      .onComplete(ar -> release(tenantQueue));
+  }
+
+  /**
+   * Calls the operation, turning an exception thrown by the supplier into a failed future.
+   */
+  private static <T> Future<T> call(Supplier<Future<T>> operation) {
+    return Future.future(promise -> operation.get().onComplete(promise));
+  }
+
+  private void release(TenantQueue completed) {
+    Waiter next;
+    synchronized (this) {
+      inFlight--;
+      completed.inFlight--;
+      next = pollNext();
+    }
+    if (next != null) {
+      next.context.runOnContext(v -> next.permit.complete());
+    }
+  }
+
+  /**
+   * Takes the first operation of the first waiting tenant below its limit and moves the tenant to the end of the line.
+   */
+  private Waiter pollNext() {
+    if (inFlight >= maxInFlight) {
+      return null;
+    }
+    for (int i = 0, size = waitingTenants.size(); i < size; i++) {
+      TenantQueue tenantQueue = waitingTenants.poll();
+      if (tenantQueue.inFlight < maxInFlightPerTenant) {
+        Waiter waiter = tenantQueue.queue.poll();
+        start(tenantQueue);
+        if (!tenantQueue.queue.isEmpty()) {
+          waitingTenants.add(tenantQueue);
+        }
+        return waiter;
+      }
+      waitingTenants.add(tenantQueue);
+    }
+    return null;
+  }
+
+  private boolean canStart(TenantQueue tenantQueue) {
+    return inFlight < maxInFlight && tenantQueue.inFlight < maxInFlightPerTenant;
+  }
+
+  private void start(TenantQueue tenantQueue) {
+    inFlight++;
+    tenantQueue.inFlight++;
+  }
+
+  private void enqueue(TenantQueue tenantQueue, Waiter waiter) {
+    if (tenantQueue.queue.isEmpty()) {
+      waitingTenants.add(tenantQueue);
+    }
+    tenantQueue.queue.add(waiter);
+  }
+
+  private synchronized boolean remove(TenantQueue tenantQueue, Waiter waiter) {
+    boolean removed = tenantQueue.queue.remove(waiter);
+    if (removed && tenantQueue.queue.isEmpty()) {
+      waitingTenants.remove(tenantQueue);
+    }
+    return removed;
+  }
+
+  private HttpException rejection(TenantQueue tenantQueue, String reason) {
+    log.warn("rejection:: Operation of tenant '{}' rejected, {}", tenantQueue.tenant, reason);
+    tenantQueue.rejected.increment();
+    return new HttpException(TOO_MANY_REQUESTS, TENANT_REQUESTS_LIMIT_EXCEEDED.toError()
+      .withAdditionalProperty(TENANT_TAG, tenantQueue.tenant));
+  }
+
+  private TenantQueue create(String tenant) {
+    TenantQueue tenantQueue = new TenantQueue(tenant, Counter.builder(REJECTED_METRIC)
+      .description("Operations rejected by the tenant scheduler")
+      .tag(TENANT_TAG, tenant)
+      .register(meterRegistry));
+    Gauge.builder(IN_FLIGHT_METRIC, tenantQueue, this::getInFlight)
+      .description("Operations of the tenant in flight")
+      .tag(TENANT_TAG, tenant)
+      .register(meterRegistry);
+    Gauge.builder(QUEUE_METRIC, tenantQueue, this::getQueueSize)
+      .description("Operations of the tenant waiting to start")
+      .tag(TENANT_TAG, tenant)
+      .register(meterRegistry);
+    return tenantQueue;
+  }
+
+  private synchronized int getInFlight(TenantQueue tenantQueue) {
+    return tenantQueue.inFlight;
+  }
+
+  private synchronized int getQueueSize(TenantQueue tenantQueue) {
+    return tenantQueue.queue.size();
+  }
+
+  private static String getTenant(RequestContext requestContext) {
+    String tenant = requestContext.getOutboundHeaders().get(OKAPI_HEADER_TENANT);
+    return tenant == null ? UNKNOWN_TENANT : tenant;
+  }
+
+  private static final class TenantQueue {
+
+    private final String tenant;
+    private final Counter rejected;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    private TenantQueue(String tenant, Counter rejected) {
+      this.tenant = tenant;
+      this.rejected = rejected;
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Context context;
+    private final Promise<Void> permit = Promise.promise();
+
+    private Waiter(Context context) {
+      this.context = context;
+    }
+  }
+}
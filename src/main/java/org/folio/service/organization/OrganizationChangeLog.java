@@ -0,0 +1,123 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.service.organization.TenantOrganizationIndex.isVisible;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.rest.client.RequestContext;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tombstones of the organizations deleted through this module instance, the deletes of the organization change feed.
+ * <p>
+ * Storage keeps no trace of a deleted organization, so the feed can only report the deletes this instance has seen. The
+ * tombstones of a tenant are kept in the order of their positions and the oldest are dropped when there are more than
+ * the limit, so a consumer resuming from an older position may miss deletes and should resynchronize in full. A
+ * tombstone keeps the acquisitions units of the deleted organization, so a delete is reported only to the users who
+ * could see the organization.
+ */
+@Log4j2
+public class OrganizationChangeLog {
+
+  private static final String UNKNOWN_TENANT = "unknown";
+  private static final String POSITION_SEPARATOR = "|";
+
+  private final int maxTombstonesPerTenant;
+  private final Map<String, NavigableMap<Position, List<String>>> tombstones = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxTombstonesPerTenant max number of tombstones kept for each tenant
+   */
+  public OrganizationChangeLog(int maxTombstonesPerTenant) {
+    this.maxTombstonesPerTenant = Math.max(0, maxTombstonesPerTenant);
+  }
+
+  /**
+   * Records the tombstone of an organization deleted now.
+   *
+   * @param id             deleted organization's id
+   * @param acqUnitIds     acquisitions units of the deleted organization
+   * @param requestContext request context with the tenant header
+   */
+  public void recordDelete(String id, List<String> acqUnitIds, RequestContext requestContext) {
+    if (maxTombstonesPerTenant == 0) {
+      return;
+    }
+    NavigableMap<Position, List<String>> tenantTombstones = tombstones.computeIfAbsent(getTenant(requestContext),
+      t -> new ConcurrentSkipListMap<>(Position.ORDER));
+    Position tombstone = new Position(Instant.now().truncatedTo(ChronoUnit.MILLIS), id);
+    tenantTombstones.put(tombstone, acqUnitIds == null ? List.of() : List.copyOf(acqUnitIds));
+    log.debug("recordDelete:: Recorded tombstone of organization '{}' deleted at {}", id, tombstone.date());
+    while (tenantTombstones.size() > maxTombstonesPerTenant) {
+      tenantTombstones.pollFirstEntry();
+    }
+  }
+
+  /**
+   * @param after           position to get the tombstones after
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param limit           max number of tombstones
+   * @param requestContext  request context with the tenant header
+   * @return tombstones of the tenant after the position of the organizations visible to the user, the oldest first
+   */
+  public List<Position> getDeletes(Position after, Collection<String> readableUnitIds, int limit,
+                                   RequestContext requestContext) {
+    NavigableMap<Position, List<String>> tenantTombstones = tombstones.get(getTenant(requestContext));
+    if (tenantTombstones == null) {
+      return List.of();
+    }
+    return tenantTombstones.tailMap(after, false).entrySet().stream()
+      .filter(tombstone -> isVisible(tombstone.getValue(), readableUnitIds))
+      .map(Map.Entry::getKey)
+      .limit(limit)
+      .toList();
+  }
+
+  private static String getTenant(RequestContext requestContext) {
+    String tenant = requestContext.getOutboundHeaders().get(OKAPI_HEADER_TENANT);
+    return tenant == null ? UNKNOWN_TENANT : tenant;
+  }
+
+  /**
+   * Position in the change feed: the update or delete date of an organization, with milliseconds precision, and its id
+   * to order the changes of the same millisecond. A position without id is before all changes of its date.
+   */
+  public record Position(Instant date, String id) {
+
+    public static final Comparator<Position> ORDER = Comparator.comparing(Position::date)
+      .thenComparing(Position::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    /**
+     * @return opaque cursor the position is resumed from
+     */
+    public String toCursor() {
+      String value = date.toEpochMilli() + (id == null ? "" : POSITION_SEPARATOR + id);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor cursor returned by {@link #toCursor()}
+     * @return position of the cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Position fromCursor(String cursor) {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String date = StringUtils.substringBefore(value, POSITION_SEPARATOR);
+      String id = StringUtils.substringAfter(value, POSITION_SEPARATOR);
+      return new Position(Instant.ofEpochMilli(Long.parseLong(date)), StringUtils.isEmpty(id) ? null : id);
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.client.EventLoopWatchdog.DUPLICATE_SCORE_PHASE;
+import static org.folio.service.organization.TenantOrganizationIndex.isVisible;
+import static org.folio.service.organization.TenantOrganizationIndex.normalize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationDuplicate;
+
+import io.vertx.core.Future;
+
+/**
+ * Per-tenant in-memory trigram index over normalized organization names, codes and ERP codes to find likely duplicates
+ * of an organization, e.g. "ACME Inc" and "Acme, Inc.".
+ * <p>
+ * Values are normalized to lower case words of letters and digits without diacritics, common legal forms such as
+ * "inc" or "gmbh" are dropped from names and the words of codes are joined. Each field is compared with the same field
+ * of the indexed organizations by the Jaccard similarity of the sets of their trigrams, counted from the posting lists
+ * of the trigrams of the candidate. The score of an organization is the best similarity of its fields.
+ */
+public class OrganizationDuplicateIndex {
+
+  public static final String DOCUMENTS_METRIC = "organizations.duplicates.documents";
+
+  private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Set<String> LEGAL_FORMS = Set.of("inc", "incorporated", "llc", "ltd", "limited", "co", "corp",
+    "corporation", "company", "gmbh", "ag", "sa", "srl", "bv", "plc", "the");
+  private static final int GRAM_SIZE = 3;
+
+  private final boolean enabled;
+  private final double minScore;
+  private final TenantOrganizationIndex organizationIndex;
+
+  /**
+   * @param enabled           whether duplicates are found with the index
+   * @param minScore          min similarity, from 0 to 1, of an organization reported as a duplicate
+   * @param organizationIndex indexes of organizations the duplicates index is loaded and updated with
+   */
+  public OrganizationDuplicateIndex(boolean enabled, double minScore, TenantOrganizationIndex organizationIndex) {
+    this.enabled = enabled;
+    this.minScore = minScore;
+    this.organizationIndex = organizationIndex;
+    if (enabled) {
+      organizationIndex.register(DOCUMENTS_METRIC, DuplicateIndex::new);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param candidate       organization to find duplicates of, an organization with the same id is not its duplicate
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param limit           max number of duplicates
+   * @param requestContext  request context with the tenant header
+   * @return future with the visible organizations similar to the candidate, the most similar first
+   */
+  public Future<List<OrganizationDuplicate>> find(Organization candidate, Collection<String> readableUnitIds, int limit,
+                                                  RequestContext requestContext) {
+    Set<String> units = new HashSet<>(readableUnitIds);
+    return organizationIndex.getIndex(DOCUMENTS_METRIC, DuplicateIndex.class, requestContext)
+      .map(index -> {
+        try (var section = requestContext.enterPhase(DUPLICATE_SCORE_PHASE)) {
+          return index.find(Document.of(candidate), units, minScore, limit);
+        }
+      });
+  }
+
+  /**
+   * Field compared with the same field of the indexed organizations.
+   */
+  enum Field {
+    NAME("name", Organization::getName, true),
+    CODE("code", Organization::getCode, false),
+    ERP_CODE("erpCode", Organization::getErpCode, false);
+
+    private final String value;
+    private final Function<Organization, String> getter;
+    private final boolean isName;
+
+    Field(String value, Function<Organization, String> getter, boolean isName) {
+      this.value = value;
+      this.getter = getter;
+      this.isName = isName;
+    }
+  }
+
+  static class DuplicateIndex implements TenantOrganizationIndex.Index {
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Field, Map<String, Set<String>>> postings = new EnumMap<>(Field.class);
+
+    DuplicateIndex() {
+      for (Field field : Field.values()) {
+        postings.put(field, new ConcurrentHashMap<>());
+      }
+    }
+
+    @Override
+    public void put(String id, Organization organization) {
+      Document previous = organization == null ? documents.remove(id) : documents.put(id, Document.of(organization));
+      if (previous != null) {
+        previous.grams.forEach((field, grams) -> grams.forEach(gram -> postings.get(field).computeIfPresent(gram,
+          (g, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+          })));
+      }
+      if (organization != null) {
+        documents.get(id).grams.forEach((field, grams) -> grams.forEach(gram -> postings.get(field)
+          .computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet())
+          .add(id)));
+      }
+    }
+
+    @Override
+    public int size() {
+      return documents.size();
+    }
+
+    List<OrganizationDuplicate> find(Document candidate, Set<String> readableUnitIds, double minScore, int limit) {
+      Map<String, Match> matches = new HashMap<>();
+      candidate.grams.forEach((field, grams) -> {
+        Map<String, Integer> shared = new HashMap<>();
+        grams.forEach(gram -> postings.get(field).getOrDefault(gram, Set.of())
+          .forEach(id -> shared.merge(id, 1, Integer::sum)));
+        shared.forEach((id, count) -> {
+          Document document = documents.get(id);
+          if (document == null || id.equals(candidate.id) || !document.grams.containsKey(field)) {
+            return;
+          }
+          double similarity = (double) count / (grams.size() + document.grams.get(field).size() - count);
+          if (similarity >= minScore) {
+            matches.computeIfAbsent(id, k -> new Match(document)).add(field, similarity);
+          }
+        });
+      });
+      return matches.values().stream()
+        .filter(match -> isVisible(match.document.acqUnitIds, readableUnitIds))
+        .sorted(Comparator.comparingDouble((Match match) -> match.score).reversed()
+          .thenComparing(match -> match.document.id))
+        .limit(Math.max(0, limit))
+        .map(Match::toDuplicate)
+        .toList();
+    }
+  }
+
+  /**
+   * Organization with the trigrams of its normalized fields, fields without letters or digits are not indexed.
+   */
+  record Document(String id, String name, String code, String erpCode, List<String> acqUnitIds,
+                  Map<Field, Set<String>> grams) {
+
+    static Document of(Organization organization) {
+      Map<Field, Set<String>> grams = new EnumMap<>(Field.class);
+      for (Field field : Field.values()) {
+        Set<String> fieldGrams = toGrams(field.getter.apply(organization), field.isName);
+        if (!fieldGrams.isEmpty()) {
+          grams.put(field, fieldGrams);
+        }
+      }
+      return new Document(organization.getId(), organization.getName(), organization.getCode(), organization.getErpCode(),
+        organization.getAcqUnitIds() == null ? List.of() : List.copyOf(organization.getAcqUnitIds()), grams);
+    }
+
+    /**
+     * @return trigrams of the words of a name, or of a code with its separators removed, padded with spaces
+     */
+    private static Set<String> toGrams(String value, boolean isName) {
+      List<String> words = new ArrayList<>(List.of(NON_ALPHANUMERIC.split(normalize(value))));
+      words.removeIf(String::isEmpty);
+      if (isName && words.stream().anyMatch(word -> !LEGAL_FORMS.contains(word))) {
+        words.removeIf(LEGAL_FORMS::contains);
+      }
+      if (words.isEmpty()) {
+        return Set.of();
+      }
+      String term = " " + String.join(isName ? " " : "", words) + " ";
+      Set<String> grams = new LinkedHashSet<>();
+      for (int i = 0; i + GRAM_SIZE <= term.length(); i++) {
+        grams.add(term.substring(i, i + GRAM_SIZE));
+      }
+      return grams;
+    }
+  }
+
+  private static class Match {
+    private final Document document;
+    private final List<String> fields = new ArrayList<>();
+    private double score;
+
+    Match(Document document) {
+      this.document = document;
+    }
+
+    void add(Field field, double similarity) {
+      fields.add(field.value);
+      score = Math.max(score, similarity);
+    }
+
+    OrganizationDuplicate toDuplicate() {
+      return new OrganizationDuplicate()
+        .withId(document.id)
+        .withName(document.name)
+        .withCode(document.code)
+        .withErpCode(document.erpCode)
+        .withScore(Math.round(score * 1000) / 1000.0)
+        .withMatchedFields(List.copyOf(fields));
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Create, update and delete events of the organizations written through this module instance, delivered to
+ * long-polling subscribers as server-sent events.
+ * <p>
+ * A subscription is identified by the tenant, the user and an id chosen by the client, and is created by its first
+ * poll. It buffers the events of the organizations visible to the user, with the acquisitions units the user could read
+ * at the last poll, until the next poll takes them. The buffer is bounded: a subscription whose buffer overflows drops
+ * its events and gets a reset event on its next poll, so a slow consumer never holds memory or delays the writers, and
+ * resynchronizes with the change feed instead. Subscriptions not polled for the idle timeout are removed. Delete
+ * events carry only the id and are delivered to the subscriptions that could see the organization before it was deleted.
+ */
+@Log4j2
+public class OrganizationEventBroker {
+
+  public static final String SUBSCRIPTIONS_METRIC = "organizations.events.subscriptions";
+  public static final String DROPPED_METRIC = "organizations.events.dropped";
+  public static final String TENANT_TAG = "tenant";
+  /**
+   * Time after which an event source reconnects once a poll has ended.
+   */
+  public static final long RETRY_MS = 1000;
+
+  private static final String UNKNOWN = "unknown";
+
+  private final boolean enabled;
+  private final int bufferSize;
+  private final long idleTimeoutNanos;
+  private final MeterRegistry meterRegistry;
+  private final Counter dropped;
+  private final Map<String, TenantSubscriptions> tenants = new ConcurrentHashMap<>();
+
+  /**
+   * @param enabled       whether events are delivered
+   * @param bufferSize    max number of events buffered for a subscription before it is dropped
+   * @param idleTimeoutMs time after its last poll a subscription is removed
+   * @param meterRegistry registry of the event meters
+   */
+  public OrganizationEventBroker(boolean enabled, int bufferSize, long idleTimeoutMs, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.bufferSize = Math.max(1, bufferSize);
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, idleTimeoutMs));
+    this.meterRegistry = meterRegistry;
+    this.dropped = Counter.builder(DROPPED_METRIC)
+      .description("Organization event subscriptions dropped for overflowing their buffers")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Delivers the event of a written organization to the subscriptions of the tenant that can see it.
+   *
+   * @param type           event type
+   * @param id             organization's id
+   * @param organization   created, updated or deleted organization, null to deliver a delete to all subscriptions
+   * @param requestContext request context with the tenant header
+   */
+  public void publish(EventType type, String id, Organization organization, RequestContext requestContext) {
+    if (!enabled) {
+      return;
+    }
+    TenantSubscriptions tenantSubscriptions = tenants.get(getTenant(requestContext));
+    if (tenantSubscriptions == null || tenantSubscriptions.subscriptions.isEmpty()) {
+      return;
+    }
+    Event event = new Event(tenantSubscriptions.sequence.incrementAndGet(), type, encode(type, id, organization));
+    long now = System.nanoTime();
+    for (Subscription subscription : tenantSubscriptions.subscriptions.values()) {
+      if (subscription.isIdle(now)) {
+        tenantSubscriptions.subscriptions.remove(subscription.key, subscription);
+      } else if (organization == null || TenantOrganizationIndex.isVisible(organization.getAcqUnitIds(), subscription.readableUnitIds)) {
+        subscription.offer(event);
+      }
+    }
+  }
+
+  /**
+   * Takes the buffered events of the subscription, waiting for the first event if there are none.
+   *
+   * @param subscriptionId  id of the subscription chosen by the client
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param maxEvents       max number of events
+   * @param waitMs          max time to wait for an event
+   * @param requestContext  request context with the tenant and user headers
+   * @return future with the events, empty if none came while waiting
+   */
+  public Future<Poll> poll(String subscriptionId, Collection<String> readableUnitIds, int maxEvents, long waitMs,
+                           RequestContext requestContext) {
+    if (!enabled) {
+      return Future.succeededFuture(new Poll(List.of(), false));
+    }
+    String tenant = getTenant(requestContext);
+    TenantSubscriptions tenantSubscriptions = tenants.computeIfAbsent(tenant, this::create);
+    long now = System.nanoTime();
+    tenantSubscriptions.subscriptions.values().removeIf(subscription -> subscription.isIdle(now));
+    String key = getUser(requestContext) + ":" + subscriptionId;
+    Subscription subscription = tenantSubscriptions.subscriptions.computeIfAbsent(key, Subscription::new);
+    subscription.readableUnitIds = Set.copyOf(readableUnitIds);
+    Promise<Void> waiter;
+    Promise<Void> previousWaiter;
+    synchronized (subscription) {
+      subscription.lastPollNanos = System.nanoTime();
+      if (subscription.overflowed || !subscription.buffer.isEmpty() || waitMs <= 0) {
+        return Future.succeededFuture(subscription.drain(maxEvents));
+      }
+      previousWaiter = subscription.waiter;
+      waiter = Promise.promise();
+      subscription.waiter = waiter;
+      subscription.waiterContext = requestContext.getContext();
+    }
+    if (previousWaiter != null) {
+      previousWaiter.tryComplete();
+    }
+    Context context = requestContext.getContext();
+    long timerId = context.owner().setTimer(waitMs, id -> waiter.tryComplete());
+    return waiter.future()
+      .map(v -> {
+        context.owner().cancelTimer(timerId);
+        return subscription.drainAfterWait(waiter, maxEvents);
+      });
+  }
+
+  private TenantSubscriptions create(String tenant) {
+    TenantSubscriptions tenantSubscriptions = new TenantSubscriptions();
+    Gauge.builder(SUBSCRIPTIONS_METRIC, tenantSubscriptions.subscriptions, Map::size)
+      .description("Organization event subscriptions of this instance")
+      .tag(TENANT_TAG, tenant)
+      .register(meterRegistry);
+    return tenantSubscriptions;
+  }
+
+  private static String encode(EventType type, String id, Organization organization) {
+    JsonObject data = new JsonObject()
+      .put("id", id)
+      .put("type", type.value())
+      .put("date", Instant.now().truncatedTo(ChronoUnit.MILLIS).toString());
+    if (organization != null && type != EventType.DELETE) {
+      data.put("organization", JsonObject.mapFrom(organization));
+    }
+    return data.encode();
+  }
+
+  private static String getTenant(RequestContext requestContext) {
+    String tenant = requestContext.getOutboundHeaders().get(OKAPI_HEADER_TENANT);
+    return tenant == null ? UNKNOWN : tenant;
+  }
+
+  private static String getUser(RequestContext requestContext) {
+    String user = requestContext.getOutboundHeaders().get(OKAPI_USERID_HEADER);
+    return user == null ? UNKNOWN : user;
+  }
+
+  public enum EventType {
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String value;
+
+    EventType(String value) {
+      this.value = value;
+    }
+
+    public String value() {
+      return value;
+    }
+  }
+
+  /**
+   * @param sequence number of the event among the events of the tenant on this instance
+   * @param type     event type
+   * @param data     JSON of the event
+   */
+  public record Event(long sequence, EventType type, String data) {
+  }
+
+  /**
+   * @param events events taken from the subscription, the oldest first
+   * @param reset  whether events were dropped since the previous poll, so the consumer has to resynchronize
+   */
+  public record Poll(List<Event> events, boolean reset) {
+
+    /**
+     * @return events in the {@code text/event-stream} format, ending with a comment when there are none
+     */
+    public String toEventStream() {
+      StringBuilder stream = new StringBuilder("retry: ").append(RETRY_MS).append("\n\n");
+      if (reset) {
+        stream.append("event: reset\ndata: {\"reason\":\"overflow\"}\n\n");
+      }
+      for (Event event : events) {
+        stream.append("id: ").append(event.sequence()).append('\n')
+          .append("event: ").append(event.type().value()).append('\n')
+          .append("data: ").append(event.data()).append("\n\n");
+      }
+      if (!reset && events.isEmpty()) {
+        stream.append(": no events\n\n");
+      }
+      return stream.toString();
+    }
+  }
+
+  private static final class TenantSubscriptions {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+  }
+
+  private final class Subscription {
+
+    private final String key;
+    private final Deque<Event> buffer = new ArrayDeque<>();
+    private volatile Set<String> readableUnitIds = Set.of();
+    private boolean overflowed;
+    private long lastPollNanos = System.nanoTime();
+    private Promise<Void> waiter;
+    private Context waiterContext;
+
+    private Subscription(String key) {
+      this.key = key;
+    }
+
+    void offer(Event event) {
+      Promise<Void> waiting;
+      Context context;
+      synchronized (this) {
+        if (overflowed) {
+          return;
+        }
+        if (buffer.size() >= bufferSize) {
+          buffer.clear();
+          overflowed = true;
+          dropped.increment();
+          log.warn("offer:: Dropped events of subscription '{}' that overflowed its buffer of {} events", key, bufferSize);
+        } else {
+          buffer.add(event);
+        }
+        waiting = waiter;
+        context = waiterContext;
+        waiter = null;
+        waiterContext = null;
+      }
+      if (waiting != null) {
+        context.runOnContext(v -> waiting.tryComplete());
+      }
+    }
+
+    synchronized Poll drain(int maxEvents) {
+      lastPollNanos = System.nanoTime();
+      if (overflowed) {
+        overflowed = false;
+        return new Poll(List.of(), true);
+      }
+      List<Event> events = new ArrayList<>(Math.min(maxEvents, buffer.size()));
+      while (events.size() < maxEvents && !buffer.isEmpty()) {
+        events.add(buffer.poll());
+      }
+      return new Poll(events, false);
+    }
+
+    /**
+     * Drains the buffer once the waiter of a poll completed, by an event or its timer, and releases the waiter so the
+     * subscription can become idle.
+     */
+    synchronized Poll drainAfterWait(Promise<Void> completedWaiter, int maxEvents) {
+      if (waiter == completedWaiter) {
+        waiter = null;
+        waiterContext = null;
+      }
+      return drain(maxEvents);
+    }
+
+    synchronized boolean isIdle(long now) {
+      return waiter == null && now - lastPollNanos > idleTimeoutNanos;
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.client.EventLoopWatchdog.FACET_COUNT_PHASE;
+import static org.folio.service.organization.TenantOrganizationIndex.isVisible;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationFacet;
+import org.folio.rest.jaxrs.model.OrganizationFacetCollection;
+import org.folio.rest.jaxrs.model.OrganizationFacetValue;
+import org.folio.util.CqlNode;
+
+import io.vertx.core.Future;
+
+/**
+ * Per-tenant in-memory aggregate of organizations by status, vendor flag, organization types and acquisitions units,
+ * serving the counts of the values of these fields for list filters.
+ * <p>
+ * Organizations are not kept, only the number of organizations of each combination of the fields, so the aggregate
+ * stays small and a write changes two counts. A query is matched against the combinations when it only uses the
+ * aggregated fields with {@code =}, {@code ==} or {@code <>} relations and exact terms, other queries are counted by
+ * storage, see {@link #isSupported(CqlNode)}.
+ */
+public class OrganizationFacetIndex {
+
+  public static final String DOCUMENTS_METRIC = "organizations.facets.documents";
+
+  private static final String ALL_RECORDS_INDEX = "cql.allrecords";
+
+  private final boolean enabled;
+  private final TenantOrganizationIndex organizationIndex;
+
+  /**
+   * @param enabled           whether facets are counted with the aggregate
+   * @param organizationIndex indexes of organizations the aggregate is loaded and updated with
+   */
+  public OrganizationFacetIndex(boolean enabled, TenantOrganizationIndex organizationIndex) {
+    this.enabled = enabled;
+    this.organizationIndex = organizationIndex;
+    if (enabled) {
+      organizationIndex.register(DOCUMENTS_METRIC, FacetIndex::new);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param query parsed query, {@code null} for all organizations
+   * @return whether the organizations matching the query can be counted with the aggregate
+   */
+  public static boolean isSupported(CqlNode query) {
+    return query == null || toFilter(query) != null;
+  }
+
+  /**
+   * @param query           parsed query supported by the aggregate, {@code null} for all organizations
+   * @param facets          fields to count the values of
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param rebuild         whether to load the aggregate from storage again before counting
+   * @param requestContext  request context with the tenant header
+   * @return future with the value counts of the visible organizations matching the query
+   */
+  public Future<OrganizationFacetCollection> count(CqlNode query, Collection<Facet> facets,
+                                                   Collection<String> readableUnitIds, boolean rebuild,
+                                                   RequestContext requestContext) {
+    Predicate<Bucket> filter = query == null ? bucket -> true : toFilter(query);
+    if (filter == null) {
+      return Future.failedFuture(new IllegalArgumentException("Query is not supported by the facets index: " + query.toCql()));
+    }
+    Set<String> units = new HashSet<>(readableUnitIds);
+    return organizationIndex.getIndex(DOCUMENTS_METRIC, FacetIndex.class, requestContext, rebuild)
+      .map(index -> {
+        try (var section = requestContext.enterPhase(FACET_COUNT_PHASE)) {
+          return index.count(filter, facets, units);
+        }
+      });
+  }
+
+  /**
+   * @param facet           field to get the values of
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param requestContext  request context with the tenant header
+   * @return future with the values of the field the visible organizations have
+   */
+  public Future<Set<String>> getValues(Facet facet, Collection<String> readableUnitIds, RequestContext requestContext) {
+    Set<String> units = new HashSet<>(readableUnitIds);
+    return organizationIndex.getIndex(DOCUMENTS_METRIC, FacetIndex.class, requestContext)
+      .map(index -> {
+        try (var section = requestContext.enterPhase(FACET_COUNT_PHASE)) {
+          return index.count(bucket -> true, List.of(facet), units).getFacets().get(0).getValues().stream()
+            .map(OrganizationFacetValue::getValue)
+            .collect(Collectors.toSet());
+        }
+      });
+  }
+
+  /**
+   * @return filter of the combinations matching the query or {@code null} if the query uses anything but the aggregated
+   * fields with exact terms
+   */
+  private static Predicate<Bucket> toFilter(CqlNode query) {
+    if (query instanceof CqlNode.Sorted sorted) {
+      return toFilter(sorted.query());
+    }
+    if (query instanceof CqlNode.Bool bool) {
+      Predicate<Bucket> left = toFilter(bool.left());
+      Predicate<Bucket> right = toFilter(bool.right());
+      if (left == null || right == null || !bool.modifiers().isEmpty()) {
+        return null;
+      }
+      return switch (bool.operator()) {
+        case "and" -> left.and(right);
+        case "or" -> left.or(right);
+        case "not" -> left.and(right.negate());
+        default -> null;
+      };
+    }
+    return toFilter((CqlNode.Clause) query);
+  }
+
+  private static Predicate<Bucket> toFilter(CqlNode.Clause clause) {
+    if (clause.index() == null || !clause.modifiers().isEmpty()) {
+      return null;
+    }
+    List<String> terms = new ArrayList<>();
+    for (CqlNode.Term term : clause.terms()) {
+      if (!isExact(term.value())) {
+        return null;
+      }
+      terms.add(term.value().toLowerCase(Locale.ROOT));
+    }
+    String index = clause.index().toLowerCase(Locale.ROOT);
+    if (ALL_RECORDS_INDEX.equals(index)) {
+      return "=".equals(clause.relation()) && terms.equals(List.of("1")) ? bucket -> true : null;
+    }
+    Facet facet = Facet.byIndex(index);
+    if (facet == null) {
+      return null;
+    }
+    Predicate<Bucket> matchesAll = bucket -> terms.stream().allMatch(term -> facet.getValues(bucket).contains(term));
+    Predicate<Bucket> matchesAny = bucket -> terms.stream().anyMatch(term -> facet.getValues(bucket).contains(term));
+    Predicate<Bucket> matches = "and".equals(clause.termOperator()) ? matchesAll : matchesAny;
+    return switch (clause.relation()) {
+      case "=", "==" -> matches;
+      case "<>" -> matches.negate();
+      default -> null;
+    };
+  }
+
+  /**
+   * @return whether a term matches only itself, i.e. has no masking characters and no escapes
+   */
+  private static boolean isExact(String term) {
+    return !term.isEmpty() && term.chars().noneMatch(c -> c == '*' || c == '?' || c == '^' || c == '\\');
+  }
+
+  /**
+   * Field the values of which are counted.
+   */
+  public enum Facet {
+    STATUS("status", bucket -> bucket.status == null ? List.of() : List.of(bucket.status)),
+    IS_VENDOR("isVendor", bucket -> List.of(bucket.isVendor)),
+    ORGANIZATION_TYPES("organizationTypes", Bucket::organizationTypes);
+
+    private final String value;
+    private final Function<Bucket, List<String>> getter;
+
+    Facet(String value, Function<Bucket, List<String>> getter) {
+      this.value = value;
+      this.getter = getter;
+    }
+
+    public String value() {
+      return value;
+    }
+
+    /**
+     * @return facet with the name, {@code null} if there is no such facet
+     */
+    public static Facet fromValue(String value) {
+      for (Facet facet : values()) {
+        if (facet.value.equals(value)) {
+          return facet;
+        }
+      }
+      return null;
+    }
+
+    private static Facet byIndex(String index) {
+      for (Facet facet : values()) {
+        if (facet.value.toLowerCase(Locale.ROOT).equals(index)) {
+          return facet;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * @return values in lower case as CQL matches them
+     */
+    private List<String> getValues(Bucket bucket) {
+      return getter.apply(bucket).stream().map(value -> value.toLowerCase(Locale.ROOT)).toList();
+    }
+  }
+
+  static class FacetIndex implements TenantOrganizationIndex.Index {
+    private final Map<String, Bucket> documents = new ConcurrentHashMap<>();
+    private final Map<Bucket, Integer> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String id, Organization organization) {
+      Bucket previous = organization == null ? documents.remove(id) : documents.put(id, Bucket.of(organization));
+      if (previous != null) {
+        counts.computeIfPresent(previous, (bucket, count) -> count == 1 ? null : count - 1);
+      }
+      if (organization != null) {
+        counts.merge(documents.get(id), 1, Integer::sum);
+      }
+    }
+
+    @Override
+    public int size() {
+      return documents.size();
+    }
+
+    OrganizationFacetCollection count(Predicate<Bucket> filter, Collection<Facet> facets, Set<String> readableUnitIds) {
+      Map<Facet, Map<String, Integer>> values = new EnumMap<>(Facet.class);
+      facets.forEach(facet -> values.put(facet, new HashMap<>()));
+      int total = 0;
+      for (Map.Entry<Bucket, Integer> entry : counts.entrySet()) {
+        Bucket bucket = entry.getKey();
+        if (isVisible(bucket.acqUnitIds, readableUnitIds) && filter.test(bucket)) {
+          int count = entry.getValue();
+          total += count;
+          values.forEach((facet, facetValues) -> facet.getter.apply(bucket)
+            .forEach(value -> facetValues.merge(value, count, Integer::sum)));
+        }
+      }
+      List<OrganizationFacet> result = new ArrayList<>();
+      values.forEach((facet, facetValues) -> result.add(toFacet(facet, facetValues)));
+      return new OrganizationFacetCollection()
+        .withFacets(result)
+        .withTotalRecords(total);
+    }
+  }
+
+  /**
+   * @return facet with the values ordered by count, the most frequent first, and by value
+   */
+  static OrganizationFacet toFacet(Facet facet, Map<String, Integer> counts) {
+    return new OrganizationFacet()
+      .withName(facet.value)
+      .withValues(counts.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+          .thenComparing(Map.Entry.comparingByKey()))
+        .map(entry -> new OrganizationFacetValue().withValue(entry.getKey()).withCount(entry.getValue()))
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Combination of the aggregated fields, organization types and acquisitions units are sorted so that organizations
+   * with the same fields share a combination.
+   */
+  record Bucket(String status, String isVendor, List<String> organizationTypes, List<String> acqUnitIds) {
+
+    static Bucket of(Organization organization) {
+      return new Bucket(organization.getStatus() == null ? null : organization.getStatus().value(),
+        String.valueOf(Boolean.TRUE.equals(organization.getIsVendor())),
+        organization.getOrganizationTypes() == null ? List.of() : organization.getOrganizationTypes().stream().distinct().sorted().toList(),
+        organization.getAcqUnitIds() == null ? List.of() : organization.getAcqUnitIds().stream().distinct().sorted().toList());
+    }
+  }
+}
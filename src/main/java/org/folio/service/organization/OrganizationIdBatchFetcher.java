@@ -0,0 +1,154 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.client.ServerTiming.STORAGE_PHASE;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.ID;
+import static org.folio.util.RestUtils.buildQuery;
+import static org.folio.util.RestUtils.convertIdsToCqlQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.collections4.ListUtils;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RestClient;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.util.CqlNode;
+import org.folio.util.CqlNode.Clause;
+import org.folio.util.CqlNode.Term;
+
+import io.vertx.core.Future;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs queries for long lists of organization ids, {@code id==(a or b or ...)}, as parallel storage queries of chunks
+ * of ids instead of one slow query with a URL that may exceed the length limits on the way to storage. The chunks are
+ * sent in windows of a bounded number of parallel queries, one window after the other, so a single request for
+ * thousands of ids does not flood storage.
+ * <p>
+ * The records are merged in the order of the requested ids and filtered by acquisitions units locally, the way the
+ * units clause of a regular collection query does: a record is visible when it has no units or at least one unit
+ * the user can read. Offset and limit are applied to the visible records.
+ */
+@Log4j2
+public class OrganizationIdBatchFetcher {
+
+  private static final Set<String> ID_RELATIONS = Set.of("==", "=");
+  private static final String OR = "or";
+
+  private final int minIds;
+  private final int chunkSize;
+  private final int maxChunksInFlight;
+  private final RestClient restClient;
+
+  /**
+   * @param minIds            min number of ids for a query to be fetched in chunks, 0 or less disables chunking
+   * @param chunkSize         max number of ids queried in one storage request
+   * @param maxChunksInFlight max number of chunks queried in parallel
+   * @param restClient        storage client
+   */
+  public OrganizationIdBatchFetcher(int minIds, int chunkSize, int maxChunksInFlight, RestClient restClient) {
+    this.minIds = minIds;
+    this.chunkSize = Math.max(1, chunkSize);
+    this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+    this.restClient = restClient;
+  }
+
+  /**
+   * @param query parsed query, may be {@code null}
+   * @return distinct requested ids in the requested order if the query is a plain id list long enough to be fetched
+   * in chunks, empty list otherwise
+   */
+  public List<String> getRequestedIds(CqlNode query) {
+    if (minIds <= 0 || !(query instanceof Clause clause) || clause.terms().size() < minIds
+      || !ID.equals(clause.index()) || !ID_RELATIONS.contains(clause.relation()) || !clause.modifiers().isEmpty()
+      || !OR.equals(clause.termOperator())) {
+      return List.of();
+    }
+    Set<String> ids = new LinkedHashSet<>();
+    for (Term term : clause.terms()) {
+      if (!isExactValue(term.value())) {
+        return List.of();
+      }
+      ids.add(term.value());
+    }
+    return ids.size() < minIds ? List.of() : List.copyOf(ids);
+  }
+
+  /**
+   * @param ids             requested ids
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param offset          offset in the visible records
+   * @param limit           max number of records returned
+   * @param requestContext  request context
+   * @return future with the visible records in the requested order
+   */
+  public Future<OrganizationCollection> fetch(List<String> ids, Collection<String> readableUnitIds, int offset, int limit,
+                                              RequestContext requestContext) {
+    List<List<String>> chunks = ListUtils.partition(ids, chunkSize);
+    log.debug("fetch:: Fetching {} organizations in {} chunks, {} at a time", ids.size(), chunks.size(), maxChunksInFlight);
+    Map<String, Organization> found = new HashMap<>();
+    return fetchWindows(ListUtils.partition(chunks, maxChunksInFlight), 0, found, requestContext)
+      .map(v -> merge(ids, found, new HashSet<>(readableUnitIds), offset, limit));
+  }
+
+  /**
+   * Queries the chunks of a window in parallel and the next window once they are all done.
+   */
+  private Future<Void> fetchWindows(List<List<List<String>>> windows, int window, Map<String, Organization> found,
+                                    RequestContext requestContext) {
+    if (window == windows.size()) {
+      return Future.succeededFuture();
+    }
+    List<Future<OrganizationCollection>> results = new ArrayList<>();
+    for (List<String> chunk : windows.get(window)) {
+      String endpoint = String.format(GET_ORGANIZATIONS_BY_QUERY, chunk.size(), 0, buildQuery(convertIdsToCqlQuery(chunk)));
+      results.add(requestContext.getServerTiming()
+        .measure(STORAGE_PHASE, () -> restClient.get(endpoint, OrganizationCollection.class, requestContext)));
+    }
+    return Future.all(results)
+      .compose(v -> {
+        results.forEach(result -> result.result().getOrganizations()
+          .forEach(organization -> found.put(organization.getId(), organization)));
+        return fetchWindows(windows, window + 1, found, requestContext);
+      });
+  }
+
+  private static OrganizationCollection merge(List<String> ids, Map<String, Organization> found,
+                                              Set<String> readableUnitIds, int offset, int limit) {
+    List<Organization> visible = ids.stream()
+      .map(found::get)
+      .filter(Objects::nonNull)
+      .filter(organization -> TenantOrganizationIndex.isVisible(organization.getAcqUnitIds(), readableUnitIds))
+      .toList();
+    int from = Math.min(Math.max(0, offset), visible.size());
+    int to = (int) Math.min((long) from + Math.max(0, limit), visible.size());
+    return new OrganizationCollection()
+      .withOrganizations(new ArrayList<>(visible.subList(from, to)))
+      .withTotalRecords(visible.size());
+  }
+
+  /**
+   * @return whether the term matches a single id, i.e. has no masking characters or escapes
+   */
+  private static boolean isExactValue(String value) {
+    if (value.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '*' || c == '?' || c == '^' || c == '\\' || Character.isWhitespace(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
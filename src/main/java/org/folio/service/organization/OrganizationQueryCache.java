@@ -0,0 +1,117 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Short-lived cache of organization collection query results.
+ * <p>
+ * Results are keyed by the tenant, the canonical user query, the acquisitions units clause of the user, offset and
+ * limit, so users with different unit memberships never share an entry. They are kept as encoded JSON, which is both
+ * the weight counted against the payload limit and a copy that callers cannot modify. Any organization write through
+ * the module moves its tenant to a new generation: entries of the previous generation are dropped, and results of
+ * queries that were still running during the write are stored under the old generation and never served.
+ * <p>
+ * Hits, misses, evictions and the cache size are reported with the Micrometer Caffeine cache metrics.
+ */
+@Log4j2
+public class OrganizationQueryCache {
+
+  public static final String CACHE_NAME = "organizations.query";
+
+  private static final String UNKNOWN_TENANT = "unknown";
+
+  private final boolean enabled;
+  private final Cache<Key, Buffer> cache;
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  /**
+   * @param enabled         whether query results are cached
+   * @param ttlMs           time a result is served from the cache after it was loaded
+   * @param maxPayloadBytes max total size of the cached results
+   * @param meterRegistry   registry of the cache meters
+   */
+  public OrganizationQueryCache(boolean enabled, long ttlMs, long maxPayloadBytes, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache = Caffeine.newBuilder()
+      .expireAfterWrite(Duration.ofMillis(Math.max(1, ttlMs)))
+      .maximumWeight(Math.max(0, maxPayloadBytes))
+      .weigher((Key key, Buffer payload) -> payload.length())
+      .recordStats()
+      .build();
+    if (enabled) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+  }
+
+  /**
+   * Returns the cached result of the query or loads and caches it.
+   *
+   * @param query          user query in the canonical form of {@link org.folio.util.CqlCanonicalizer}
+   * @param acqUnitsClause acquisitions units clause the query is combined with
+   * @param offset         offset
+   * @param limit          limit
+   * @param requestContext request context with the tenant header
+   * @param loader         loads the result from the storage
+   * @return future with the query result
+   */
+  public Future<OrganizationCollection> get(String query, String acqUnitsClause, int offset, int limit,
+                                            RequestContext requestContext, Supplier<Future<OrganizationCollection>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    String tenant = getTenant(requestContext);
+    Key key = new Key(tenant, getGeneration(tenant).get(), query, acqUnitsClause, offset, limit);
+    Buffer payload = cache.getIfPresent(key);
+    if (payload != null) {
+      log.debug("get:: Serving organizations of tenant '{}' for query '{}' from cache", tenant, query);
+      return Future.succeededFuture(Json.decodeValue(payload, OrganizationCollection.class));
+    }
+    return loader.get()
+      .onSuccess(collection -> cache.put(key, Json.encodeToBuffer(collection)));
+  }
+
+  /**
+   * Drops the cached results of the tenant of the request, called after an organization was written.
+   *
+   * @param requestContext request context with the tenant header
+   */
+  public void invalidate(RequestContext requestContext) {
+    if (!enabled) {
+      return;
+    }
+    String tenant = getTenant(requestContext);
+    getGeneration(tenant).incrementAndGet();
+    cache.asMap().keySet().removeIf(key -> key.tenant().equals(tenant));
+  }
+
+  private AtomicLong getGeneration(String tenant) {
+    return generations.computeIfAbsent(tenant, t -> new AtomicLong());
+  }
+
+  private static String getTenant(RequestContext requestContext) {
+    String tenant = requestContext.getOutboundHeaders().get(OKAPI_HEADER_TENANT);
+    return tenant == null ? UNKNOWN_TENANT : tenant;
+  }
+
+  private record Key(String tenant, long generation, String query, String acqUnitsClause, int offset, int limit) {
+  }
+}
@@ -1,11 +1,14 @@
 package org.folio.service.organization;
 
-import java.util.Map;
-
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.CompositeOrganization;
 import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationChangeCollection;
 import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationDuplicateCollection;
+import org.folio.rest.jaxrs.model.OrganizationFacetCollection;
+import org.folio.rest.jaxrs.model.OrganizationSuggestionCollection;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 
 public interface OrganizationService {
@@ -13,54 +16,112 @@ public interface OrganizationService {
   /**
    * This method creates {@link Organization}
    *
-   * @param organization organization
-   * @param context      Vert.X context
-   * @param headers      OKAPI headers
+   * @param organization   organization
+   * @param requestContext request context
    * @return created {@link Organization}
    */
-  Future<Organization> createOrganization(Organization organization, Context context, Map<String, String> headers);
+  Future<Organization> createOrganization(Organization organization, RequestContext requestContext);
 
   /**
    * This method returns {@link Organization} by ID
    *
-   * @param id      organization's id
-   * @param context Vert.X context
-   * @param headers OKAPI headers
+   * @param id             organization's id
+   * @param requestContext request context
    * @return {@link Organization}
    */
-  Future<Organization> getOrganizationById(String id, Context context, Map<String, String> headers);
+  Future<Organization> getOrganizationById(String id, RequestContext requestContext);
+
+  /**
+   * This method returns {@link Organization} by ID with its banking information, fetched concurrently with the
+   * organization and its acquisitions units check
+   *
+   * @param id             organization's id
+   * @param requestContext request context
+   * @return {@link CompositeOrganization}
+   */
+  Future<CompositeOrganization> getOrganizationWithBankingInformationById(String id, RequestContext requestContext);
 
   /**
    * This method returns {@link OrganizationCollection} by query
    *
-   * @param offset  offset
-   * @param limit   limit
-   * @param query   query
-   * @param context Vert.X context
-   * @param headers OKAPI headers
+   * @param offset         offset
+   * @param limit          limit
+   * @param query          query
+   * @param requestContext request context
    * @return collection of organizations {@link OrganizationCollection}
    */
-  Future<OrganizationCollection> getOrganizationCollection(int offset, int limit, String query,
-      Context context, Map<String, String> headers);
+  Future<OrganizationCollection> getOrganizationCollection(int offset, int limit, String query, RequestContext requestContext);
+
+  /**
+   * This method returns organizations with a name, code or alias starting with the prefix
+   *
+   * @param prefix         prefix
+   * @param limit          limit
+   * @param requestContext request context
+   * @return suggested organizations {@link OrganizationSuggestionCollection}
+   */
+  Future<OrganizationSuggestionCollection> getOrganizationSuggestions(String prefix, int limit, RequestContext requestContext);
+
+  /**
+   * This method returns organizations that are likely duplicates of {@link Organization}
+   *
+   * @param organization   candidate organization
+   * @param limit          limit
+   * @param requestContext request context
+   * @return likely duplicates {@link OrganizationDuplicateCollection}
+   */
+  Future<OrganizationDuplicateCollection> findOrganizationDuplicates(Organization organization, int limit, RequestContext requestContext);
+
+  /**
+   * This method returns counts of the status, isVendor and organizationTypes values of organizations matching the query
+   *
+   * @param query          query
+   * @param facets         comma separated fields to count the values of
+   * @param rebuild        whether to rebuild the aggregate of the tenant before counting
+   * @param requestContext request context
+   * @return counts of the values {@link OrganizationFacetCollection}
+   */
+  Future<OrganizationFacetCollection> getOrganizationFacets(String query, String facets, boolean rebuild, RequestContext requestContext);
+
+  /**
+   * This method returns organizations updated and deleted after a position, the oldest change first
+   *
+   * @param since          date to get the changes at or after, ignored if the cursor is set
+   * @param cursor         cursor of the position to get the changes after
+   * @param limit          limit
+   * @param requestContext request context
+   * @return changes and the cursor of the next page {@link OrganizationChangeCollection}
+   */
+  Future<OrganizationChangeCollection> getOrganizationChanges(String since, String cursor, int limit, RequestContext requestContext);
+
+  /**
+   * This method returns the events of organizations written through this instance since the previous poll of the
+   * subscription, waiting for the first event if there are none
+   *
+   * @param subscription   id of the subscription chosen by the client
+   * @param maxEvents      max number of events
+   * @param waitMs         max time to wait for an event
+   * @param requestContext request context
+   * @return events in the text/event-stream format
+   */
+  Future<String> pollOrganizationEvents(String subscription, int maxEvents, long waitMs, RequestContext requestContext);
 
   /**
    * This method updates {@link Organization} by ID
    *
-   * @param id      updated organization's id
-   * @param entity  updated {@link Organization} entity
-   * @param context Vert.X context
-   * @param headers OKAPI headers
+   * @param id             updated organization's id
+   * @param entity         updated {@link Organization} entity
+   * @param requestContext request context
    * @return void future
    */
-  Future<Void> updateOrganizationById(String id, Organization entity, Context context, Map<String, String> headers);
+  Future<Void> updateOrganizationById(String id, Organization entity, RequestContext requestContext);
 
   /**
    * This method deletes {@link Organization} by ID
    *
-   * @param id      deleted organization's id
-   * @param context Vert.X context
-   * @param headers OKAPI headers
+   * @param id             deleted organization's id
+   * @param requestContext request context
    * @return void future
    */
-  Future<Void> deleteOrganizationById(String id, Context context, Map<String, String> headers);
+  Future<Void> deleteOrganizationById(String id, RequestContext requestContext);
 }
@@ -2,7 +2,12 @@ package org.folio.service.organization;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.exception.ErrorCodes.ACCOUNT_NUMBER_MUST_BE_UNIQUE;
+import static org.folio.exception.ErrorCodes.INVALID_CHANGES_POSITION;
 import static org.folio.exception.ErrorCodes.MISMATCH_BETWEEN_ID_IN_PATH_AND_BODY;
+import static org.folio.rest.client.EventLoopWatchdog.CQL_PHASE;
+import static org.folio.rest.client.ServerTiming.STORAGE_PHASE;
+import static org.folio.rest.client.ServerTiming.UNITS_CLAUSE_PHASE;
+import static org.folio.service.protection.AcqDesiredPermissions.BANKING_INFORMATION_READ;
 import static org.folio.service.protection.ProtectedOperationType.READ;
 import static org.folio.util.ResourcePathResolver.ORGANIZATIONS;
 import static org.folio.util.ResourcePathResolver.resourceByIdPath;
@@ -11,9 +16,23 @@ import static org.folio.util.RestUtils.SEARCH_PARAMS;
 import static org.folio.util.RestUtils.buildQuery;
 import static org.folio.util.RestUtils.combineCqlExpressions;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -23,14 +42,31 @@ import org.folio.HttpStatus;
 import org.folio.exception.HttpException;
 import org.folio.rest.client.RequestContext;
 import org.folio.rest.client.RestClient;
+import org.folio.rest.client.ServerTiming;
 import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.BankingInformation;
+import org.folio.rest.jaxrs.model.BankingInformationCollection;
+import org.folio.rest.jaxrs.model.CompositeOrganization;
 import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationChange;
+import org.folio.rest.jaxrs.model.OrganizationChangeCollection;
 import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationDuplicate;
+import org.folio.rest.jaxrs.model.OrganizationDuplicateCollection;
+import org.folio.rest.jaxrs.model.OrganizationFacetCollection;
+import org.folio.rest.jaxrs.model.OrganizationSuggestion;
+import org.folio.rest.jaxrs.model.OrganizationSuggestionCollection;
+import org.folio.service.organization.OrganizationChangeLog.Position;
+import org.folio.service.organization.OrganizationEventBroker.EventType;
+import org.folio.service.organization.OrganizationEventBroker.Poll;
+import org.folio.service.organization.OrganizationFacetIndex.Facet;
 import org.folio.service.protection.AcquisitionsUnitsService;
 import org.folio.service.protection.ProtectionService;
+import org.folio.util.CqlCanonicalizer;
+import org.folio.util.CqlNode;
+import org.folio.util.CqlParser;
 import org.springframework.stereotype.Service;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 
 @Service
@@ -38,29 +74,82 @@ public class OrganizationStorageService implements OrganizationService {
 
   private static final Logger logger = LogManager.getLogger(OrganizationStorageService.class);
   public static final String GET_ORGANIZATIONS_BY_QUERY = resourcesPath(ORGANIZATIONS) + SEARCH_PARAMS;
+  private static final int DUPLICATES_ON_CREATE_LIMIT = 5;
+  private static final int BANKING_INFORMATION_LIMIT = 100;
+  private static final Pattern CQL_SPECIAL_CHARACTERS = Pattern.compile("[\\\\\"*?^]");
+  // metadata dates without the offset: a stored date of a millisecond sorts after this form of it and before the next
+  private static final DateTimeFormatter CHANGES_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+    .withZone(ZoneOffset.UTC);
 
   private final ProtectionService protectionService;
 
   private final RestClient restClient;
   private final AcquisitionsUnitsService acquisitionsUnitsService;
+  private final OrganizationQueryCache queryCache;
+  private final OrganizationIdBatchFetcher idBatchFetcher;
+  private final OrganizationSuggestIndex suggestIndex;
+  private final OrganizationDuplicateIndex duplicateIndex;
+  private final OrganizationFacetIndex facetIndex;
+  private final OrganizationChangeLog changeLog;
+  private final OrganizationEventBroker eventBroker;
+  private final BankingInformationService bankingInformationService;
+  private final boolean checkDuplicatesOnCreate;
+  private final TenantOrganizationIndex organizationIndex;
 
-  public OrganizationStorageService(ProtectionService protectionService, RestClient restClient, AcquisitionsUnitsService acquisitionsUnitsService) {
+  public OrganizationStorageService(ProtectionService protectionService, RestClient restClient, AcquisitionsUnitsService acquisitionsUnitsService,
+                                    OrganizationQueryCache queryCache, OrganizationIdBatchFetcher idBatchFetcher,
+                                    TenantOrganizationIndex organizationIndex, OrganizationSuggestIndex suggestIndex, OrganizationDuplicateIndex duplicateIndex,
+                                    OrganizationFacetIndex facetIndex, OrganizationChangeLog changeLog,
+                                    OrganizationEventBroker eventBroker, BankingInformationService bankingInformationService,
+                                    boolean checkDuplicatesOnCreate) {
     this.protectionService = protectionService;
     this.restClient = restClient;
     this.acquisitionsUnitsService = acquisitionsUnitsService;
+    this.queryCache = queryCache;
+    this.idBatchFetcher = idBatchFetcher;
+    this.organizationIndex = organizationIndex;
+    this.suggestIndex = suggestIndex;
+    this.duplicateIndex = duplicateIndex;
+    this.facetIndex = facetIndex;
+    this.changeLog = changeLog;
+    this.eventBroker = eventBroker;
+    this.bankingInformationService = bankingInformationService;
+    this.checkDuplicatesOnCreate = checkDuplicatesOnCreate;
   }
 
   @Override
-  public Future<Organization> createOrganization(Organization organization, Context context, Map<String, String> headers) {
+  public Future<Organization> createOrganization(Organization organization, RequestContext requestContext) {
     logger.debug("createOrganization:: Trying to create organization");
-    RequestContext requestContext = new RequestContext(context, headers);
-
     if (isSameAccountNumbers(organization)) {
       logger.warn("createOrganization:: Account number of organization '{}' is not unique", organization.getName());
       return Future.failedFuture(new HttpException(HttpStatus.HTTP_UNPROCESSABLE_ENTITY.toInt(),
         ACCOUNT_NUMBER_MUST_BE_UNIQUE.toError()));
     }
-    return restClient.post(organization, resourcesPath(ORGANIZATIONS), Organization.class, requestContext);
+    return warnOfDuplicates(organization, requestContext)
+      .compose(v -> restClient.post(organization, resourcesPath(ORGANIZATIONS), Organization.class, requestContext))
+      .onSuccess(created -> {
+        organizationIndex.put(created, requestContext);
+        eventBroker.publish(EventType.CREATE, created.getId(), created, requestContext);
+      })
+      .onComplete(ar -> queryCache.invalidate(requestContext));
+  }
+
+  /**
+   * Logs likely duplicates of an organization about to be created, never fails the creation.
+   */
+  private Future<Void> warnOfDuplicates(Organization organization, RequestContext requestContext) {
+    if (!checkDuplicatesOnCreate || !duplicateIndex.isEnabled()) {
+      return Future.succeededFuture();
+    }
+    return findOrganizationDuplicates(organization, DUPLICATES_ON_CREATE_LIMIT, requestContext)
+      .onSuccess(duplicates -> {
+        if (!duplicates.getDuplicates().isEmpty()) {
+          logger.warn("warnOfDuplicates:: Organization '{}' is likely a duplicate of organizations: {}", organization.getName(),
+            duplicates.getDuplicates().stream().map(OrganizationDuplicate::getId).collect(Collectors.joining(", ")));
+        }
+      })
+      .<Void>mapEmpty()
+      .recover(t -> Future.succeededFuture());
   }
 
   private boolean isSameAccountNumbers(Organization organization) {
@@ -72,38 +161,375 @@ public class OrganizationStorageService implements OrganizationService {
   }
 
   @Override
-  public Future<Organization> getOrganizationById(String id, Context context, Map<String, String> headers) {
+  public Future<Organization> getOrganizationById(String id, RequestContext requestContext) {
     logger.debug("getOrganizationById:: Trying to get organization by id: {}", id);
-    RequestContext requestContext = new RequestContext(context, headers);
-    return restClient.get(resourceByIdPath(ORGANIZATIONS, id), Organization.class, requestContext)
+    return getOrganizationById(id, Organization.class, requestContext);
+  }
+
+  private <T extends Organization> Future<T> getOrganizationById(String id, Class<T> type, RequestContext requestContext) {
+    return requestContext.getServerTiming()
+      .measure(STORAGE_PHASE, () -> restClient.get(resourceByIdPath(ORGANIZATIONS, id), type, requestContext))
       .compose(organization -> protectionService
-        .checkOperationsRestrictions(organization.getAcqUnitIds(), Collections.singleton(READ), context, headers)
+        .checkOperationsRestrictions(organization.getAcqUnitIds(), Collections.singleton(READ), requestContext)
           .map(organization)
           .onFailure(t -> logger.warn("Operation is restricted by acquisition units for organization id: {}", organization.getId(), t)))
       .onFailure(t -> logger.error("Error loading organization with id: {}", id, t));
   }
 
   @Override
-  public Future<OrganizationCollection> getOrganizationCollection(int offset, int limit, String query,
-      Context context, Map<String, String> headers) {
+  public Future<CompositeOrganization> getOrganizationWithBankingInformationById(String id, RequestContext requestContext) {
+    logger.debug("getOrganizationWithBankingInformationById:: Trying to get organization with banking information by id: {}", id);
+    Future<List<BankingInformation>> bankingInformation = protectionService
+      .checkDesiredPermission(BANKING_INFORMATION_READ, requestContext)
+      .compose(v -> requestContext.getServerTiming().measure(STORAGE_PHASE,
+        () -> bankingInformationService.getBankingInformationCollection(0, BANKING_INFORMATION_LIMIT,
+          String.format("organizationId==\"%s\"", escapeCql(id)), requestContext)))
+      .map(BankingInformationCollection::getBankingInformation);
+    Future<CompositeOrganization> organization = getOrganizationById(id, CompositeOrganization.class, requestContext);
+    return Future.all(organization, bankingInformation)
+      .map(v -> organization.result().withBankingInformation(bankingInformation.result()))
+      .onFailure(t -> logger.warn("Error loading organization with banking information, id: {}", id, t));
+  }
+
+  @Override
+  public Future<OrganizationCollection> getOrganizationCollection(int offset, int limit, String query, RequestContext requestContext) {
     logger.debug("getOrganizationCollection:: Trying to get organization collection with query: {}, offset: {}, limit: {}", query, offset, limit);
-    RequestContext requestContext = new RequestContext(context, headers);
-    return acquisitionsUnitsService.buildAcqUnitsCqlClause(query, offset, limit, context, headers)
-      .compose(clause -> {
-        String endpoint = StringUtils.isEmpty(query) ?
-          String.format(GET_ORGANIZATIONS_BY_QUERY, limit, offset, buildQuery(clause)) :
-          String.format(GET_ORGANIZATIONS_BY_QUERY, limit, offset, buildQuery(combineCqlExpressions("and", clause, query)));
-        return restClient.get(endpoint, OrganizationCollection.class, requestContext);
-      })
+    CqlNode parsedQuery;
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      parsedQuery = CqlParser.tryParse(query);
+    }
+    List<String> requestedIds = idBatchFetcher.getRequestedIds(parsedQuery);
+    if (!requestedIds.isEmpty()) {
+      return requestContext.getServerTiming()
+        .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+        .compose(unitIds -> idBatchFetcher.fetch(requestedIds, unitIds, offset, limit, requestContext))
+        .onFailure(t -> logger.warn("Error loading {} organizations by id, offset: {}, limit: {}", requestedIds.size(), offset, limit, t));
+    }
+    String canonicalQuery;
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      canonicalQuery = CqlCanonicalizer.canonicalize(query, parsedQuery);
+    }
+    return requestContext.getServerTiming()
+      .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.buildAcqUnitsCqlClause(query, offset, limit, requestContext))
+      .compose(clause -> queryCache.get(canonicalQuery, clause, offset, limit, requestContext, () -> {
+        String endpoint;
+        try (var section = requestContext.enterPhase(CQL_PHASE)) {
+          endpoint = StringUtils.isEmpty(query) ?
+            String.format(GET_ORGANIZATIONS_BY_QUERY, limit, offset, buildQuery(clause)) :
+            String.format(GET_ORGANIZATIONS_BY_QUERY, limit, offset, buildQuery(combineCqlExpressions("and", clause, query)));
+        }
+        return requestContext.getServerTiming()
+          .measure(STORAGE_PHASE, () -> restClient.get(endpoint, OrganizationCollection.class, requestContext));
+      }))
       .onFailure( t -> logger.warn("Error loading organization collection with query: {}, offset: {}, limit: {}", query, offset, limit, t));
   }
 
   @Override
-  public Future<Void> updateOrganizationById(String id, Organization updatedOrganization, Context context,
-      Map<String, String> headers) {
-    logger.debug("updateOrganization:: Trying to update organization with id: {}", id);
-    RequestContext requestContext = new RequestContext(context, headers);
+  public Future<OrganizationSuggestionCollection> getOrganizationSuggestions(String prefix, int limit, RequestContext requestContext) {
+    logger.debug("getOrganizationSuggestions:: Trying to get organization suggestions with prefix: {}, limit: {}", prefix, limit);
+    Future<List<OrganizationSuggestion>> suggestions;
+    if (suggestIndex.isEnabled()) {
+      suggestions = requestContext.getServerTiming()
+        .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+        .compose(unitIds -> suggestIndex.suggest(prefix, unitIds, limit, requestContext));
+    } else {
+      suggestions = getOrganizationCollection(0, limit, buildSuggestQuery(prefix), requestContext)
+        .map(collection -> collection.getOrganizations().stream()
+          .map(organization -> new OrganizationSuggestion()
+            .withId(organization.getId())
+            .withName(organization.getName())
+            .withCode(organization.getCode()))
+          .toList());
+    }
+    return suggestions
+      .map(list -> new OrganizationSuggestionCollection()
+        .withSuggestions(new ArrayList<>(list))
+        .withTotalRecords(list.size()))
+      .onFailure(t -> logger.warn("Error loading organization suggestions with prefix: {}", prefix, t));
+  }
+
+  /**
+   * @return storage query for organizations with name or code starting with the prefix, used when the index is disabled
+   */
+  private static String buildSuggestQuery(String prefix) {
+    String term = escapeCql(StringUtils.trimToEmpty(prefix)) + "*";
+    return String.format("name=\"%s\" or code=\"%s\"", term, term);
+  }
+
+  @Override
+  public Future<OrganizationDuplicateCollection> findOrganizationDuplicates(Organization organization, int limit,
+                                                                            RequestContext requestContext) {
+    logger.debug("findOrganizationDuplicates:: Trying to find duplicates of organization '{}', limit: {}", organization.getName(), limit);
+    Future<List<OrganizationDuplicate>> duplicates;
+    if (duplicateIndex.isEnabled()) {
+      duplicates = requestContext.getServerTiming()
+        .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+        .compose(unitIds -> duplicateIndex.find(organization, unitIds, limit, requestContext));
+    } else {
+      duplicates = findExactDuplicates(organization, limit, requestContext);
+    }
+    return duplicates
+      .map(list -> new OrganizationDuplicateCollection()
+        .withDuplicates(new ArrayList<>(list))
+        .withTotalRecords(list.size()))
+      .onFailure(t -> logger.warn("Error finding duplicates of organization '{}'", organization.getName(), t));
+  }
+
+  /**
+   * @return organizations with the same name, code or ERP code as the organization, used when the index is disabled
+   */
+  private Future<List<OrganizationDuplicate>> findExactDuplicates(Organization organization, int limit, RequestContext requestContext) {
+    Map<String, String> fields = new LinkedHashMap<>();
+    fields.put("name", organization.getName());
+    fields.put("code", organization.getCode());
+    fields.put("erpCode", organization.getErpCode());
+    fields.values().removeIf(StringUtils::isBlank);
+    if (fields.isEmpty()) {
+      return Future.succeededFuture(List.of());
+    }
+    String query = fields.entrySet().stream()
+      .map(field -> String.format("%s==\"%s\"", field.getKey(), escapeCql(field.getValue())))
+      .collect(Collectors.joining(" or "));
+    return getOrganizationCollection(0, limit + 1, query, requestContext)
+      .map(collection -> collection.getOrganizations().stream()
+        .filter(duplicate -> !Objects.equals(duplicate.getId(), organization.getId()))
+        .limit(limit)
+        .map(duplicate -> new OrganizationDuplicate()
+          .withId(duplicate.getId())
+          .withName(duplicate.getName())
+          .withCode(duplicate.getCode())
+          .withErpCode(duplicate.getErpCode())
+          .withScore(1.0)
+          .withMatchedFields(fields.keySet().stream()
+            .filter(field -> StringUtils.equalsIgnoreCase(fields.get(field), getField(duplicate, field)))
+            .toList()))
+        .toList());
+  }
+
+  private static String getField(Organization organization, String field) {
+    return switch (field) {
+      case "name" -> organization.getName();
+      case "code" -> organization.getCode();
+      default -> organization.getErpCode();
+    };
+  }
+
+  @Override
+  public Future<OrganizationFacetCollection> getOrganizationFacets(String query, String facets, boolean rebuild,
+                                                                   RequestContext requestContext) {
+    logger.debug("getOrganizationFacets:: Trying to get organization facets with query: {}, facets: {}", query, facets);
+    List<Facet> requestedFacets = parseFacets(facets);
+    CqlNode parsedQuery;
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      parsedQuery = CqlParser.tryParse(query);
+    }
+    boolean countedByIndex = StringUtils.isBlank(query) || parsedQuery != null && OrganizationFacetIndex.isSupported(parsedQuery);
+    Future<OrganizationFacetCollection> counts;
+    if (facetIndex.isEnabled() && countedByIndex) {
+      counts = requestContext.getServerTiming()
+        .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+        .compose(unitIds -> facetIndex.count(parsedQuery, requestedFacets, unitIds, rebuild, requestContext));
+    } else {
+      counts = countFacetsInStorage(query, requestedFacets, requestContext);
+    }
+    return counts
+      .onFailure(t -> logger.warn("Error loading organization facets with query: {}", query, t));
+  }
+
+  /**
+   * @return facets listed in the comma separated names, all facets if there are none
+   */
+  private static List<Facet> parseFacets(String facets) {
+    List<Facet> parsed = Arrays.stream(StringUtils.split(StringUtils.defaultString(facets), ','))
+      .map(String::trim)
+      .map(Facet::fromValue)
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+    return parsed.isEmpty() ? List.of(Facet.values()) : parsed;
+  }
 
+  /**
+   * Counts the organizations matching the query and each facet value with a storage query per value, used for queries
+   * the facets index cannot match and when the index is disabled. The acquisitions units the user can read are resolved
+   * once for all counts. Organization types are taken from the index, so they are not counted when the index is
+   * disabled.
+   */
+  private Future<OrganizationFacetCollection> countFacetsInStorage(String query, List<Facet> facets, RequestContext requestContext) {
+    return requestContext.getServerTiming()
+      .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+      .compose(unitIds -> {
+        String unitsClause = acquisitionsUnitsService.buildAcqUnitsCqlClause(unitIds, requestContext);
+        Future<Set<String>> organizationTypes = facets.contains(Facet.ORGANIZATION_TYPES) && facetIndex.isEnabled() ?
+          facetIndex.getValues(Facet.ORGANIZATION_TYPES, unitIds, requestContext) :
+          Future.succeededFuture(Set.of());
+        return organizationTypes.compose(types -> countFacetValuesInStorage(query, facets, types, unitsClause, requestContext));
+      });
+  }
+
+  private Future<OrganizationFacetCollection> countFacetValuesInStorage(String query, List<Facet> facets,
+                                                                        Set<String> organizationTypes, String unitsClause,
+                                                                        RequestContext requestContext) {
+    Map<Facet, Map<String, Future<Integer>>> valueCounts = new EnumMap<>(Facet.class);
+    List<Future<Integer>> allCounts = new ArrayList<>();
+    for (Facet facet : facets) {
+      List<String> values = switch (facet) {
+        case STATUS -> Arrays.stream(Organization.Status.values()).map(Organization.Status::value).toList();
+        case IS_VENDOR -> List.of(Boolean.TRUE.toString(), Boolean.FALSE.toString());
+        case ORGANIZATION_TYPES -> List.copyOf(organizationTypes);
+      };
+      Map<String, Future<Integer>> counts = new LinkedHashMap<>();
+      for (String value : values) {
+        String valueQuery = String.format("%s==\"%s\"", facet.value(), escapeCql(value));
+        Future<Integer> count = countOrganizations(combineCqlExpressions("and", valueQuery, StringUtils.defaultString(query)),
+          unitsClause, requestContext);
+        counts.put(value, count);
+        allCounts.add(count);
+      }
+      valueCounts.put(facet, counts);
+    }
+    Future<Integer> total = countOrganizations(query, unitsClause, requestContext);
+    allCounts.add(total);
+    return Future.all(allCounts)
+      .map(v -> new OrganizationFacetCollection()
+        .withFacets(valueCounts.entrySet().stream()
+          .map(entry -> OrganizationFacetIndex.toFacet(entry.getKey(), entry.getValue().entrySet().stream()
+            .filter(count -> count.getValue().result() > 0)
+            .collect(Collectors.toMap(Map.Entry::getKey, count -> count.getValue().result()))))
+          .collect(Collectors.toList()))
+        .withTotalRecords(total.result()));
+  }
+
+  /**
+   * @return future with the number of organizations matching the query and the units clause, read with a
+   * {@code limit=0} storage query
+   */
+  private Future<Integer> countOrganizations(String query, String unitsClause, RequestContext requestContext) {
+    String endpoint;
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      String countQuery = StringUtils.isBlank(query) ? unitsClause : combineCqlExpressions("and", unitsClause, query);
+      endpoint = String.format(GET_ORGANIZATIONS_BY_QUERY, 0, 0, buildQuery(countQuery));
+    }
+    return requestContext.getServerTiming()
+      .measure(STORAGE_PHASE, () -> restClient.get(endpoint, OrganizationCollection.class, requestContext))
+      .map(OrganizationCollection::getTotalRecords);
+  }
+
+  @Override
+  public Future<OrganizationChangeCollection> getOrganizationChanges(String since, String cursor, int limit,
+                                                                     RequestContext requestContext) {
+    logger.debug("getOrganizationChanges:: Trying to get organization changes since: {}, cursor: {}, limit: {}", since, cursor, limit);
+    Position after;
+    try {
+      after = parseChangesPosition(since, cursor);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      logger.warn("getOrganizationChanges:: Invalid changes position, since: {}, cursor: {}", since, cursor, e);
+      return Future.failedFuture(new HttpException(HttpStatus.HTTP_BAD_REQUEST.toInt(), INVALID_CHANGES_POSITION.toError()));
+    }
+    ServerTiming serverTiming = requestContext.getServerTiming();
+    return serverTiming.measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+      .compose(unitIds -> {
+        List<Position> deletes = changeLog.getDeletes(after, unitIds, limit, requestContext);
+        String endpoint;
+        try (var section = requestContext.enterPhase(CQL_PHASE)) {
+          String unitsClause = acquisitionsUnitsService.buildAcqUnitsCqlClause(unitIds, requestContext);
+          endpoint = String.format(GET_ORGANIZATIONS_BY_QUERY, limit, 0,
+            buildQuery(combineCqlExpressions("and", unitsClause, buildChangesQuery(after))));
+        }
+        return serverTiming.measure(STORAGE_PHASE, () -> restClient.get(endpoint, OrganizationCollection.class, requestContext))
+          .map(collection -> mergeChanges(after, collection.getOrganizations(), deletes, limit));
+      })
+      .onFailure(t -> logger.warn("Error loading organization changes since: {}, cursor: {}", since, cursor, t));
+  }
+
+  @Override
+  public Future<String> pollOrganizationEvents(String subscription, int maxEvents, long waitMs, RequestContext requestContext) {
+    logger.debug("pollOrganizationEvents:: Trying to poll organization events of subscription: {}, wait: {}", subscription, waitMs);
+    long wait = Math.min(waitMs, requestContext.getRemainingMillis());
+    return requestContext.getServerTiming()
+      .measure(UNITS_CLAUSE_PHASE, () -> acquisitionsUnitsService.getAcqUnitIdsForSearch(requestContext))
+      .compose(unitIds -> eventBroker.poll(subscription, unitIds, maxEvents, wait, requestContext))
+      .map(Poll::toEventStream)
+      .onFailure(t -> logger.warn("Error polling organization events of subscription: {}", subscription, t));
+  }
+
+  /**
+   * @return position of the cursor, or before the changes of the since date, or before all changes if neither is set
+   */
+  private static Position parseChangesPosition(String since, String cursor) {
+    if (StringUtils.isNotBlank(cursor)) {
+      return Position.fromCursor(cursor);
+    }
+    Instant sinceDate = StringUtils.isBlank(since) ? Instant.EPOCH : OffsetDateTime.parse(since).toInstant();
+    return new Position(sinceDate.truncatedTo(ChronoUnit.MILLIS), null);
+  }
+
+  /**
+   * Builds the keyset query of the organizations updated after the position, in the order of the update date and id.
+   * Dates are compared by the prefix without offset, so the query does not depend on how storage writes the offset.
+   */
+  private static String buildChangesQuery(Position after) {
+    String date = CHANGES_DATE_FORMAT.format(after.date());
+    String nextDate = CHANGES_DATE_FORMAT.format(after.date().plusMillis(1));
+    String query = after.id() == null ?
+      String.format("metadata.updatedDate>=\"%s\"", nextDate) :
+      String.format("metadata.updatedDate>=\"%s\" or (metadata.updatedDate>\"%s\" and metadata.updatedDate<\"%s\" and id>\"%s\")",
+        nextDate, date, nextDate, escapeCql(after.id()));
+    return query + " sortBy metadata.updatedDate id";
+  }
+
+  /**
+   * Merges the updated organizations and the tombstones after the position, both in the position order, into a page of
+   * changes with the cursor of its last change.
+   */
+  private static OrganizationChangeCollection mergeChanges(Position after, List<Organization> updated, List<Position> deletes,
+                                                           int limit) {
+    List<Organization> updates = updated.stream()
+      .filter(organization -> getUpdatePosition(organization) != null)
+      .toList();
+    List<OrganizationChange> changes = new ArrayList<>();
+    Position last = after;
+    int u = 0;
+    int d = 0;
+    while (changes.size() < limit && (u < updates.size() || d < deletes.size())) {
+      Position update = u < updates.size() ? getUpdatePosition(updates.get(u)) : null;
+      if (update != null && (d == deletes.size() || Position.ORDER.compare(update, deletes.get(d)) <= 0)) {
+        Organization organization = updates.get(u++);
+        changes.add(new OrganizationChange()
+          .withId(organization.getId())
+          .withType(OrganizationChange.Type.UPDATE)
+          .withDate(Date.from(update.date()))
+          .withOrganization(organization));
+        last = update;
+      } else {
+        Position delete = deletes.get(d++);
+        changes.add(new OrganizationChange()
+          .withId(delete.id())
+          .withType(OrganizationChange.Type.DELETE)
+          .withDate(Date.from(delete.date())));
+        last = delete;
+      }
+    }
+    return new OrganizationChangeCollection()
+      .withChanges(changes)
+      .withNextCursor(last.toCursor())
+      .withTotalRecords(changes.size());
+  }
+
+  private static Position getUpdatePosition(Organization organization) {
+    if (organization.getMetadata() == null || organization.getMetadata().getUpdatedDate() == null) {
+      return null;
+    }
+    return new Position(organization.getMetadata().getUpdatedDate().toInstant().truncatedTo(ChronoUnit.MILLIS), organization.getId());
+  }
+
+  private static String escapeCql(String value) {
+    return CQL_SPECIAL_CHARACTERS.matcher(value).replaceAll("\\\\$0");
+  }
+
+  @Override
+  public Future<Void> updateOrganizationById(String id, Organization updatedOrganization, RequestContext requestContext) {
+    logger.debug("updateOrganization:: Trying to update organization with id: {}", id);
     if (isEmpty(updatedOrganization.getId())) {
       updatedOrganization.setId(id);
     } else if (!id.equals(updatedOrganization.getId())) {
@@ -115,15 +541,48 @@ public class OrganizationStorageService implements OrganizationService {
       return Future.failedFuture(new HttpException(HttpStatus.HTTP_UNPROCESSABLE_ENTITY.toInt(),
         ACCOUNT_NUMBER_MUST_BE_UNIQUE.toError()));
     }
-    return restClient.get(resourceByIdPath(ORGANIZATIONS, id), Organization.class, requestContext)
-      .compose(existingOrganization -> protectionService.validateAcqUnitsOnUpdate(updatedOrganization, existingOrganization, context, headers)
-      .compose(ok -> restClient.put(resourceByIdPath(ORGANIZATIONS, updatedOrganization.getId()), updatedOrganization, requestContext)));
+    ServerTiming serverTiming = requestContext.getServerTiming();
+    return serverTiming.measure(STORAGE_PHASE, () -> restClient.get(resourceByIdPath(ORGANIZATIONS, id), Organization.class, requestContext))
+      .compose(existingOrganization -> protectionService.validateAcqUnitsOnUpdate(updatedOrganization, existingOrganization, requestContext)
+      .compose(ok -> serverTiming.measure(STORAGE_PHASE,
+        () -> restClient.put(resourceByIdPath(ORGANIZATIONS, updatedOrganization.getId()), updatedOrganization, requestContext))))
+      .onSuccess(v -> {
+        organizationIndex.put(updatedOrganization, requestContext);
+        eventBroker.publish(EventType.UPDATE, id, updatedOrganization, requestContext);
+      })
+      .onComplete(ar -> queryCache.invalidate(requestContext));
   }
 
   @Override
-  public Future<Void> deleteOrganizationById(String id, Context context, Map<String, String> headers) {
+  public Future<Void> deleteOrganizationById(String id, RequestContext requestContext) {
     logger.debug("deleteOrganizationById:: Trying to delete organization by id: {}", id);
-    RequestContext requestContext = new RequestContext(context, headers);
-    return restClient.delete(resourceByIdPath(ORGANIZATIONS, id), requestContext);
+    return getAcqUnitIdsOfDeleted(id, requestContext)
+      .compose(acqUnitIds -> requestContext.getServerTiming()
+        .measure(STORAGE_PHASE, () -> restClient.delete(resourceByIdPath(ORGANIZATIONS, id), requestContext))
+        .onSuccess(v -> {
+          organizationIndex.remove(id, requestContext);
+          changeLog.recordDelete(id, acqUnitIds, requestContext);
+          eventBroker.publish(EventType.DELETE, id, new Organization().withId(id).withAcqUnitIds(acqUnitIds), requestContext);
+        }))
+      .onComplete(ar -> queryCache.invalidate(requestContext));
+  }
+
+  /**
+   * Resolves the acquisitions units of an organization about to be deleted, so its delete is reported only to the users
+   * who could see it. They are taken from the loaded organization indexes of the tenant and read from storage only when
+   * the indexes do not have the organization. An organization that is not found is still deleted, so the response is the
+   * one of the storage delete.
+   */
+  private Future<List<String>> getAcqUnitIdsOfDeleted(String id, RequestContext requestContext) {
+    List<String> acqUnitIds = organizationIndex.getAcqUnitIds(id, requestContext);
+    if (acqUnitIds != null) {
+      return Future.succeededFuture(acqUnitIds);
+    }
+    return requestContext.getServerTiming()
+      .measure(STORAGE_PHASE, () -> restClient.get(resourceByIdPath(ORGANIZATIONS, id), Organization.class, requestContext))
+      .map(Organization::getAcqUnitIds)
+      .recover(t -> t instanceof HttpException httpException && httpException.getCode() == HttpStatus.HTTP_NOT_FOUND.toInt()
+        ? Future.succeededFuture(List.of())
+        : Future.failedFuture(t));
   }
 }
@@ -0,0 +1,157 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.client.EventLoopWatchdog.INDEX_SCAN_PHASE;
+import static org.folio.service.organization.TenantOrganizationIndex.isVisible;
+import static org.folio.service.organization.TenantOrganizationIndex.normalize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Alias;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationSuggestion;
+
+import io.vertx.core.Future;
+
+/**
+ * Per-tenant in-memory prefix index over organization names, codes and aliases for type-ahead suggestions.
+ * <p>
+ * Terms are normalized to lower case without diacritics and kept in a sorted map, a prefix lookup is a range scan
+ * of that map. Names and aliases are also indexed from the start of each of their words, so {@code serv} suggests
+ * "Amazon Web Services". Visibility by acquisitions units is applied to every suggestion the way the units clause of
+ * a collection query does.
+ */
+public class OrganizationSuggestIndex {
+
+  public static final String DOCUMENTS_METRIC = "organizations.suggest.documents";
+
+  private static final char KEY_SEPARATOR = '\u0000';
+
+  private final boolean enabled;
+  private final TenantOrganizationIndex organizationIndex;
+
+  /**
+   * @param enabled           whether suggestions are served from the index
+   * @param organizationIndex indexes of organizations the suggestions index is loaded and updated with
+   */
+  public OrganizationSuggestIndex(boolean enabled, TenantOrganizationIndex organizationIndex) {
+    this.enabled = enabled;
+    this.organizationIndex = organizationIndex;
+    if (enabled) {
+      organizationIndex.register(DOCUMENTS_METRIC, SuggestIndex::new);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param prefix          prefix of a name, code or alias, or of one of their words
+   * @param readableUnitIds acquisitions units the user can read records of
+   * @param limit           max number of suggestions
+   * @param requestContext  request context with the tenant header
+   * @return future with the visible organizations matching the prefix, one suggestion per organization
+   */
+  public Future<List<OrganizationSuggestion>> suggest(String prefix, Collection<String> readableUnitIds, int limit,
+                                                      RequestContext requestContext) {
+    String normalizedPrefix = normalize(prefix);
+    if (normalizedPrefix.isEmpty() || limit <= 0) {
+      return Future.succeededFuture(List.of());
+    }
+    Set<String> units = new HashSet<>(readableUnitIds);
+    return organizationIndex.getIndex(DOCUMENTS_METRIC, SuggestIndex.class, requestContext)
+      .map(index -> {
+        try (var section = requestContext.enterPhase(INDEX_SCAN_PHASE)) {
+          return index.search(normalizedPrefix, units, limit);
+        }
+      });
+  }
+
+  static class SuggestIndex implements TenantOrganizationIndex.Index {
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Document> terms = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void put(String id, Organization organization) {
+      Document previous = organization == null ? documents.remove(id) : documents.put(id, Document.of(organization));
+      if (previous != null) {
+        previous.values.keySet().forEach(terms::remove);
+      }
+      if (organization != null) {
+        Document document = documents.get(id);
+        document.values.keySet().forEach(key -> terms.put(key, document));
+      }
+    }
+
+    @Override
+    public int size() {
+      return documents.size();
+    }
+
+    List<OrganizationSuggestion> search(String prefix, Set<String> readableUnitIds, int limit) {
+      Map<String, OrganizationSuggestion> suggestions = new LinkedHashMap<>();
+      // keys are the term, a separator and the id, so the range holds exactly the terms starting with the prefix
+      for (Map.Entry<String, Document> entry : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet()) {
+        Document document = entry.getValue();
+        if (!suggestions.containsKey(document.id) && isVisible(document.acqUnitIds, readableUnitIds)) {
+          suggestions.put(document.id, document.toSuggestion(document.values.get(entry.getKey())));
+          if (suggestions.size() == limit) {
+            break;
+          }
+        }
+      }
+      return new ArrayList<>(suggestions.values());
+    }
+  }
+
+  /**
+   * Indexed fields of an organization with the index keys pointing to it, each mapped to the value it was built from.
+   */
+  private record Document(String id, String name, String code, List<String> acqUnitIds, Map<String, String> values) {
+
+    static Document of(Organization organization) {
+      Map<String, String> values = new LinkedHashMap<>();
+      String id = organization.getId();
+      addKeys(organization.getName(), id, true, values);
+      addKeys(organization.getCode(), id, false, values);
+      if (organization.getAliases() != null) {
+        organization.getAliases().stream()
+          .map(Alias::getValue)
+          .forEach(alias -> addKeys(alias, id, true, values));
+      }
+      return new Document(id, organization.getName(), organization.getCode(),
+        organization.getAcqUnitIds() == null ? List.of() : List.copyOf(organization.getAcqUnitIds()), values);
+    }
+
+    private static void addKeys(String value, String id, boolean words, Map<String, String> values) {
+      String term = normalize(value);
+      if (term.isEmpty()) {
+        return;
+      }
+      values.putIfAbsent(term + KEY_SEPARATOR + id, value);
+      if (words) {
+        for (int i = term.indexOf(' '); i >= 0; i = term.indexOf(' ', i + 1)) {
+          values.putIfAbsent(term.substring(i + 1) + KEY_SEPARATOR + id, value);
+        }
+      }
+    }
+
+    OrganizationSuggestion toSuggestion(String matchedValue) {
+      return new OrganizationSuggestion()
+        .withId(id)
+        .withName(name)
+        .withCode(code)
+        .withMatchedValue(matchedValue);
+    }
+  }
+}
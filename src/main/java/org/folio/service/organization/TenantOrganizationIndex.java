@@ -0,0 +1,307 @@
+package org.folio.service.organization;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.client.EventLoopWatchdog.INDEX_LOAD_PHASE;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
+import org.folio.rest.client.RestClient;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Per-tenant in-memory indexes of organizations serving suggestions, duplicates and facets, loaded and updated together.
+ * <p>
+ * The indexes are registered on creation of the services using them. The indexes of a tenant are loaded from storage
+ * with one pass over the organizations in pages sorted by id on the first use of any of them and are kept up to date by
+ * the organization writes of this module, each organization read or written is put into all of them. Writes made while
+ * the indexes are loaded are applied over the records the load read from storage. Writes made elsewhere are picked up by
+ * reloading the indexes in the background once they are older than the max age, the previous indexes serve requests
+ * meanwhile. The number of organizations in each index is reported as a gauge tagged with the tenant.
+ * <p>
+ * The load is made with the headers of the request that triggered it, including its token, as the module has no
+ * credentials of its own. The storage requests of the load are therefore made on behalf of that user, and a load
+ * lasting longer than the token is valid fails and is retried by the next request.
+ */
+@Log4j2
+public class TenantOrganizationIndex {
+
+  public static final String TENANT_TAG = "tenant";
+
+  private static final String FIRST_PAGE_QUERY = "cql.allRecords=1 sortBy id";
+  private static final String NEXT_PAGE_QUERY = "id>\"%s\" sortBy id";
+  private static final String UNKNOWN_TENANT = "unknown";
+  private static final String ACQ_UNITS_INDEX = "acqUnitIds";
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final int pageSize;
+  private final long maxAgeMs;
+  private final RestClient restClient;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Supplier<? extends Index>> factories = new ConcurrentHashMap<>();
+  private final Map<String, TenantState> tenants = new ConcurrentHashMap<>();
+
+  /**
+   * @param pageSize      number of organizations loaded with one storage request
+   * @param maxAgeMs      age of the indexes after which they are reloaded in the background, 0 or less never reloads
+   * @param restClient    storage client
+   * @param meterRegistry registry of the index size gauges
+   */
+  public TenantOrganizationIndex(int pageSize, long maxAgeMs, RestClient restClient, MeterRegistry meterRegistry) {
+    this.pageSize = Math.max(1, pageSize);
+    this.maxAgeMs = maxAgeMs;
+    this.restClient = restClient;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Adds an index loaded and updated with the others, an index registered once the indexes of a tenant are loaded is
+   * loaded with them again on its first use.
+   *
+   * @param documentsMetric name of the index and of the gauge of its organizations
+   * @param factory         creates the empty index of a tenant
+   */
+  public void register(String documentsMetric, Supplier<? extends Index> factory) {
+    factories.put(documentsMetric, factory);
+  }
+
+  /**
+   * Indexes a created or updated organization in all indexes, called after the write succeeded.
+   *
+   * @param organization   written organization
+   * @param requestContext request context with the tenant header
+   */
+  public void put(Organization organization, RequestContext requestContext) {
+    TenantState state = tenants.get(getTenant(requestContext));
+    if (state != null) {
+      state.write(organization.getId(), organization);
+    }
+  }
+
+  /**
+   * Removes a deleted organization from all indexes, called after the delete succeeded.
+   *
+   * @param id             organization id
+   * @param requestContext request context with the tenant header
+   */
+  public void remove(String id, RequestContext requestContext) {
+    TenantState state = tenants.get(getTenant(requestContext));
+    if (state != null) {
+      state.write(id, null);
+    }
+  }
+
+  /**
+   * @param id             organization id
+   * @param requestContext request context with the tenant header
+   * @return acquisitions units of the organization if it is in the loaded indexes of the tenant, otherwise {@code null}
+   */
+  public List<String> getAcqUnitIds(String id, RequestContext requestContext) {
+    TenantState state = tenants.get(getTenant(requestContext));
+    Map<String, Index> indexes = state == null ? null : state.current;
+    return indexes == null ? null : ((AcqUnitsIndex) indexes.get(ACQ_UNITS_INDEX)).get(id);
+  }
+
+  /**
+   * @param documentsMetric name of the registered index
+   * @param type            class of the index
+   * @param requestContext  request context with the tenant header
+   * @return future with the index of the tenant, completed once the indexes are loaded on their first use
+   */
+  <I extends Index> Future<I> getIndex(String documentsMetric, Class<I> type, RequestContext requestContext) {
+    return getIndex(documentsMetric, type, requestContext, false);
+  }
+
+  /**
+   * @param documentsMetric name of the registered index
+   * @param type            class of the index
+   * @param requestContext  request context with the tenant header
+   * @param reload          whether to load the indexes again even if they are not older than the max age
+   * @return future with the index of the tenant, completed once the indexes are loaded on their first use or reloaded
+   */
+  <I extends Index> Future<I> getIndex(String documentsMetric, Class<I> type, RequestContext requestContext,
+                                       boolean reload) {
+    String tenant = getTenant(requestContext);
+    TenantState state = tenants.computeIfAbsent(tenant, t -> new TenantState());
+    synchronized (state) {
+      Map<String, Index> current = state.current;
+      boolean loaded = current != null && current.containsKey(documentsMetric);
+      if (!reload && loaded && (maxAgeMs <= 0 || System.currentTimeMillis() - state.loadedAt < maxAgeMs)) {
+        return Future.succeededFuture(type.cast(current.get(documentsMetric)));
+      }
+      if (state.loading == null || state.loading.isComplete()) {
+        state.loading = load(tenant, state, requestContext);
+      }
+      if (loaded && !reload) {
+        return Future.succeededFuture(type.cast(current.get(documentsMetric)));
+      }
+      return state.loading.map(indexes -> type.cast(indexes.get(documentsMetric)));
+    }
+  }
+
+  private Future<Map<String, Index>> load(String tenant, TenantState state, RequestContext requestContext) {
+    log.info("load:: Loading organization indexes {} of tenant '{}'", factories.keySet(), tenant);
+    long start = System.currentTimeMillis();
+    Map<String, Index> indexes = new HashMap<>();
+    factories.forEach((documentsMetric, factory) -> {
+      indexes.put(documentsMetric, factory.get());
+      Gauge.builder(documentsMetric, state, s -> s.size(documentsMetric))
+        .description("Organizations in the in-memory index")
+        .tag(TENANT_TAG, tenant)
+        .register(meterRegistry);
+    });
+    indexes.put(ACQ_UNITS_INDEX, new AcqUnitsIndex());
+    state.writesDuringLoad.clear();
+    // the load is shared by the waiting requests and must not be limited by the deadline of the one that started it
+    RequestContext loadContext = new RequestContext(requestContext.getContext(), requestContext.getHeaders());
+    loadContext.withPriority(RequestPriority.BULK);
+    Promise<Map<String, Index>> promise = Promise.promise();
+    loadPage(FIRST_PAGE_QUERY, indexes, loadContext, promise);
+    return promise.future()
+      .onComplete(ar -> {
+        synchronized (state) {
+          if (ar.succeeded()) {
+            state.writesDuringLoad.forEach((id, organization) -> indexes.values().forEach(index -> index.put(id, organization)));
+            state.current = indexes;
+            state.loadedAt = start;
+            log.info("load:: Loaded organization indexes {} of tenant '{}' in {} ms", indexes.keySet(), tenant,
+              System.currentTimeMillis() - start);
+          } else {
+            log.warn("load:: Failed to load organization indexes {} of tenant '{}'", indexes.keySet(), tenant, ar.cause());
+          }
+          state.writesDuringLoad.clear();
+        }
+      });
+  }
+
+  private void loadPage(String query, Map<String, Index> indexes, RequestContext requestContext,
+                        Promise<Map<String, Index>> promise) {
+    String endpoint = String.format(GET_ORGANIZATIONS_BY_QUERY, pageSize, 0, buildQuery(query));
+    restClient.get(endpoint, OrganizationCollection.class, requestContext)
+      .onFailure(promise::fail)
+      .onSuccess(collection -> {
+        List<Organization> organizations = collection.getOrganizations();
+        try (var section = requestContext.enterPhase(INDEX_LOAD_PHASE)) {
+          organizations.forEach(organization -> indexes.values().forEach(index -> index.put(organization.getId(), organization)));
+        }
+        if (organizations.size() < pageSize) {
+          promise.complete(indexes);
+        } else {
+          String lastId = organizations.get(organizations.size() - 1).getId();
+          loadPage(String.format(NEXT_PAGE_QUERY, lastId), indexes, requestContext, promise);
+        }
+      });
+  }
+
+  /**
+   * @return value in lower case without diacritics and with single spaces between words
+   */
+  protected static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+    String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+    return WHITESPACE.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @return whether an organization with the acquisitions units is visible to a user who can read the readable units,
+   * the way the units clause of a collection query filters organizations
+   */
+  protected static boolean isVisible(Collection<String> acqUnitIds, Collection<String> readableUnitIds) {
+    return CollectionUtils.isEmpty(acqUnitIds) || acqUnitIds.stream().anyMatch(readableUnitIds::contains);
+  }
+
+  private static String getTenant(RequestContext requestContext) {
+    String tenant = requestContext.getOutboundHeaders().get(OKAPI_HEADER_TENANT);
+    return tenant == null ? UNKNOWN_TENANT : tenant;
+  }
+
+  /**
+   * Index of the organizations of a tenant, writes are serialized by the caller while reads may run concurrently.
+   */
+  public interface Index {
+
+    /**
+     * Replaces the organization in the index, {@code null} organization removes it.
+     */
+    void put(String id, Organization organization);
+
+    /**
+     * @return number of indexed organizations
+     */
+    int size();
+  }
+
+  /**
+   * Acquisitions units of the indexed organizations, loaded with the registered indexes.
+   */
+  private static class AcqUnitsIndex implements Index {
+    private final Map<String, List<String>> acqUnitIds = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String id, Organization organization) {
+      if (organization == null) {
+        acqUnitIds.remove(id);
+      } else {
+        acqUnitIds.put(id, organization.getAcqUnitIds() == null ? List.of() : organization.getAcqUnitIds());
+      }
+    }
+
+    @Override
+    public int size() {
+      return acqUnitIds.size();
+    }
+
+    List<String> get(String id) {
+      return acqUnitIds.get(id);
+    }
+  }
+
+  /**
+   * Loaded indexes of a tenant by name, the indexes being loaded and the writes made while they are loaded.
+   */
+  private static class TenantState {
+    private volatile Map<String, Index> current;
+    private long loadedAt;
+    private Future<Map<String, Index>> loading;
+    private final Map<String, Organization> writesDuringLoad = new LinkedHashMap<>();
+
+    synchronized void write(String id, Organization organization) {
+      if (current != null) {
+        current.values().forEach(index -> index.put(id, organization));
+      }
+      if (loading != null && !loading.isComplete()) {
+        writesDuringLoad.put(id, organization);
+      }
+    }
+
+    int size(String documentsMetric) {
+      Map<String, Index> indexes = current;
+      Index index = indexes == null ? null : indexes.get(documentsMetric);
+      return index == null ? 0 : index.size();
+    }
+  }
+}
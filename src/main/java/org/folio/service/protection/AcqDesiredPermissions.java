@@ -5,7 +5,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public enum AcqDesiredPermissions {
-  MANAGE("organizations.acquisitions-units-assignments.manage.execute");
+  MANAGE("organizations.acquisitions-units-assignments.manage.execute"),
+  BANKING_INFORMATION_READ("organizations.banking-information.collection.get");
 
   private final String permission;
   private static final List<String> values;
@@ -1,15 +1,17 @@
 package org.folio.service.protection;
 
-import java.util.Map;
+import java.util.List;
 
 import org.folio.rest.acq.model.AcquisitionsUnitCollection;
 import org.folio.rest.acq.model.AcquisitionsUnitMembershipCollection;
+import org.folio.rest.client.RequestContext;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 
 public interface AcquisitionsUnitsService {
-  Future<AcquisitionsUnitCollection> getAcquisitionsUnits(String query, int offset, int limit, Context context, Map<String, String> headers);
-  Future<AcquisitionsUnitMembershipCollection> getAcquisitionsUnitsMemberships(String query, int offset, int limit, Context context, Map<String, String> headers);
-  Future<String> buildAcqUnitsCqlClause(String query, int offset, int limit, Context context, Map<String, String> headers);
+  Future<AcquisitionsUnitCollection> getAcquisitionsUnits(String query, int offset, int limit, RequestContext requestContext);
+  Future<AcquisitionsUnitMembershipCollection> getAcquisitionsUnitsMemberships(String query, int offset, int limit, RequestContext requestContext);
+  Future<String> buildAcqUnitsCqlClause(String query, int offset, int limit, RequestContext requestContext);
+  String buildAcqUnitsCqlClause(List<String> acqUnitIds, RequestContext requestContext);
+  Future<List<String>> getAcqUnitIdsForSearch(RequestContext requestContext);
 }
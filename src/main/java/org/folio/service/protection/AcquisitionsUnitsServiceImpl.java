@@ -1,6 +1,7 @@
 package org.folio.service.protection;
 
 import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.client.EventLoopWatchdog.CQL_PHASE;
 import static org.folio.util.RestUtils.ACQUISITIONS_UNIT_IDS;
 import static org.folio.util.RestUtils.ACTIVE_UNITS_CQL;
 import static org.folio.util.RestUtils.GET_UNITS_BY_QUERY;
@@ -12,7 +13,6 @@ import static org.folio.util.RestUtils.combineCqlExpressions;
 import static org.folio.util.RestUtils.convertIdsToCqlQuery;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,7 +27,6 @@ import org.folio.rest.client.RestClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 import one.util.streamex.StreamEx;
 
@@ -38,9 +37,8 @@ public class AcquisitionsUnitsServiceImpl implements AcquisitionsUnitsService {
   private RestClient restClient;
 
   @Override
-  public Future<AcquisitionsUnitCollection> getAcquisitionsUnits(String query, int offset, int limit, Context context, Map<String, String> headers) {
+  public Future<AcquisitionsUnitCollection> getAcquisitionsUnits(String query, int offset, int limit, RequestContext requestContext) {
     logger.debug("getAcquisitionsUnits:: Trying to get acquisition units with query: {}, offset: {}, limit: {}", query, offset, limit);
-    RequestContext requestContext = new RequestContext(context, headers);
     if (StringUtils.isEmpty(query)) {
       query = ACTIVE_UNITS_CQL;
     } else if (!query.contains(IS_DELETED_PROP)) {
@@ -51,9 +49,8 @@ public class AcquisitionsUnitsServiceImpl implements AcquisitionsUnitsService {
   }
 
   @Override
-  public Future<AcquisitionsUnitMembershipCollection> getAcquisitionsUnitsMemberships(String query, int offset, int limit, Context context, Map<String, String> headers) {
+  public Future<AcquisitionsUnitMembershipCollection> getAcquisitionsUnitsMemberships(String query, int offset, int limit, RequestContext requestContext) {
     logger.debug("getAcquisitionsUnitsMemberships:: Trying to get acquisition units memberships with query: {}, offset: {}, limit: {}", query, offset, limit);
-    RequestContext requestContext = new RequestContext(context, headers);
     String endpoint = String.format(GET_UNITS_MEMBERSHIPS_BY_QUERY, limit, offset, buildQuery(query));
     return restClient.get(endpoint, AcquisitionsUnitMembershipCollection.class, requestContext)
       .onFailure(t -> logger.warn("getAcquisitionsUnitsMemberships:: Error getting acquisition units memberships", t));
@@ -61,28 +58,34 @@ public class AcquisitionsUnitsServiceImpl implements AcquisitionsUnitsService {
   }
 
   @Override
-  public Future<String> buildAcqUnitsCqlClause(String query, int offset, int limit, Context context, Map<String, String> headers) {
-    return getAcqUnitIdsForSearch(context, headers)
-      .compose(ids -> {
-        if (ids.isEmpty()) {
-          return Future.succeededFuture(NO_ACQ_UNIT_ASSIGNED_CQL);
-        }
-        return Future.succeededFuture(String.format("%s or (%s)", convertIdsToCqlQuery(ids, ACQUISITIONS_UNIT_IDS, false), NO_ACQ_UNIT_ASSIGNED_CQL));
-      });
+  public Future<String> buildAcqUnitsCqlClause(String query, int offset, int limit, RequestContext requestContext) {
+    return getAcqUnitIdsForSearch(requestContext)
+      .map(ids -> buildAcqUnitsCqlClause(ids, requestContext));
+  }
+
+  @Override
+  public String buildAcqUnitsCqlClause(List<String> acqUnitIds, RequestContext requestContext) {
+    if (acqUnitIds.isEmpty()) {
+      return NO_ACQ_UNIT_ASSIGNED_CQL;
+    }
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      return String.format("%s or (%s)", convertIdsToCqlQuery(acqUnitIds, ACQUISITIONS_UNIT_IDS, false), NO_ACQ_UNIT_ASSIGNED_CQL);
+    }
   }
 
-  private Future<List<String>> getAcqUnitIdsForSearch(Context context, Map<String, String> headers) {
-    return getAcqUnitIdsForUser(headers.get(OKAPI_USERID_HEADER), context, headers)
-      .compose(unitsForUser -> getOpenForReadAcqUnitIds(context, headers)
+  @Override
+  public Future<List<String>> getAcqUnitIdsForSearch(RequestContext requestContext) {
+    return getAcqUnitIdsForUser(requestContext.getHeaders().get(OKAPI_USERID_HEADER), requestContext)
+      .compose(unitsForUser -> getOpenForReadAcqUnitIds(requestContext)
       .map(unitsAllowRead -> StreamEx.of(unitsForUser, unitsAllowRead)
         .flatCollection(strings -> strings)
         .distinct()
         .toList()));
   }
 
-  private Future<List<String>> getAcqUnitIdsForUser(String userId, Context context, Map<String, String> headers) {
+  private Future<List<String>> getAcqUnitIdsForUser(String userId, RequestContext requestContext) {
     logger.debug("getAcqUnitIdsForUser:: Trying to get acquisition unit ids with userId: {}", userId);
-    return getAcquisitionsUnitsMemberships("userId==" + userId, 0, Integer.MAX_VALUE, context, headers)
+    return getAcquisitionsUnitsMemberships("userId==" + userId, 0, Integer.MAX_VALUE, requestContext)
       .map(memberships -> {
         List<String> ids = memberships.getAcquisitionsUnitMemberships()
           .stream()
@@ -93,9 +96,9 @@ public class AcquisitionsUnitsServiceImpl implements AcquisitionsUnitsService {
       });
   }
 
-  private Future<List<String>> getOpenForReadAcqUnitIds(Context context, Map<String, String> headers) {
+  private Future<List<String>> getOpenForReadAcqUnitIds(RequestContext requestContext) {
     logger.debug("getOpenForReadAcqUnitIds:: Trying to get acquisition unit ids with open status");
-    return getAcquisitionsUnits("protectRead==false", 0, Integer.MAX_VALUE, context, headers)
+    return getAcquisitionsUnits("protectRead==false", 0, Integer.MAX_VALUE, requestContext)
       .map(units -> {
         List<String> ids = units.getAcquisitionsUnits()
           .stream()
@@ -5,6 +5,9 @@ import static org.folio.exception.ErrorCodes.ORGANIZATION_UNITS_NOT_FOUND;
 import static org.folio.exception.ErrorCodes.USER_HAS_NO_ACQ_PERMISSIONS;
 import static org.folio.exception.ErrorCodes.USER_HAS_NO_PERMISSIONS;
 import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.client.EventLoopWatchdog.CQL_PHASE;
+import static org.folio.rest.client.ServerTiming.MEMBERSHIP_PHASE;
+import static org.folio.rest.client.ServerTiming.UNITS_PHASE;
 import static org.folio.service.protection.AcqDesiredPermissions.MANAGE;
 import static org.folio.service.protection.ProtectedOperationType.UPDATE;
 import static org.folio.util.RestUtils.ACQUISITIONS_UNIT_ID;
@@ -12,6 +15,7 @@ import static org.folio.util.RestUtils.ACQUISITIONS_UNIT_IDS;
 import static org.folio.util.RestUtils.ALL_UNITS_CQL;
 import static org.folio.util.RestUtils.combineCqlExpressions;
 import static org.folio.util.RestUtils.convertIdsToCqlQuery;
+import static org.folio.util.TracingUtils.inSpan;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -26,6 +30,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.HttpStatus;
 import org.folio.exception.HttpException;
+import org.folio.jfr.OperationRestrictionsEvent;
+import org.folio.rest.client.RequestContext;
 import org.folio.rest.acq.model.AcquisitionsUnit;
 import org.folio.rest.acq.model.AcquisitionsUnitCollection;
 import org.folio.rest.jaxrs.model.Error;
@@ -33,7 +39,6 @@ import org.folio.rest.jaxrs.model.Organization;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 
@@ -51,15 +56,22 @@ public class ProtectionServiceImpl implements ProtectionService {
   }
 
   @Override
-  public Future<Void> checkOperationsRestrictions(List<String> unitIds, Set<ProtectedOperationType> operations, Context context, Map<String, String> headers) {
+  public Future<Void> checkOperationsRestrictions(List<String> unitIds, Set<ProtectedOperationType> operations, RequestContext requestContext) {
     logger.debug("checkOperationsRestrictions:: Trying to check operation restrictions by unitIds: {} and '{}' operations", unitIds, operations.size());
+    var event = new OperationRestrictionsEvent();
+    event.begin();
+    return checkRestrictions(unitIds, operations, requestContext)
+      .onComplete(ar -> event.commit(unitIds, operations, ar));
+  }
 
+  private Future<Void> checkRestrictions(List<String> unitIds, Set<ProtectedOperationType> operations, RequestContext requestContext) {
     if (CollectionUtils.isEmpty(unitIds)) {
       logger.debug("checkOperationsRestrictions:: unitIds is empty");
       return Future.succeededFuture();
     }
 
-    return getUnitsByIds(unitIds, context, headers)
+    return requestContext.getServerTiming()
+        .measure(UNITS_PHASE, () -> inSpan("getUnitsByIds", requestContext, stepContext -> getUnitsByIds(unitIds, stepContext)))
         .compose(units -> {
           if (unitIds.size() == units.size()) {
             logger.info("checkOperationsRestrictions:: equal unitIds size '{}' and fetched units size '{}'", unitIds.size(), units.size());
@@ -67,7 +79,9 @@ public class ProtectionServiceImpl implements ProtectionService {
               .filter(unit -> !unit.getIsDeleted())
               .collect(Collectors.toList());
             if (!activeUnits.isEmpty() && applyMergingStrategy(activeUnits, operations)) {
-              return verifyUserIsMemberOfOrganizationUnits(extractUnitIds(activeUnits), headers.get(OKAPI_USERID_HEADER), context, headers);
+              return requestContext.getServerTiming()
+                .measure(MEMBERSHIP_PHASE, () -> inSpan("verifyUserIsMemberOfOrganizationUnits", requestContext,
+                  stepContext -> verifyUserIsMemberOfOrganizationUnits(extractUnitIds(activeUnits), requestContext.getHeaders().get(OKAPI_USERID_HEADER), stepContext)));
             }
           } else {
             logger.warn("checkOperationsRestrictions:: mismatch between unitIds size '{}' and fetched units size '{}'", unitIds.size(), units.size());
@@ -78,20 +92,32 @@ public class ProtectionServiceImpl implements ProtectionService {
   }
 
   @Override
-  public Future<Void> validateAcqUnitsOnUpdate(Organization updatedOrg, Organization currentOrg, Context context, Map<String, String> headers) {
+  public Future<Void> validateAcqUnitsOnUpdate(Organization updatedOrg, Organization currentOrg, RequestContext requestContext) {
     logger.debug("validateAcqUnitsOnUpdate:: Trying to verify acquisition units for updating between current entity and incoming payload");
     List<String> updatedAcqUnitIds = updatedOrg.getAcqUnitIds();
     List<String> currentAcqUnitIds = currentOrg.getAcqUnitIds();
 
-    verifyUserHasManagePermission(updatedAcqUnitIds, currentAcqUnitIds, getProvidedPermissions(headers));
-    return verifyIfUnitsAreActive(ListUtils.subtract(updatedAcqUnitIds, currentAcqUnitIds), context, headers)
-      .compose(ok -> checkOperationsRestrictions(currentAcqUnitIds, Collections.singleton(UPDATE), context, headers));
+    verifyUserHasManagePermission(updatedAcqUnitIds, currentAcqUnitIds, getProvidedPermissions(requestContext.getHeaders()));
+    return verifyIfUnitsAreActive(ListUtils.subtract(updatedAcqUnitIds, currentAcqUnitIds), requestContext)
+      .compose(ok -> checkOperationsRestrictions(currentAcqUnitIds, Collections.singleton(UPDATE), requestContext));
+  }
+
+  @Override
+  public Future<Void> checkDesiredPermission(AcqDesiredPermissions permission, RequestContext requestContext) {
+    if (isUserDoesNotHaveDesiredPermission(permission, getProvidedPermissions(requestContext.getHeaders()))) {
+      logger.warn("checkDesiredPermission:: User does not have desired permission '{}'", permission.getPermission());
+      return Future.failedFuture(new HttpException(HttpStatus.HTTP_FORBIDDEN.toInt(), USER_HAS_NO_PERMISSIONS));
+    }
+    return Future.succeededFuture();
   }
 
-  private Future<List<AcquisitionsUnit>> getUnitsByIds(List<String> unitIds, Context context, Map<String, String> headers) {
+  private Future<List<AcquisitionsUnit>> getUnitsByIds(List<String> unitIds, RequestContext requestContext) {
     logger.debug("getUnitsByIds:: Trying to get units by unitIds: {}", unitIds);
-    String query = combineCqlExpressions("and", ALL_UNITS_CQL, convertIdsToCqlQuery(unitIds));
-    return acquisitionsUnitsService.getAcquisitionsUnits(query, 0, Integer.MAX_VALUE, context, headers)
+    String query;
+    try (var section = requestContext.enterPhase(CQL_PHASE)) {
+      query = combineCqlExpressions("and", ALL_UNITS_CQL, convertIdsToCqlQuery(unitIds));
+    }
+    return acquisitionsUnitsService.getAcquisitionsUnits(query, 0, Integer.MAX_VALUE, requestContext)
       .map(AcquisitionsUnitCollection::getAcquisitionsUnits);
   }
 
@@ -99,10 +125,10 @@ public class ProtectionServiceImpl implements ProtectionService {
     return units.stream().allMatch(unit -> operations.stream().anyMatch(operation -> operation.isProtected(unit)));
   }
 
-  private Future<Void> verifyUserIsMemberOfOrganizationUnits(List<String> unitIdsAssignedToOrg, String currentUserId, Context context, Map<String, String> headers) {
+  private Future<Void> verifyUserIsMemberOfOrganizationUnits(List<String> unitIdsAssignedToOrg, String currentUserId, RequestContext requestContext) {
     logger.debug("verifyUserIsMemberOfOrganizationUnits:: Trying to verify user '{}' is member of organization units: {}", currentUserId, unitIdsAssignedToOrg);
     String query = String.format("userId==%s AND %s", currentUserId, convertIdsToCqlQuery(unitIdsAssignedToOrg, ACQUISITIONS_UNIT_ID, true));
-    return acquisitionsUnitsService.getAcquisitionsUnitsMemberships(query, 0, Integer.MAX_VALUE, context, headers)
+    return acquisitionsUnitsService.getAcquisitionsUnitsMemberships(query, 0, Integer.MAX_VALUE, requestContext)
       .map(unit -> {
         if (unit.getTotalRecords() == 0) {
           throw new HttpException(HttpStatus.HTTP_FORBIDDEN.toInt(), USER_HAS_NO_PERMISSIONS);
@@ -157,12 +183,13 @@ public class ProtectionServiceImpl implements ProtectionService {
    * @param acqUnitIds list of unit IDs.
    * @return future completed successfully if all units exist and active or exceptionally otherwise
    */
-  public Future<Void> verifyIfUnitsAreActive(List<String> acqUnitIds, Context context, Map<String, String> headers) {
+  public Future<Void> verifyIfUnitsAreActive(List<String> acqUnitIds, RequestContext requestContext) {
     logger.debug("verifyIfUnitsAreActive:: Trying to verify if units are active by acqUnitsIds: {}", acqUnitIds);
     if (acqUnitIds.isEmpty()) {
       return Future.succeededFuture();
     }
-    return getUnitsByIds(acqUnitIds, context, headers)
+    return requestContext.getServerTiming()
+      .measure(UNITS_PHASE, () -> inSpan("getUnitsByIds", requestContext, stepContext -> getUnitsByIds(acqUnitIds, stepContext)))
       .compose(units -> {
         List<String> activeUnitIds = units.stream()
           .filter(unit -> !unit.getIsDeleted())
@@ -0,0 +1,65 @@
+package org.folio.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.util.CqlNode.Bool;
+import org.folio.util.CqlNode.Clause;
+import org.folio.util.CqlNode.Sorted;
+import org.folio.util.CqlNode.Term;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Brings semantically identical CQL queries to the same text, so that they share cache entries: whitespace, case of
+ * boolean operators and named relations, redundant quotes and parentheses are normalized and the terms of
+ * {@code or} lists like {@code id==(b or a or b)} are sorted and deduplicated.
+ */
+@UtilityClass
+public class CqlCanonicalizer {
+
+  private static final String OR = "or";
+
+  /**
+   * @param query CQL query
+   * @return canonical form of the query, the stripped query as is if it cannot be parsed
+   */
+  public static String canonicalize(String query) {
+    return canonicalize(query, CqlParser.tryParse(query));
+  }
+
+  /**
+   * @param query  CQL query
+   * @param parsed the query parsed with {@link CqlParser#tryParse(String)}
+   * @return canonical form of the query, the stripped query as is if it could not be parsed
+   */
+  public static String canonicalize(String query, CqlNode parsed) {
+    return parsed == null ? StringUtils.strip(StringUtils.defaultString(query)) : canonicalize(parsed).toCql();
+  }
+
+  /**
+   * @param node parsed query
+   * @return node with sorted and deduplicated term lists
+   */
+  public static CqlNode canonicalize(CqlNode node) {
+    if (node instanceof Sorted sorted) {
+      return new Sorted(canonicalize(sorted.query()), sorted.sortKeys());
+    }
+    if (node instanceof Bool bool) {
+      return new Bool(bool.operator(), bool.modifiers(), canonicalize(bool.left()), canonicalize(bool.right()));
+    }
+    Clause clause = (Clause) node;
+    if (!OR.equals(clause.termOperator())) {
+      return clause;
+    }
+    Map<String, Term> terms = new TreeMap<>();
+    for (Term term : clause.terms()) {
+      StringBuilder rendered = new StringBuilder();
+      term.appendTo(rendered);
+      terms.putIfAbsent(rendered.toString(), term);
+    }
+    return new Clause(clause.index(), clause.relation(), clause.modifiers(), List.copyOf(terms.values()), clause.termOperator());
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.util;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Node of a CQL query parsed by {@link CqlParser}.
+ * <p>
+ * {@link #toCql()} renders the node in canonical form: boolean operators and named relations in lower case, single
+ * spaces, no spaces around symbolic relations, quotes only around terms that need them and parentheses only where
+ * they change the meaning of the query.
+ */
+public sealed interface CqlNode permits CqlNode.Clause, CqlNode.Bool, CqlNode.Sorted {
+
+  void appendTo(StringBuilder cql);
+
+  default String toCql() {
+    StringBuilder cql = new StringBuilder();
+    appendTo(cql);
+    return cql.toString();
+  }
+
+  /**
+   * Search clause: index, relation and a term or a parenthesized list of terms joined with {@code termOperator},
+   * e.g. {@code id==(a or b)}. A term without index and relation is a clause with {@code null} index.
+   */
+  record Clause(String index, String relation, String modifiers, List<Term> terms, String termOperator) implements CqlNode {
+
+    public static Clause of(Term term) {
+      return new Clause(null, null, "", List.of(term), null);
+    }
+
+    @Override
+    public void appendTo(StringBuilder cql) {
+      if (index != null) {
+        cql.append(index);
+        if (modifiers.isEmpty() && CqlParser.isSymbolicRelation(relation)) {
+          cql.append(relation);
+        } else {
+          cql.append(' ').append(relation).append(modifiers).append(' ');
+        }
+      }
+      if (terms.size() == 1) {
+        terms.get(0).appendTo(cql);
+        return;
+      }
+      cql.append('(');
+      for (int i = 0; i < terms.size(); i++) {
+        if (i > 0) {
+          cql.append(' ').append(termOperator).append(' ');
+        }
+        terms.get(i).appendTo(cql);
+      }
+      cql.append(')');
+    }
+  }
+
+  /**
+   * Term of a search clause, {@code value} of a quoted term is the text between the quotes with escapes kept.
+   */
+  record Term(String value, boolean quoted) {
+
+    private static final Set<String> RESERVED_WORDS = Set.of("and", "or", "not", "prox", "sortby");
+
+    public void appendTo(StringBuilder cql) {
+      if (quoted && !isPlainWord()) {
+        cql.append('"').append(value).append('"');
+      } else {
+        cql.append(value);
+      }
+    }
+
+    /**
+     * @return whether the term means the same with and without quotes
+     */
+    private boolean isPlainWord() {
+      if (value.isEmpty() || RESERVED_WORDS.contains(value.toLowerCase(Locale.ROOT))) {
+        return false;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '\\' || CqlParser.isWordBreak(c)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Boolean operator with its operands. Operands that are booleans themselves are put in parentheses, unless both
+   * are the same associative operator, so that the rendered query does not depend on CQL precedence rules.
+   */
+  record Bool(String operator, String modifiers, CqlNode left, CqlNode right) implements CqlNode {
+
+    @Override
+    public void appendTo(StringBuilder cql) {
+      appendOperand(left, cql);
+      cql.append(' ').append(operator).append(modifiers).append(' ');
+      appendOperand(right, cql);
+    }
+
+    private void appendOperand(CqlNode operand, StringBuilder cql) {
+      if (operand instanceof Bool bool && !isAssociativeWith(bool)) {
+        cql.append('(');
+        operand.appendTo(cql);
+        cql.append(')');
+      } else {
+        operand.appendTo(cql);
+      }
+    }
+
+    private boolean isAssociativeWith(Bool other) {
+      return operator.equals(other.operator) && modifiers.isEmpty() && other.modifiers.isEmpty()
+        && ("and".equals(operator) || "or".equals(operator));
+    }
+  }
+
+  /**
+   * Query with sort keys, each key rendered with its modifiers, e.g. {@code name/sort.descending}.
+   */
+  record Sorted(CqlNode query, List<String> sortKeys) implements CqlNode {
+
+    @Override
+    public void appendTo(StringBuilder cql) {
+      query.appendTo(cql);
+      cql.append(" sortBy");
+      sortKeys.forEach(key -> cql.append(' ').append(key));
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package org.folio.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.util.CqlNode.Bool;
+import org.folio.util.CqlNode.Clause;
+import org.folio.util.CqlNode.Sorted;
+import org.folio.util.CqlNode.Term;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Parser of the CQL subset sent to storage modules: search clauses with symbolic or named relations and relation
+ * modifiers, parenthesized term lists like {@code id==(a or b)}, boolean operators with modifiers, nested
+ * parentheses and {@code sortBy}.
+ */
+@Log4j2
+@UtilityClass
+public class CqlParser {
+
+  private static final Set<String> BOOLEANS = Set.of("and", "or", "not", "prox");
+  private static final Set<String> SYMBOLIC_RELATIONS = Set.of("=", "==", "<>", "<", ">", "<=", ">=");
+  private static final Set<String> SORT_BY = Set.of("sortby");
+
+  /**
+   * @param query CQL query
+   * @return root node of the query
+   * @throws CqlParseException if the query is not valid CQL
+   */
+  public static CqlNode parse(String query) {
+    return new Parser(tokenize(query)).parseSortedQuery();
+  }
+
+  /**
+   * @param query CQL query
+   * @return root node of the query, {@code null} if the query is blank or not valid CQL
+   */
+  public static CqlNode tryParse(String query) {
+    if (StringUtils.isBlank(query)) {
+      return null;
+    }
+    try {
+      return parse(query);
+    } catch (CqlParseException e) {
+      log.debug("tryParse:: Query '{}' is not parsed: {}", query, e.getMessage());
+      return null;
+    }
+  }
+
+  static boolean isSymbolicRelation(String relation) {
+    return SYMBOLIC_RELATIONS.contains(relation);
+  }
+
+  static boolean isWordBreak(char c) {
+    return Character.isWhitespace(c) || c == '(' || c == ')' || c == '"' || c == '/' || c == '<' || c == '>' || c == '=';
+  }
+
+  private static List<Token> tokenize(String query) {
+    List<Token> tokens = new ArrayList<>();
+    int length = query.length();
+    int i = 0;
+    while (i < length) {
+      char c = query.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (c == '(' || c == ')' || c == '/') {
+        tokens.add(new Token(c == '(' ? Type.LPAREN : c == ')' ? Type.RPAREN : Type.SLASH, String.valueOf(c)));
+        i++;
+      } else if (c == '<' || c == '>' || c == '=') {
+        int end = i + 1;
+        if (end < length && (query.charAt(end) == '=' || c == '<' && query.charAt(end) == '>')) {
+          end++;
+        }
+        tokens.add(new Token(Type.COMPARATOR, query.substring(i, end)));
+        i = end;
+      } else if (c == '"') {
+        int end = i + 1;
+        while (end < length && query.charAt(end) != '"') {
+          end += query.charAt(end) == '\\' ? 2 : 1;
+        }
+        if (end >= length) {
+          throw new CqlParseException("Unterminated quoted term at " + i);
+        }
+        tokens.add(new Token(Type.QUOTED, query.substring(i + 1, end)));
+        i = end + 1;
+      } else {
+        int end = i + 1;
+        while (end < length && !isWordBreak(query.charAt(end))) {
+          end++;
+        }
+        tokens.add(new Token(Type.WORD, query.substring(i, end)));
+        i = end;
+      }
+    }
+    tokens.add(new Token(Type.EOF, ""));
+    return tokens;
+  }
+
+  private enum Type {
+    WORD, QUOTED, LPAREN, RPAREN, SLASH, COMPARATOR, EOF
+  }
+
+  private record Token(Type type, String text) {
+
+    boolean isWord(Set<String> words) {
+      return type == Type.WORD && words.contains(text.toLowerCase(Locale.ROOT));
+    }
+
+    boolean isTerm() {
+      return type == Type.WORD || type == Type.QUOTED;
+    }
+
+    Term toTerm() {
+      return new Term(text, type == Type.QUOTED);
+    }
+  }
+
+  private static final class Parser {
+
+    private final List<Token> tokens;
+    private int position;
+
+    private Parser(List<Token> tokens) {
+      this.tokens = tokens;
+    }
+
+    CqlNode parseSortedQuery() {
+      CqlNode query = parseQuery();
+      if (peek().isWord(SORT_BY)) {
+        next();
+        List<String> sortKeys = new ArrayList<>();
+        while (peek().isTerm()) {
+          StringBuilder key = new StringBuilder();
+          next().toTerm().appendTo(key);
+          sortKeys.add(key.append(parseModifiers()).toString());
+        }
+        if (sortKeys.isEmpty()) {
+          throw error("sort key");
+        }
+        query = new Sorted(query, List.copyOf(sortKeys));
+      }
+      expect(Type.EOF, "end of query");
+      return query;
+    }
+
+    private CqlNode parseQuery() {
+      CqlNode left = parseSearchClause();
+      while (peek().isWord(BOOLEANS)) {
+        String operator = next().text.toLowerCase(Locale.ROOT);
+        String modifiers = parseModifiers();
+        left = new Bool(operator, modifiers, left, parseSearchClause());
+      }
+      return left;
+    }
+
+    private CqlNode parseSearchClause() {
+      if (peek().type == Type.LPAREN) {
+        next();
+        CqlNode query = parseQuery();
+        expect(Type.RPAREN, "')'");
+        return query;
+      }
+      Token first = expectTerm();
+      Token relation = peek();
+      boolean namedRelation = relation.type == Type.WORD && !relation.isWord(BOOLEANS) && !relation.isWord(SORT_BY);
+      if (relation.type != Type.COMPARATOR && !namedRelation) {
+        return Clause.of(first.toTerm());
+      }
+      next();
+      String relationName = namedRelation ? relation.text.toLowerCase(Locale.ROOT) : relation.text;
+      String modifiers = parseModifiers();
+      if (peek().type != Type.LPAREN) {
+        return new Clause(first.text, relationName, modifiers, List.of(expectTerm().toTerm()), null);
+      }
+      next();
+      List<Term> terms = new ArrayList<>();
+      terms.add(expectTerm().toTerm());
+      String termOperator = null;
+      while (peek().isWord(BOOLEANS)) {
+        String operator = next().text.toLowerCase(Locale.ROOT);
+        if (termOperator != null && !termOperator.equals(operator)) {
+          throw error("'" + termOperator + "'");
+        }
+        termOperator = operator;
+        terms.add(expectTerm().toTerm());
+      }
+      expect(Type.RPAREN, "')'");
+      return new Clause(first.text, relationName, modifiers, terms, termOperator);
+    }
+
+    private String parseModifiers() {
+      if (peek().type != Type.SLASH) {
+        return "";
+      }
+      StringBuilder modifiers = new StringBuilder();
+      while (peek().type == Type.SLASH) {
+        next();
+        modifiers.append('/').append(expect(Type.WORD, "modifier").text);
+        if (peek().type == Type.COMPARATOR) {
+          modifiers.append(next().text);
+          expectTerm().toTerm().appendTo(modifiers);
+        }
+      }
+      return modifiers.toString();
+    }
+
+    private Token expectTerm() {
+      Token token = peek();
+      if (!token.isTerm()) {
+        throw error("term");
+      }
+      return next();
+    }
+
+    private Token expect(Type type, String expected) {
+      if (peek().type != type) {
+        throw error(expected);
+      }
+      return next();
+    }
+
+    private Token peek() {
+      return tokens.get(position);
+    }
+
+    private Token next() {
+      return tokens.get(position++);
+    }
+
+    private CqlParseException error(String expected) {
+      Token token = peek();
+      return new CqlParseException("Expected " + expected + " but found "
+        + (token.type == Type.EOF ? "end of query" : "'" + token.text + "'") + " at token " + position);
+    }
+  }
+
+  /**
+   * Thrown when a query is not valid CQL.
+   */
+  public static class CqlParseException extends IllegalArgumentException {
+
+    public CqlParseException(String message) {
+      super(message);
+    }
+  }
+}
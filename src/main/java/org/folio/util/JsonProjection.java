@@ -0,0 +1,147 @@
+package org.folio.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+import io.vertx.core.json.jackson.DatabindCodec;
+
+/**
+ * Projection of a record, or of each record of a collection, to the requested fields, e.g. {@code id,code,name} or
+ * {@code name,addresses.city}.
+ * <p>
+ * The projection is applied while the entity is serialized: the generator skips the properties that are not requested,
+ * so their values are never written and no JSON tree of the full entity is built. Properties of a collection other than
+ * its records, like {@code totalRecords}, are always written.
+ */
+public class JsonProjection {
+
+  private static final JsonProjection NONE = new JsonProjection(null);
+
+  private final TokenFilter filter;
+
+  private JsonProjection(TokenFilter filter) {
+    this.filter = filter;
+  }
+
+  /**
+   * @param fields comma separated fields of the record, nested fields separated with dots, blank for all fields
+   * @return projection of a record
+   */
+  public static JsonProjection ofRecord(String fields) {
+    FieldsFilter fieldsFilter = FieldsFilter.parse(fields);
+    return fieldsFilter == null ? NONE : new JsonProjection(fieldsFilter);
+  }
+
+  /**
+   * @param recordsProperty property of the collection holding the records
+   * @param fields          comma separated fields of each record, nested fields separated with dots, blank for all fields
+   * @return projection of each record of a collection
+   */
+  public static JsonProjection ofCollection(String recordsProperty, String fields) {
+    FieldsFilter fieldsFilter = FieldsFilter.parse(fields);
+    return fieldsFilter == null ? NONE : new JsonProjection(new CollectionFilter(recordsProperty, fieldsFilter));
+  }
+
+  /**
+   * @return whether all fields are requested
+   */
+  public boolean isEmpty() {
+    return filter == null;
+  }
+
+  /**
+   * @param entity record or collection
+   * @return JSON of the entity with the requested fields only
+   */
+  public String write(Object entity) {
+    StringWriter json = new StringWriter();
+    try (JsonGenerator generator = DatabindCodec.mapper().createGenerator(json)) {
+      JsonGenerator target = isEmpty() ? generator :
+        new FilteringGeneratorDelegate(generator, filter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+      DatabindCodec.mapper().writeValue(target, entity);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return json.toString();
+  }
+
+  /**
+   * Filter of the properties of a record: a requested property is written whole, a property with requested nested
+   * fields is written with those fields only. Elements of arrays are filtered as their array.
+   */
+  private static final class FieldsFilter extends TokenFilter {
+
+    private final Map<String, FieldsFilter> properties = new HashMap<>();
+
+    private static FieldsFilter parse(String fields) {
+      FieldsFilter root = new FieldsFilter();
+      for (String field : StringUtils.split(StringUtils.defaultString(fields), ',')) {
+        root.add(StringUtils.split(field.trim(), '.'), 0);
+      }
+      return root.properties.isEmpty() ? null : root;
+    }
+
+    private void add(String[] path, int index) {
+      if (index == path.length) {
+        return;
+      }
+      String property = path[index];
+      if (index == path.length - 1) {
+        // a whole property wins over its nested fields
+        properties.put(property, null);
+      } else if (!properties.containsKey(property) || properties.get(property) != null) {
+        properties.computeIfAbsent(property, p -> new FieldsFilter()).add(path, index + 1);
+      }
+    }
+
+    @Override
+    public TokenFilter includeProperty(String name) {
+      if (!properties.containsKey(name)) {
+        return null;
+      }
+      FieldsFilter nested = properties.get(name);
+      return nested == null ? TokenFilter.INCLUDE_ALL : nested;
+    }
+
+    /**
+     * Keeps records without any of the requested fields, so a collection keeps all its records.
+     */
+    @Override
+    public boolean includeEmptyObject(boolean contentsFiltered) {
+      return true;
+    }
+
+    @Override
+    public boolean includeEmptyArray(boolean contentsFiltered) {
+      return true;
+    }
+  }
+
+  /**
+   * Filter of a collection: the records are filtered by the fields filter, other properties are written whole.
+   */
+  private static final class CollectionFilter extends TokenFilter {
+
+    private final String recordsProperty;
+    private final FieldsFilter recordFilter;
+
+    private CollectionFilter(String recordsProperty, FieldsFilter recordFilter) {
+      this.recordsProperty = recordsProperty;
+      this.recordFilter = recordFilter;
+    }
+
+    @Override
+    public TokenFilter includeProperty(String name) {
+      return recordsProperty.equals(name) ? recordFilter : TokenFilter.INCLUDE_ALL;
+    }
+  }
+}
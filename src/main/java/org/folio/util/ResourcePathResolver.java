@@ -10,7 +10,7 @@ public class ResourcePathResolver {
 
   public static final String ACQUISITIONS_UNITS = "acquisitionsUnits";
   public static final String ACQUISITIONS_MEMBERSHIPS = "acquisitionsMemberships";
-  public static final Pattern CQL_SORT_BY_PATTERN = Pattern.compile("(.*)(\\ssortBy\\s.*)", Pattern.CASE_INSENSITIVE);
+  public static final Pattern CQL_SORT_BY_PATTERN = Pattern.compile("(.*)(\\ssortBy\\s.*)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
   public static final String ORGANIZATIONS = "organizations";
   public static final String BANKING_INFORMATION = "bankingInformation";
   private static final Map<String, String> SUB_OBJECT_ITEM_APIS;
@@ -43,4 +43,19 @@ public class ResourcePathResolver {
   public static String resourceByIdPath(String field, String id) {
     return SUB_OBJECT_ITEM_APIS.get(field) + id;
   }
+
+  /**
+   * @param endpoint storage endpoint, optionally with id and query
+   * @return name of the resource the endpoint belongs to or {@code null} if the endpoint is unknown
+   */
+  public static String resourceByPath(String endpoint) {
+    for (Map.Entry<String, String> api : SUB_OBJECT_COLLECTION_APIS.entrySet()) {
+      String path = api.getValue();
+      if (endpoint.startsWith(path)
+        && (endpoint.length() == path.length() || endpoint.charAt(path.length()) == '/' || endpoint.charAt(path.length()) == '?')) {
+        return api.getKey();
+      }
+    }
+    return null;
+  }
 }
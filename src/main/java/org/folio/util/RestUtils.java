@@ -14,6 +14,7 @@ import java.util.regex.Matcher;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.jfr.CqlBuildEvent;
 
 import lombok.experimental.UtilityClass;
 import one.util.streamex.StreamEx;
@@ -58,18 +59,22 @@ public class RestUtils {
       return EMPTY;
     }
 
+    var event = new CqlBuildEvent();
+    event.begin();
     String sorting = EMPTY;
 
     // Check whether last expression contains sorting query. If it does, extract it to be added in the end of the resulting query
     Matcher matcher = CQL_SORT_BY_PATTERN.matcher(expressions[expressions.length - 1]);
-    if (matcher.find()) {
+    if (matcher.lookingAt()) {
       expressions[expressions.length - 1] = matcher.group(1);
       sorting = matcher.group(2);
     }
 
-    return StreamEx.of(expressions)
+    String query = StreamEx.of(expressions)
       .filter(StringUtils::isNotBlank)
       .joining(") " + operator + " (", "(", ")") + sorting;
+    event.commit(operator, expressions.length, !sorting.isEmpty(), query);
+    return query;
   }
 
   public static String convertIdsToCqlQuery(Collection<String> values, String fieldName, boolean strictMatch) {
@@ -0,0 +1,136 @@
+package org.folio.util;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.folio.rest.client.RequestContext;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Tracing helpers on top of the OpenTelemetry API. Spans are exported only when an OpenTelemetry SDK (or the Java agent)
+ * is registered globally, otherwise the API is a no-op and none of the helpers allocate attributes or touch headers.
+ */
+@UtilityClass
+public class TracingUtils {
+
+  public static final String INSTRUMENTATION_NAME = "org.folio.mod-organizations";
+  public static final AttributeKey<String> TENANT = AttributeKey.stringKey("folio.tenant");
+  public static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.request.method");
+  public static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+  public static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+
+  private static final TextMapGetter<Map<String, String>> HEADERS_GETTER = new TextMapGetter<>() {
+    @Override
+    public Iterable<String> keys(Map<String, String> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      return carrier == null ? null : carrier.get(key);
+    }
+  };
+  private static final TextMapSetter<MultiMap> HEADERS_SETTER = (carrier, key, value) -> {
+    if (carrier != null) {
+      carrier.set(key, value);
+    }
+  };
+
+  /**
+   * Starts a span for an API handler, continuing the trace from the incoming headers if any.
+   *
+   * @param operation API handler name
+   * @param headers   OKAPI headers of the incoming request
+   * @return started span, must be ended with {@link #endSpan(Span, AsyncResult)}
+   */
+  public static Span startServerSpan(String operation, Map<String, String> headers) {
+    Context parent = GlobalOpenTelemetry.getPropagators()
+      .getTextMapPropagator()
+      .extract(Context.root(), headers, HEADERS_GETTER);
+    Span span = tracer().spanBuilder(operation)
+      .setParent(parent)
+      .setSpanKind(SpanKind.SERVER)
+      .startSpan();
+    if (span.isRecording()) {
+      span.setAttribute(TENANT, headers.get(OKAPI_HEADER_TENANT));
+    }
+    return span;
+  }
+
+  /**
+   * Starts a span for an outbound call and propagates the trace context into the outbound headers.
+   *
+   * @param method         HTTP method
+   * @param endpoint       storage endpoint
+   * @param requestContext request context holding the current span
+   * @param headers        outbound headers
+   * @return started span, must be ended with {@link #endSpan(Span, AsyncResult)}
+   */
+  public static Span startClientSpan(HttpMethod method, String endpoint, RequestContext requestContext, MultiMap headers) {
+    Span span = tracer().spanBuilder(method.name())
+      .setParent(Context.root().with(requestContext.getSpan()))
+      .setSpanKind(SpanKind.CLIENT)
+      .startSpan();
+    if (span.getSpanContext().isValid()) {
+      GlobalOpenTelemetry.getPropagators()
+        .getTextMapPropagator()
+        .inject(Context.root().with(span), headers, HEADERS_SETTER);
+    }
+    if (span.isRecording()) {
+      span.setAttribute(HTTP_METHOD, method.name());
+      span.setAttribute(URL_PATH, endpoint.split("\\?", 2)[0]);
+    }
+    return span;
+  }
+
+  /**
+   * Runs the action in a child span of the current span of the request context. The action gets the request context of
+   * the step, see {@link RequestContext#forSpan(Span)}, so its storage calls are children of the step span.
+   *
+   * @param name           span name
+   * @param requestContext request context holding the current span
+   * @param action         action to trace
+   * @return future returned by the action
+   */
+  public static <T> Future<T> inSpan(String name, RequestContext requestContext, Function<RequestContext, Future<T>> action) {
+    Span span = tracer().spanBuilder(name)
+      .setParent(Context.root().with(requestContext.getSpan()))
+      .startSpan();
+    return action.apply(requestContext.forSpan(span))
+      .onComplete(ar -> endSpan(span, ar));
+  }
+
+  public static void setStatusCode(Span span, int statusCode) {
+    if (span.isRecording()) {
+      span.setAttribute(HTTP_STATUS_CODE, statusCode);
+    }
+  }
+
+  public static void endSpan(Span span, AsyncResult<?> result) {
+    if (result.failed() && span.isRecording()) {
+      span.recordException(result.cause());
+      span.setStatus(StatusCode.ERROR);
+    }
+    span.end();
+  }
+
+  private static Tracer tracer() {
+    return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_NAME);
+  }
+}
@@ -0,0 +1,141 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.impl.MockServer.USER_FULL_PROTECTED_MEMBERSHIP_ID;
+import static org.folio.rest.impl.TestEntities.BANKING_INFORMATION_ENTITY;
+import static org.folio.rest.impl.TestEntities.ORGANIZATION_FULL_PROTECTED;
+import static org.folio.rest.impl.TestEntities.ORGANIZATION_NO_ACQ;
+import static org.folio.util.RestUtils.SEARCH_PARAMS;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.HttpStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.specification.RequestSpecification;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Measures bytes allocated by the Vert.x event loop threads per request and fails when the average exceeds the budget.
+ * <p>
+ * Budgets are bytes per request and can be overridden with {@code allocation.budget.<name>} system properties,
+ * e.g. {@code mvn test -Dallocation.budget.getById=524288}.
+ */
+class AllocationBudgetTest extends ApiTestBase {
+
+  private static final Logger logger = LogManager.getLogger(AllocationBudgetTest.class);
+  private static final String EVENT_LOOP_THREAD_PREFIX = "vert.x-eventloop-thread";
+  private static final String BUDGET_PROPERTY_PREFIX = "allocation.budget.";
+  private static final int WARM_UP_REQUESTS = 50;
+  private static final int MEASURED_REQUESTS = 100;
+  private static final long READ_BUDGET = 2L * 1024 * 1024;
+  private static final long WRITE_BUDGET = 3L * 1024 * 1024;
+
+  private static ThreadMXBean threadMXBean;
+
+  private final Headers headers = Headers.headers(X_OKAPI_URL, X_OKAPI_TENANT,
+    new Header(OKAPI_USERID_HEADER, USER_FULL_PROTECTED_MEMBERSHIP_ID));
+
+  @BeforeAll
+  static void enableAllocationCounters() {
+    threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @Test
+  void testGetOrganizationByIdAllocations() {
+    logger.info("===== Verify GET organization by ID allocates within budget =====");
+
+    String url = ORGANIZATION_FULL_PROTECTED.getUrl() + PATH_SEPARATOR + ORGANIZATION_FULL_PROTECTED.getId();
+    verifyAllocationBudget("getById", READ_BUDGET, () -> request().get(url).statusCode());
+  }
+
+  @Test
+  void testGetOrganizationCollectionAllocations() {
+    logger.info("===== Verify GET organization collection allocates within budget =====");
+
+    String url = String.format(ORGANIZATION_FULL_PROTECTED.getUrl() + SEARCH_PARAMS, 10, 0, "&query=id==" + ORGANIZATION_FULL_PROTECTED.getId());
+    verifyAllocationBudget("getCollection", READ_BUDGET, () -> request().get(url).statusCode());
+  }
+
+  @Test
+  void testPutOrganizationAllocations() {
+    logger.info("===== Verify PUT organization allocates within budget =====");
+
+    String url = ORGANIZATION_FULL_PROTECTED.getUrl() + PATH_SEPARATOR + ORGANIZATION_FULL_PROTECTED.getId();
+    String body = ORGANIZATION_FULL_PROTECTED.getSample()
+      .put(ORGANIZATION_FULL_PROTECTED.getUpdatedFieldName(), ORGANIZATION_FULL_PROTECTED.getUpdatedFieldValue())
+      .encode();
+    verifyAllocationBudget("put", WRITE_BUDGET, () -> request().body(body).put(url).statusCode());
+  }
+
+  @Test
+  void testPostOrganizationAllocations() {
+    logger.info("===== Verify POST organization allocates within budget =====");
+
+    String body = JsonObject.mapFrom(ORGANIZATION_NO_ACQ.getSample()).encode();
+    verifyAllocationBudget("post", WRITE_BUDGET, () -> request().body(body).post(ORGANIZATION_NO_ACQ.getUrl()).statusCode());
+  }
+
+  @Test
+  void testGetBankingInformationByIdAllocations() {
+    logger.info("===== Verify GET banking information by ID allocates within budget =====");
+
+    String url = BANKING_INFORMATION_ENTITY.getUrl() + PATH_SEPARATOR + BANKING_INFORMATION_ENTITY.getId();
+    verifyAllocationBudget("getBankingInformationById", READ_BUDGET, () -> request().get(url).statusCode());
+  }
+
+  private RequestSpecification request() {
+    return RestAssured.with()
+      .headers(headers)
+      .contentType(ContentType.JSON);
+  }
+
+  private void verifyAllocationBudget(String name, long defaultBudget, Supplier<Integer> request) {
+    long budget = Long.getLong(BUDGET_PROPERTY_PREFIX + name, defaultBudget);
+    for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+      assertThat(request.get(), lessThanOrEqualTo(HttpStatus.HTTP_NO_CONTENT.toInt()));
+    }
+
+    long[] threadIds = getEventLoopThreadIds();
+    long before = getAllocatedBytes(threadIds);
+    for (int i = 0; i < MEASURED_REQUESTS; i++) {
+      request.get();
+    }
+    long allocatedPerRequest = (getAllocatedBytes(threadIds) - before) / MEASURED_REQUESTS;
+
+    logger.info("===== {}: {} bytes allocated per request, budget {} bytes =====", name, allocatedPerRequest, budget);
+    assertThat(name + " bytes allocated per request", allocatedPerRequest, lessThanOrEqualTo(budget));
+  }
+
+  private static long[] getEventLoopThreadIds() {
+    return Thread.getAllStackTraces().keySet().stream()
+      .filter(thread -> thread.getName().startsWith(EVENT_LOOP_THREAD_PREFIX))
+      .mapToLong(Thread::threadId)
+      .toArray();
+  }
+
+  private static long getAllocatedBytes(long[] threadIds) {
+    long total = 0;
+    for (long allocated : threadMXBean.getThreadAllocatedBytes(threadIds)) {
+      if (allocated > 0) {
+        total += allocated;
+      }
+    }
+    return total;
+  }
+}
@@ -6,10 +6,12 @@ import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.impl.TestSuite.isInitialized;
 import static org.folio.rest.impl.TestSuite.mockPort;
 
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import org.folio.HttpStatus;
+import org.folio.rest.client.RequestContext;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,6 +21,7 @@ import io.restassured.RestAssured;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import io.vertx.core.Vertx;
 
 public class ApiTestBase {
 
@@ -27,6 +30,7 @@ public class ApiTestBase {
   public static final String PATH_SEPARATOR = "/";
   public static final String OKAPI_HEADER_PERMISSIONS = "X-Okapi-Permissions";
 
+  protected static Vertx vertx;
   private static boolean runningOnOwn;
 
   @BeforeAll
@@ -35,15 +39,24 @@ public class ApiTestBase {
       runningOnOwn = true;
       TestSuite.globalSetUp();
     }
+    vertx = Vertx.vertx();
   }
 
   @AfterAll
   public static void globalTearDown() {
+    vertx.close();
     if (runningOnOwn) {
       TestSuite.globalTearDown();
     }
   }
 
+  /**
+   * @return request context of a request of the tenant with the mock server as Okapi
+   */
+  public static RequestContext requestContext(String tenant) {
+    return new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_URL, X_OKAPI_URL.getValue(), OKAPI_HEADER_TENANT, tenant));
+  }
+
   @BeforeEach
   public void setUp() {
     MockServer.resetRequests();
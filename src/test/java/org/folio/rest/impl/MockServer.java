@@ -259,6 +259,13 @@ public class MockServer {
           .encode())
         .withHeader(CONTENT_TYPE, APPLICATION_JSON)
         .withStatus(200)));
+
+    wireMockServer.stubFor(get(urlEqualTo(String.format(resourcesPath(BANKING_INFORMATION_ENTITY.getResource()) + SEARCH_PARAMS,
+      100, 0, buildQuery("organizationId==\"" + ORGANIZATION_NO_ACQ_ID + "\""))))
+      .willReturn(aResponse().withBody(BANKING_INFORMATION_ENTITY.getCollection()
+          .encode())
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withStatus(200)));
   }
 
   public static void destroy() {
@@ -1,9 +1,18 @@
 package org.folio.rest.impl;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.SERVER_SENT_EVENTS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.config.Constants.ID;
 import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.client.ServerTiming.SERVER_TIMING_HEADER;
+import static org.folio.rest.impl.MockServer.ACQ_UNIT_FULL_PROTECTED_ID;
 import static org.folio.rest.impl.MockServer.ACQ_UNIT_READ_ONLY_ID;
 import static org.folio.rest.impl.MockServer.ACQ_UNIT_UPDATE_ONLY_ID;
 import static org.folio.rest.impl.MockServer.ID_INTERNAL_SERVER_ERROR;
@@ -13,19 +22,27 @@ import static org.folio.rest.impl.MockServer.ORGANIZATION_NO_ACQ_ID;
 import static org.folio.rest.impl.MockServer.USER_FULL_PROTECTED_MEMBERSHIP_ID;
 import static org.folio.rest.impl.MockServer.USER_NO_MEMBERSHIP_ID;
 import static org.folio.rest.impl.MockServer.USER_READ_ONLY_MEMBERSHIP_ID;
+import static org.folio.rest.impl.TestEntities.BANKING_INFORMATION_ENTITY;
 import static org.folio.rest.impl.TestEntities.ORGANIZATION_FULL_PROTECTED;
 import static org.folio.rest.impl.TestEntities.ORGANIZATION_NO_ACQ;
 import static org.folio.rest.impl.TestEntities.ORGANIZATION_READ_PROTECTED;
 import static org.folio.rest.impl.TestEntities.ORGANIZATION_UPDATE_PROTECTED;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.ResourcePathResolver.ORGANIZATIONS;
+import static org.folio.util.ResourcePathResolver.resourcesPath;
 import static org.folio.util.RestUtils.SEARCH_PARAMS;
+import static org.folio.util.RestUtils.buildQuery;
 import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.containsString;
 import static wiremock.org.hamcrest.Matchers.equalTo;
 import static wiremock.org.hamcrest.Matchers.hasSize;
 import static wiremock.org.hamcrest.Matchers.is;
+import static wiremock.org.hamcrest.Matchers.notNullValue;
 import static wiremock.org.hamcrest.Matchers.nullValue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -35,7 +52,11 @@ import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.HttpStatus;
+import org.folio.rest.client.ServerTiming;
+import org.folio.rest.jaxrs.model.Metadata;
+import org.folio.rest.jaxrs.model.Organization;
 import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -55,6 +76,33 @@ class OrganizationApiTest extends ApiTestBase {
   private static final List<TestEntities> openForUpdateEntities = Arrays.asList(ORGANIZATION_NO_ACQ, ORGANIZATION_UPDATE_PROTECTED);
   private static final List<TestEntities> fullProtectedEntities = Collections.singletonList(ORGANIZATION_FULL_PROTECTED);
   private static final String MANAGE_PERMISSIONS = "organizations.acquisitions-units-assignments.manage.execute";
+  private static final String BANKING_INFORMATION_PERMISSIONS = "organizations.banking-information.collection.get";
+  private static final String INDEX_PAGE_QUERY = "cql.allRecords=1 sortBy id";
+  private static final int INDEX_PAGE_SIZE = 1000;
+  private static final String ZEBRA_ID = "7d1c3b2a-4e5f-4a6b-9c8d-2e3f4a5b6c71";
+  private static final String ZEBRAFISH_ID = "7d1c3b2a-4e5f-4a6b-9c8d-2e3f4a5b6c72";
+  private static final Organization ZEBRA = new Organization().withId(ZEBRA_ID).withName("Zebra Books").withCode("ZEBRA")
+    .withIsVendor(true).withStatus(Organization.Status.ACTIVE)
+    .withMetadata(new Metadata().withUpdatedDate(new Date(1_700_000_000_000L)));
+  private static final Organization ZEBRAFISH = new Organization().withId(ZEBRAFISH_ID).withName("Zebrafish Supply")
+    .withCode("ZFISH").withIsVendor(true).withStatus(Organization.Status.INACTIVE)
+    .withAcqUnitIds(List.of(ACQ_UNIT_FULL_PROTECTED_ID));
+
+  @BeforeAll
+  static void stubIndexLoadAndChanges() {
+    MockServer.getInstance().stubFor(get(urlEqualTo(String.format(GET_ORGANIZATIONS_BY_QUERY, INDEX_PAGE_SIZE, 0,
+        buildQuery(INDEX_PAGE_QUERY))))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(new OrganizationCollection().withOrganizations(List.of(ZEBRA, ZEBRAFISH))
+          .withTotalRecords(2)).encode())));
+    MockServer.getInstance().stubFor(get(urlPathEqualTo(resourcesPath(ORGANIZATIONS)))
+      .withQueryParam("query", containing("metadata.updatedDate"))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(new OrganizationCollection().withOrganizations(List.of(ZEBRA))
+          .withTotalRecords(1)).encode())));
+  }
 
   @Test
   void testPost() {
@@ -123,6 +171,97 @@ class OrganizationApiTest extends ApiTestBase {
     assertThat(actual, equalTo(expected));
   }
 
+  @Test
+  void testGetEventsAsEventStream() {
+    logger.info("===== Verify GET events without waiting: Successful as an event stream =====");
+
+    String url = ORGANIZATION_NO_ACQ.getUrl() + "/events?subscription=api-test&wait=0";
+    String stream = verifyGetRequest(url, headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), SERVER_SENT_EVENTS,
+      HttpStatus.HTTP_OK.toInt()).getBody().asString();
+
+    assertThat(stream, containsString("retry: "));
+  }
+
+  @Test
+  void testGetByIdWithFields() {
+    logger.info("===== Verify GET by ID with fields: Successful with the requested fields only =====");
+
+    String url = ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ORGANIZATION_NO_ACQ.getId() + "?fields=id,code";
+    JsonObject actual = new JsonObject(verifyGetRequest(url, headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID),
+      APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    assertThat(actual, equalTo(new JsonObject()
+      .put(ID, ORGANIZATION_NO_ACQ.getId())
+      .put("code", ORGANIZATION_NO_ACQ.getSample().getString("code"))));
+  }
+
+  @Test
+  void testGetCollectionWithFields() {
+    logger.info("===== Verify GET collection with fields: Successful with the requested fields of each organization =====");
+
+    JsonObject actual = new JsonObject(verifyGetRequest(ORGANIZATION_NO_ACQ.getUrl() + "?fields=code,status",
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    JsonObject expected = TestEntities.getOpenForReadEntitiesCollection();
+    assertThat(actual.getInteger("totalRecords"), is(expected.getInteger("totalRecords")));
+    assertThat(actual.getJsonArray("organizations"), equalTo(new JsonArray(expected.getJsonArray("organizations").stream()
+      .map(JsonObject.class::cast)
+      .map(organization -> new JsonObject().put("code", organization.getString("code")).put("status", organization.getString("status")))
+      .toList())));
+  }
+
+  @Test
+  void testGetSuggestions() {
+    logger.info("===== Verify GET suggestions: Successful with the visible organizations matching the prefix =====");
+
+    JsonObject actual = new JsonObject(verifyGetRequest("/organizations/suggestions?prefix=zebr",
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    assertThat(actual.getInteger("totalRecords"), is(1));
+    assertThat(actual.getJsonArray("suggestions").getJsonObject(0).getString(ID), is(ZEBRA_ID));
+  }
+
+  @Test
+  void testPostDuplicates() {
+    logger.info("===== Verify POST duplicates: Successful with the visible organizations of similar name =====");
+
+    String body = JsonObject.mapFrom(new Organization().withName("Zebra Books Ltd").withCode("ZBL")).encode();
+    JsonObject actual = new JsonObject(verifyPostRequest("/organizations/duplicates", body,
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    assertThat(actual.getJsonArray("duplicates").getJsonObject(0).getString(ID), is(ZEBRA_ID));
+  }
+
+  @Test
+  void testGetFacets() {
+    logger.info("===== Verify GET facets: Successful with the value counts of the visible organizations matching the query =====");
+
+    JsonObject actual = new JsonObject(verifyGetRequest("/organizations/facets?facets=status&rebuild=true&query=isVendor==true",
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    assertThat(actual.getInteger("totalRecords"), is(1));
+    JsonObject status = actual.getJsonArray("facets").getJsonObject(0);
+    assertThat(status.getString("name"), is("status"));
+    assertThat(status.getJsonArray("values"), equalTo(new JsonArray()
+      .add(new JsonObject().put("value", Organization.Status.ACTIVE.value()).put("count", 1))));
+  }
+
+  @Test
+  void testGetChanges() {
+    logger.info("===== Verify GET changes: Successful with the updated and deleted organizations =====");
+
+    verifyDeleteRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ORGANIZATION_NO_ACQ.getId());
+    JsonObject actual = new JsonObject(verifyGetRequest("/organizations/changes?limit=100",
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    List<JsonObject> changes = actual.getJsonArray("changes").stream().map(JsonObject.class::cast).toList();
+    assertThat(changes.get(0).getString(ID), is(ZEBRA_ID));
+    assertThat(changes.get(0).getString("type"), is("update"));
+    assertThat(changes.stream()
+      .anyMatch(change -> "delete".equals(change.getString("type")) && ORGANIZATION_NO_ACQ.getId().equals(change.getString(ID))), is(true));
+    assertThat(actual.getString("nextCursor"), is(notNullValue()));
+  }
+
   @ParameterizedTest
   @MethodSource("getFullProtectedEntities")
   void testGetByIdProtectedWithValidMembership(TestEntities e) {
@@ -137,6 +276,66 @@ class OrganizationApiTest extends ApiTestBase {
     assertThat(actual, equalTo(expected));
   }
 
+  @Test
+  void testGetByIdWithBankingInformation() {
+    logger.info("===== Verify GET by ID with banking information included: Successful with permission, Forbidden without =====");
+
+    String url = ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ORGANIZATION_NO_ACQ.getId() + "?include=bankingInformation";
+    JsonObject actual = new JsonObject(verifyGetRequest(url,
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID, BANKING_INFORMATION_PERMISSIONS), APPLICATION_JSON,
+      HttpStatus.HTTP_OK.toInt()).getBody().print());
+
+    assertThat(actual.getString(ID), is(ORGANIZATION_NO_ACQ.getId()));
+    assertThat(actual.getString("code"), is(ORGANIZATION_NO_ACQ.getSample().getString("code")));
+    assertThat(actual.getJsonArray("bankingInformation").size(), is(1));
+    assertThat(actual.getJsonArray("bankingInformation").getJsonObject(0).getString("bankName"),
+      is(BANKING_INFORMATION_ENTITY.getSample().getString("bankName")));
+
+    verifyGetRequest(url, headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, 403);
+  }
+
+  @Test
+  void testGetByIdWithServerTiming() {
+    logger.info("===== Verify GET by ID full protected organization with Server-Timing requested: Successful =====");
+
+    Headers headers = Headers.headers(X_OKAPI_URL,
+      X_OKAPI_TENANT,
+      new Header(OKAPI_USERID_HEADER, USER_FULL_PROTECTED_MEMBERSHIP_ID),
+      new Header(ServerTiming.REQUEST_HEADER, "true"));
+
+    String serverTiming = verifyGetRequest(ORGANIZATION_FULL_PROTECTED.getUrl() + PATH_SEPARATOR + ORGANIZATION_FULL_PROTECTED.getId(),
+      headers, APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getHeader(SERVER_TIMING_HEADER);
+
+    assertThat(serverTiming, containsString("storage;dur="));
+    assertThat(serverTiming, containsString("units;dur="));
+    assertThat(serverTiming, containsString("membership;dur="));
+    assertThat(serverTiming, containsString("total;dur="));
+  }
+
+  @Test
+  void testGetByIdWithoutServerTiming() {
+    logger.info("===== Verify GET by ID without Server-Timing requested: no Server-Timing header =====");
+
+    String serverTiming = verifyGetRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ORGANIZATION_NO_ACQ.getId(),
+      headersForUserAndPermissions(USER_NO_MEMBERSHIP_ID), APPLICATION_JSON, HttpStatus.HTTP_OK.toInt()).getHeader(SERVER_TIMING_HEADER);
+
+    assertThat(serverTiming, nullValue());
+  }
+
+  @Test
+  void testDeleteNotFoundWithServerTiming() {
+    logger.info("===== Verify DELETE by ID not found with Server-Timing requested: Not Found with Server-Timing header =====");
+
+    Headers headers = Headers.headers(X_OKAPI_URL,
+      X_OKAPI_TENANT,
+      new Header(ServerTiming.REQUEST_HEADER, "true"));
+
+    String serverTiming = verifyDeleteRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ID_NOT_FOUND,
+      headers, APPLICATION_JSON, 404).getHeader(SERVER_TIMING_HEADER);
+
+    assertThat(serverTiming, containsString("total;dur="));
+  }
+
   @ParameterizedTest
   @MethodSource("getFullProtectedEntities")
   void testGetByIdProtectedWithWrongMembership(TestEntities e) {
@@ -457,7 +656,7 @@ class OrganizationApiTest extends ApiTestBase {
     verifyDeleteRequest(e.getUrl() + PATH_SEPARATOR + ORGANIZATION_NO_ACQ_ID);
 
     assertThat(MockServer.getInstance()
-      .getAllServeEvents(), hasSize(1));
+      .getAllServeEvents(), hasSize(2));
   }
 
   @ParameterizedTest
@@ -0,0 +1,452 @@
+package org.folio.rest.impl;
+
+import static org.folio.exception.ErrorCodes.STORAGE_UNAVAILABLE;
+import static org.folio.exception.ErrorCodes.TENANT_REQUESTS_LIMIT_EXCEEDED;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.greaterThan;
+import static wiremock.org.hamcrest.Matchers.is;
+import static wiremock.org.hamcrest.Matchers.lessThan;
+import static wiremock.org.hamcrest.Matchers.lessThanOrEqualTo;
+import static wiremock.org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.HttpStatus;
+import org.folio.exception.HttpException;
+import org.folio.exception.ModuleOverloadedException;
+import org.folio.rest.client.EventLoopWatchdog;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RequestPriority;
+import org.folio.rest.client.StorageConcurrencyLimiter;
+import org.folio.rest.client.StoragePriorityLanes;
+import org.folio.service.admission.EventLoopLagMonitor;
+import org.folio.service.admission.LoadShedder;
+import org.folio.service.admission.TenantScheduler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Overload behaviour of the storage concurrency limiter, against a storage stub whose latency grows with the number of
+ * requests it is serving, the priority lanes, the tenant scheduler and load shedding.
+ */
+class OverloadControlTest extends ApiTestBase {
+
+  private static final Logger logger = LogManager.getLogger(OverloadControlTest.class);
+  private static final String RESOURCE = "loadSensitiveRecords";
+  private static final long LATENCY_PER_REQUEST_MS = 5;
+  private static final long SLOW_LATENCY_MS = 500;
+  private static final String RECORDS_PATH = "/records";
+  private static final String SLOW_RECORDS_PATH = "/slow-records";
+  private static final String BULK_TENANT = "bulk_tenant";
+  private static final String INTERACTIVE_TENANT = "interactive_tenant";
+
+  private static WebClient webClient;
+  private static HttpServer storageStub;
+  private static final AtomicInteger inFlight = new AtomicInteger();
+  private static final AtomicInteger maxInFlight = new AtomicInteger();
+
+  @BeforeAll
+  static void startStorageStub() throws Exception {
+    webClient = WebClient.create(vertx, new WebClientOptions(), new PoolOptions().setHttp1MaxSize(100));
+    storageStub = await(vertx.createHttpServer()
+      .requestHandler(request -> {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        long latency = SLOW_RECORDS_PATH.equals(request.path()) ? SLOW_LATENCY_MS : LATENCY_PER_REQUEST_MS * current;
+        vertx.setTimer(latency, id -> {
+          inFlight.decrementAndGet();
+          request.response().end("{}");
+        });
+      })
+      .listen(0));
+    await(send());
+  }
+
+  @BeforeEach
+  void resetStorageStub() {
+    maxInFlight.set(0);
+  }
+
+  @Test
+  void testConcurrencyLimitAdaptsToStorageLatency() throws Exception {
+    logger.info("===== Verify concurrency limit is lowered when storage latency grows with load =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StorageConcurrencyLimiter limiter = new StorageConcurrencyLimiter(true, 50, 100, 50, 1000, 10000, meterRegistry);
+
+    List<Future<HttpResponse<Buffer>>> responses = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      responses.add(limiter.execute(vertx, RESOURCE, OverloadControlTest::send));
+    }
+    await(Future.all(responses));
+
+    int limit = limiter.getLimit(RESOURCE);
+    logger.info("===== Concurrency limit {}, max requests in flight at storage {} =====", limit, maxInFlight.get());
+    assertThat(limit, lessThan(50));
+    assertThat(maxInFlight.get(), lessThanOrEqualTo(50));
+    assertThat(getGaugeValue(meterRegistry, StorageConcurrencyLimiter.LIMIT_METRIC), is((double) limit));
+    assertThat(getGaugeValue(meterRegistry, StorageConcurrencyLimiter.IN_FLIGHT_METRIC), is(0.0));
+    assertThat(getGaugeValue(meterRegistry, StorageConcurrencyLimiter.QUEUE_METRIC), is(0.0));
+  }
+
+  @Test
+  void testRequestsOverLimitRejectedWhenQueueIsFull() throws Exception {
+    logger.info("===== Verify requests over the concurrency limit are queued and rejected with 503 when the queue is full =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StorageConcurrencyLimiter limiter = new StorageConcurrencyLimiter(true, 1, 1, 1000, 1, 10000, meterRegistry);
+
+    Future<HttpResponse<Buffer>> running = limiter.execute(vertx, RESOURCE, OverloadControlTest::send);
+    Future<HttpResponse<Buffer>> queued = limiter.execute(vertx, RESOURCE, OverloadControlTest::send);
+    Future<HttpResponse<Buffer>> rejected = limiter.execute(vertx, RESOURCE, OverloadControlTest::send);
+
+    assertThat(rejected.failed(), is(true));
+    HttpException exception = (HttpException) rejected.cause();
+    assertThat(exception.getCode(), is(HttpStatus.HTTP_UNAVAILABLE.toInt()));
+    assertThat(exception.getError().getCode(), is(STORAGE_UNAVAILABLE.getCode()));
+    assertThat(await(running).statusCode(), is(200));
+    assertThat(await(queued).statusCode(), is(200));
+    assertThat(maxInFlight.get(), is(1));
+    assertThat(meterRegistry.get(StorageConcurrencyLimiter.REJECTED_METRIC)
+      .tag(StorageConcurrencyLimiter.RESOURCE_TAG, RESOURCE)
+      .counter()
+      .count(), is(1.0));
+  }
+
+  @Test
+  void testQueuedRequestRejectedAfterQueueTimeout() throws Exception {
+    logger.info("===== Verify queued request is rejected with 503 after the queue timeout =====");
+
+    StorageConcurrencyLimiter limiter = new StorageConcurrencyLimiter(true, 1, 1, 1000, 10, 1, new SimpleMeterRegistry());
+
+    Future<HttpResponse<Buffer>> running = limiter.execute(vertx, RESOURCE, () -> send(SLOW_RECORDS_PATH));
+    long start = System.nanoTime();
+    Throwable failure = awaitFailure(limiter.execute(vertx, RESOURCE, OverloadControlTest::send));
+
+    assertThat(((HttpException) failure).getCode(), is(HttpStatus.HTTP_UNAVAILABLE.toInt()));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(SLOW_LATENCY_MS));
+    assertThat(await(running).statusCode(), is(200));
+    assertThat(maxInFlight.get(), is(1));
+  }
+
+  @Test
+  void testQueuedRequestStartsOnItsContextAfterThrowingRequest() throws Exception {
+    logger.info("===== Verify a request throwing on start frees its slot and a queued request starts on its context =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StorageConcurrencyLimiter limiter = new StorageConcurrencyLimiter(true, 1, 1, 1000, 10, 10000, meterRegistry);
+    Context context = vertx.getOrCreateContext();
+
+    Throwable failure = awaitFailure(limiter.execute(vertx, RESOURCE, () -> {
+      throw new IllegalStateException("request failed to start");
+    }));
+    Future<HttpResponse<Buffer>> running = limiter.execute(vertx, RESOURCE, () -> send(SLOW_RECORDS_PATH));
+    Future<Context> queued = onContext(context, () -> limiter.execute(vertx, RESOURCE,
+      () -> Future.succeededFuture(Vertx.currentContext())));
+
+    assertThat(failure.getMessage(), is("request failed to start"));
+    assertThat(await(queued), is(context));
+    assertThat(await(running).statusCode(), is(200));
+    assertThat(getGaugeValue(meterRegistry, StorageConcurrencyLimiter.IN_FLIGHT_METRIC), is(0.0));
+  }
+
+  @Test
+  void testInteractiveTenantNotQueuedBehindBulkTenant() throws Exception {
+    logger.info("===== Verify operations of a small tenant start right away while a bulk tenant is limited and queued =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TenantScheduler scheduler = new TenantScheduler(true, 3, 2, 8, 10000, meterRegistry);
+    AtomicInteger bulkInFlight = new AtomicInteger();
+    AtomicInteger bulkMaxInFlight = new AtomicInteger();
+    Supplier<Future<Void>> bulkOperation = () -> {
+      bulkMaxInFlight.accumulateAndGet(bulkInFlight.incrementAndGet(), Math::max);
+      return vertx.timer(200).onComplete(ar -> bulkInFlight.decrementAndGet()).mapEmpty();
+    };
+
+    List<Future<Void>> bulk = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      bulk.add(scheduler.submit(requestContext(BULK_TENANT), bulkOperation));
+    }
+    Throwable rejected = awaitFailure(scheduler.submit(requestContext(BULK_TENANT), bulkOperation));
+    Future<String> interactive = scheduler.submit(requestContext(INTERACTIVE_TENANT), () -> Future.succeededFuture("done"));
+
+    assertThat(interactive.succeeded(), is(true));
+    assertThat(((HttpException) rejected).getCode(), is(429));
+    assertThat(((HttpException) rejected).getError().getCode(), is(TENANT_REQUESTS_LIMIT_EXCEEDED.getCode()));
+    assertThat(getTenantGaugeValue(meterRegistry, TenantScheduler.IN_FLIGHT_METRIC, BULK_TENANT), is(2.0));
+    assertThat(getTenantGaugeValue(meterRegistry, TenantScheduler.QUEUE_METRIC, BULK_TENANT), is(8.0));
+
+    await(Future.all(bulk));
+    assertThat(bulkMaxInFlight.get(), is(2));
+    assertThat(getTenantGaugeValue(meterRegistry, TenantScheduler.IN_FLIGHT_METRIC, BULK_TENANT), is(0.0));
+    assertThat(getTenantGaugeValue(meterRegistry, TenantScheduler.QUEUE_METRIC, BULK_TENANT), is(0.0));
+    assertThat(meterRegistry.get(TenantScheduler.REJECTED_METRIC)
+      .tag(TenantScheduler.TENANT_TAG, BULK_TENANT)
+      .counter()
+      .count(), is(1.0));
+  }
+
+  @Test
+  void testWaitingTenantsServedRoundRobin() throws Exception {
+    logger.info("===== Verify waiting tenants are served in turns when module capacity frees up =====");
+
+    TenantScheduler scheduler = new TenantScheduler(true, 1, 1, 10, 10000, new SimpleMeterRegistry());
+    List<String> started = Collections.synchronizedList(new ArrayList<>());
+    Function<String, Supplier<Future<Void>>> operation = tenant -> () -> {
+      started.add(tenant);
+      return vertx.timer(20).mapEmpty();
+    };
+
+    List<Future<Void>> operations = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      operations.add(scheduler.submit(requestContext(BULK_TENANT), operation.apply(BULK_TENANT)));
+    }
+    operations.add(scheduler.submit(requestContext(INTERACTIVE_TENANT), operation.apply(INTERACTIVE_TENANT)));
+    await(Future.all(operations));
+
+    assertThat(started, is(List.of(BULK_TENANT, BULK_TENANT, INTERACTIVE_TENANT, BULK_TENANT, BULK_TENANT)));
+  }
+
+  @Test
+  void testThrowingOperationReleasesTenantCapacity() throws Exception {
+    logger.info("===== Verify an operation throwing on start fails and frees its slot for the next operation =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TenantScheduler scheduler = new TenantScheduler(true, 1, 1, 10, 10000, meterRegistry);
+
+    Throwable failure = awaitFailure(scheduler.submit(requestContext(BULK_TENANT), () -> {
+      throw new IllegalStateException("operation failed to start");
+    }));
+    String result = await(scheduler.submit(requestContext(BULK_TENANT), () -> Future.succeededFuture("done")));
+
+    assertThat(failure.getMessage(), is("operation failed to start"));
+    assertThat(result, is("done"));
+    assertThat(getTenantGaugeValue(meterRegistry, TenantScheduler.IN_FLIGHT_METRIC, BULK_TENANT), is(0.0));
+  }
+
+  @Test
+  void testItemRequestsUseReservedCapacity() throws Exception {
+    logger.info("===== Verify item requests use reserved capacity while bulk requests fill the shared capacity =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StoragePriorityLanes lanes = new StoragePriorityLanes(true, 3, 1, 0, 0, 10, 10000, meterRegistry);
+
+    List<Future<HttpResponse<Buffer>>> bulk = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      bulk.add(lanes.execute(vertx, RequestPriority.BULK, () -> send(SLOW_RECORDS_PATH)));
+    }
+    assertThat(getLaneGaugeValue(meterRegistry, StoragePriorityLanes.IN_FLIGHT_METRIC, RequestPriority.BULK), is(2.0));
+    assertThat(getLaneGaugeValue(meterRegistry, StoragePriorityLanes.QUEUE_METRIC, RequestPriority.BULK), is(3.0));
+
+    long start = System.nanoTime();
+    HttpResponse<Buffer> item = await(lanes.execute(vertx, RequestPriority.ITEM, OverloadControlTest::send));
+
+    assertThat(item.statusCode(), is(200));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(SLOW_LATENCY_MS));
+    await(Future.all(bulk));
+    assertThat(getLaneGaugeValue(meterRegistry, StoragePriorityLanes.IN_FLIGHT_METRIC, RequestPriority.BULK), is(0.0));
+    assertThat(meterRegistry.get(StoragePriorityLanes.WAIT_METRIC)
+      .tag(StoragePriorityLanes.LANE_TAG, RequestPriority.BULK.getLaneName())
+      .timer()
+      .count(), is(5L));
+  }
+
+  @Test
+  void testFreedCapacityGoesToMostUrgentLane() throws Exception {
+    logger.info("===== Verify waiting requests of the most urgent lane start first =====");
+
+    StoragePriorityLanes lanes = new StoragePriorityLanes(true, 1, 0, 0, 0, 10, 10000, new SimpleMeterRegistry());
+    List<RequestPriority> started = Collections.synchronizedList(new ArrayList<>());
+    Function<RequestPriority, Supplier<Future<Void>>> operation = priority -> () -> {
+      started.add(priority);
+      return vertx.timer(20).mapEmpty();
+    };
+
+    List<Future<Void>> operations = new ArrayList<>();
+    for (RequestPriority priority : List.of(RequestPriority.BULK, RequestPriority.BULK, RequestPriority.COLLECTION,
+        RequestPriority.ITEM)) {
+      operations.add(lanes.execute(vertx, priority, operation.apply(priority)));
+    }
+    await(Future.all(operations));
+
+    assertThat(started, is(List.of(RequestPriority.BULK, RequestPriority.ITEM, RequestPriority.COLLECTION,
+      RequestPriority.BULK)));
+  }
+
+  @Test
+  void testQueuedRequestResumedOnItsContext() throws Exception {
+    logger.info("===== Verify a queued request starts on the context it was queued from =====");
+
+    StoragePriorityLanes lanes = new StoragePriorityLanes(true, 1, 0, 0, 0, 10, 10000, new SimpleMeterRegistry());
+    Context context = vertx.getOrCreateContext();
+
+    Future<HttpResponse<Buffer>> running = lanes.execute(vertx, RequestPriority.BULK, () -> send(SLOW_RECORDS_PATH));
+    Future<Context> queued = onContext(context, () -> lanes.execute(vertx, RequestPriority.BULK,
+      () -> Future.succeededFuture(Vertx.currentContext())));
+
+    assertThat(await(queued), is(context));
+    assertThat(await(running).statusCode(), is(200));
+  }
+
+  @Test
+  void testCollectionRequestsShedWhileEventLoopLags() throws Exception {
+    logger.info("===== Verify collection requests are shed with Retry-After while the event loop lags =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LoadShedder loadShedder = new LoadShedder(true, 100, 2, new EventLoopLagMonitor(10, 0, meterRegistry), meterRegistry);
+    Context context = vertx.getOrCreateContext();
+    RequestContext collection = requestContext(INTERACTIVE_TENANT);
+    collection.withPriority(RequestPriority.COLLECTION);
+    RequestContext item = requestContext(INTERACTIVE_TENANT);
+
+    await(onContext(context, () -> loadShedder.admit(collection)));
+    await(onContext(context, () -> {
+      blockEventLoop(500);
+      return Future.succeededFuture();
+    }));
+    Throwable shed = awaitFailure(onContext(context, () -> vertx.timer(30).compose(v -> loadShedder.admit(collection))));
+    await(onContext(context, () -> loadShedder.admit(item)));
+
+    assertThat(shed instanceof ModuleOverloadedException, is(true));
+    assertThat(((ModuleOverloadedException) shed).getCode(), is(HttpStatus.HTTP_UNAVAILABLE.toInt()));
+    assertThat(((ModuleOverloadedException) shed).getRetryAfterSeconds(), is(2L));
+    assertThat(meterRegistry.get(EventLoopLagMonitor.LAG_METRIC).gauge().value(), greaterThan(100.0));
+    assertThat(meterRegistry.get(LoadShedder.SHED_METRIC)
+      .tag(LoadShedder.LANE_TAG, RequestPriority.COLLECTION.getLaneName())
+      .counter()
+      .count(), is(1.0));
+  }
+
+  @Test
+  void testEventLoopStallIgnoredDuringWarmUp() throws Exception {
+    logger.info("===== Verify event loop stalls during the warm-up of the lag probe do not shed requests =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LoadShedder loadShedder = new LoadShedder(true, 100, 2, new EventLoopLagMonitor(10, 60_000, meterRegistry), meterRegistry);
+    Context context = vertx.getOrCreateContext();
+    RequestContext collection = requestContext(INTERACTIVE_TENANT);
+    collection.withPriority(RequestPriority.COLLECTION);
+
+    await(onContext(context, () -> loadShedder.admit(collection)));
+    await(onContext(context, () -> {
+      blockEventLoop(500);
+      return Future.succeededFuture();
+    }));
+    await(onContext(context, () -> vertx.timer(30).compose(v -> loadShedder.admit(collection))));
+
+    assertThat(meterRegistry.get(EventLoopLagMonitor.LAG_METRIC).gauge().value(), is(0.0));
+    assertThat(meterRegistry.find(LoadShedder.SHED_METRIC).counter(), is(nullValue()));
+  }
+
+  @Test
+  void testEventLoopStallAttributedToOperationAndPhase() throws Exception {
+    logger.info("===== Verify event loop stalls are attributed to the API handler and phase =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    EventLoopWatchdog watchdog = new EventLoopWatchdog(true, 100, 10, meterRegistry);
+    RequestContext requestContext = requestContext(INTERACTIVE_TENANT);
+    requestContext.withOperation("getOrganizations", watchdog);
+
+    try {
+      await(onContext(vertx.getOrCreateContext(), () -> {
+        try (var cql = requestContext.enterPhase(EventLoopWatchdog.CQL_PHASE)) {
+          try (var response = requestContext.enterPhase(EventLoopWatchdog.STORAGE_RESPONSE_PHASE)) {
+            blockEventLoop(10);
+          }
+          blockEventLoop(300);
+        }
+        return Future.succeededFuture();
+      }));
+      try (var offEventLoop = requestContext.enterPhase(EventLoopWatchdog.STORAGE_REQUEST_PHASE)) {
+        blockEventLoop(300);
+      }
+    } finally {
+      watchdog.close();
+    }
+
+    Timer stalls = meterRegistry.get(EventLoopWatchdog.STALL_METRIC)
+      .tag(EventLoopWatchdog.OPERATION_TAG, "getOrganizations")
+      .tag(EventLoopWatchdog.PHASE_TAG, EventLoopWatchdog.CQL_PHASE)
+      .timer();
+    assertThat(stalls.count(), is(1L));
+    assertThat(stalls.totalTime(TimeUnit.MILLISECONDS), greaterThan(300.0));
+    assertThat(meterRegistry.find(EventLoopWatchdog.STALL_METRIC)
+      .tag(EventLoopWatchdog.PHASE_TAG, EventLoopWatchdog.STORAGE_RESPONSE_PHASE)
+      .timer(), is(nullValue()));
+    assertThat(meterRegistry.find(EventLoopWatchdog.STALL_METRIC)
+      .tag(EventLoopWatchdog.PHASE_TAG, EventLoopWatchdog.STORAGE_REQUEST_PHASE)
+      .timer(), is(nullValue()));
+  }
+
+  private static Future<HttpResponse<Buffer>> send() {
+    return send(RECORDS_PATH);
+  }
+
+  private static Future<HttpResponse<Buffer>> send(String path) {
+    return webClient.get(storageStub.actualPort(), "localhost", path).send();
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+
+  private static Throwable awaitFailure(Future<?> future) throws Exception {
+    return await(future.map(result -> (Throwable) null).recover(Future::succeededFuture));
+  }
+
+  private static <T> Future<T> onContext(Context context, Supplier<Future<T>> action) {
+    Promise<T> promise = Promise.promise();
+    context.runOnContext(v -> action.get().onComplete(promise));
+    return promise.future();
+  }
+
+  private static void blockEventLoop(long millis) {
+    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static double getTenantGaugeValue(SimpleMeterRegistry meterRegistry, String name, String tenant) {
+    return meterRegistry.get(name)
+      .tag(TenantScheduler.TENANT_TAG, tenant)
+      .gauge()
+      .value();
+  }
+
+  private static double getLaneGaugeValue(SimpleMeterRegistry meterRegistry, String name, RequestPriority priority) {
+    return meterRegistry.get(name)
+      .tag(StoragePriorityLanes.LANE_TAG, priority.getLaneName())
+      .gauge()
+      .value();
+  }
+
+  private static double getGaugeValue(SimpleMeterRegistry meterRegistry, String name) {
+    return meterRegistry.get(name)
+      .tag(StorageConcurrencyLimiter.RESOURCE_TAG, RESOURCE)
+      .gauge()
+      .value();
+  }
+}
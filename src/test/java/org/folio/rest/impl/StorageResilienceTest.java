@@ -0,0 +1,316 @@
+package org.folio.rest.impl;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.Response.Status.GATEWAY_TIMEOUT;
+import static org.folio.config.Constants.ID;
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.exception.ErrorCodes.REQUEST_DEADLINE_EXCEEDED;
+import static org.folio.exception.ErrorCodes.STORAGE_UNAVAILABLE;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.impl.MockServer.ID_INTERNAL_SERVER_ERROR;
+import static org.folio.rest.impl.MockServer.USER_NO_MEMBERSHIP_ID;
+import static org.folio.rest.impl.TestEntities.ORGANIZATION_NO_ACQ;
+import static org.folio.rest.impl.TestSuite.mockPort;
+import static org.folio.util.ResourcePathResolver.ORGANIZATIONS;
+import static org.folio.util.ResourcePathResolver.resourceByIdPath;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.is;
+import static wiremock.org.hamcrest.Matchers.lessThan;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.HttpStatus;
+import org.folio.exception.DeadlineExceededException;
+import org.folio.exception.HttpException;
+import org.folio.rest.client.HedgePolicy;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RestClient;
+import org.folio.rest.client.RetryPolicy;
+import org.folio.rest.client.StorageCircuitBreakers;
+import org.folio.rest.client.StorageConcurrencyLimiter;
+import org.folio.rest.client.StoragePriorityLanes;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.jaxrs.model.Organization;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+
+class StorageResilienceTest extends ApiTestBase {
+
+  private static final Logger logger = LogManager.getLogger(StorageResilienceTest.class);
+  private static final String FLAKY_ORGANIZATION_ID = "0c3a4b7e-3d7f-4a4e-9b1d-5d2a1b6f7e10";
+  private static final String SLOW_ORGANIZATION_ID = "6f1e2d3c-8b7a-4c5d-9e0f-1a2b3c4d5e6f";
+  private static final String REQUEST_TIMEOUT_HEADER = "X-Okapi-Request-Timeout";
+  private static final String FLAKY_SCENARIO = "flaky storage";
+  private static final String RECOVERED = "recovered";
+  private static final String FLAKY_PATH = "/flaky-storage/records";
+  private static final String BREAKER_RESOURCE = "flakyRecords";
+
+  private static Vertx vertx;
+  private static WebClient webClient;
+
+  @BeforeAll
+  static void createClient() {
+    vertx = Vertx.vertx();
+    webClient = WebClient.create(vertx);
+  }
+
+  @AfterAll
+  static void closeClient() {
+    vertx.close();
+  }
+
+  @BeforeEach
+  void resetScenarios() {
+    MockServer.getInstance().resetScenarios();
+  }
+
+  static Stream<Arguments> transientFailures() {
+    return Stream.of(
+      Arguments.of("Bad Gateway", aResponse().withStatus(502)),
+      Arguments.of("Service Unavailable", aResponse().withStatus(503)),
+      Arguments.of("Connection reset", aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("transientFailures")
+  void testGetByIdRetriedAfterTransientFailure(String name, ResponseDefinitionBuilder failure) {
+    logger.info("===== Verify GET by ID is retried after transient storage failure: {} =====", name);
+
+    String storageUrl = resourceByIdPath(ORGANIZATIONS, FLAKY_ORGANIZATION_ID);
+    MockServer.getInstance().stubFor(get(urlEqualTo(storageUrl))
+      .inScenario(FLAKY_SCENARIO)
+      .whenScenarioStateIs(STARTED)
+      .willReturn(failure)
+      .willSetStateTo(RECOVERED));
+    MockServer.getInstance().stubFor(get(urlEqualTo(storageUrl))
+      .inScenario(FLAKY_SCENARIO)
+      .whenScenarioStateIs(RECOVERED)
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(ORGANIZATION_NO_ACQ.getSample().put(ID, FLAKY_ORGANIZATION_ID).encode())));
+
+    verifyGetRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + FLAKY_ORGANIZATION_ID, headers(), APPLICATION_JSON,
+      HttpStatus.HTTP_OK.toInt());
+
+    MockServer.getInstance().verify(2, getRequestedFor(urlEqualTo(storageUrl)));
+  }
+
+  @Test
+  void testGetByIdNotRetriedAfterInternalServerError() {
+    logger.info("===== Verify GET by ID is not retried after Internal Server Error =====");
+
+    verifyGetRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + ID_INTERNAL_SERVER_ERROR, headers(), APPLICATION_JSON,
+      HttpStatus.HTTP_INTERNAL_SERVER_ERROR.toInt());
+
+    MockServer.getInstance().verify(1, getRequestedFor(urlEqualTo(resourceByIdPath(ORGANIZATIONS, ID_INTERNAL_SERVER_ERROR))));
+  }
+
+  @Test
+  void testRetriesLimitedByBudget() throws Exception {
+    logger.info("===== Verify retries stop when the retry budget is exhausted =====");
+
+    MockServer.getInstance().stubFor(get(urlEqualTo(FLAKY_PATH)).willReturn(aResponse().withStatus(503)));
+    RetryPolicy retryPolicy = new RetryPolicy(3, 1, 1, 0, 1);
+    AtomicInteger attempts = new AtomicInteger();
+    Supplier<Future<HttpResponse<Buffer>>> action = () -> {
+      attempts.incrementAndGet();
+      return send(FLAKY_PATH);
+    };
+
+    await(retryPolicy.execute(vertx, action).otherwiseEmpty());
+    assertThat(attempts.get(), is(2));
+
+    await(retryPolicy.execute(vertx, action).otherwiseEmpty());
+    assertThat(attempts.get(), is(3));
+  }
+
+  @Test
+  void testSlowGetHedged() throws Exception {
+    logger.info("===== Verify hedged request is sent after p95 latency and the faster response wins =====");
+
+    String fastPath = FLAKY_PATH + "/fast";
+    String slowOncePath = FLAKY_PATH + "/slow-once";
+    MockServer.getInstance().stubFor(get(urlEqualTo(fastPath)).willReturn(aResponse().withStatus(200)));
+    MockServer.getInstance().stubFor(get(urlEqualTo(slowOncePath))
+      .inScenario(FLAKY_SCENARIO)
+      .whenScenarioStateIs(STARTED)
+      .willReturn(aResponse().withStatus(200).withFixedDelay(3000))
+      .willSetStateTo(RECOVERED));
+    MockServer.getInstance().stubFor(get(urlEqualTo(slowOncePath))
+      .inScenario(FLAKY_SCENARIO)
+      .whenScenarioStateIs(RECOVERED)
+      .willReturn(aResponse().withStatus(200)));
+
+    HedgePolicy hedgePolicy = new HedgePolicy(true, 1);
+    for (int i = 0; i < 20; i++) {
+      await(hedgePolicy.execute(vertx, FLAKY_PATH, () -> send(fastPath)));
+    }
+
+    long start = System.nanoTime();
+    HttpResponse<Buffer> response = await(hedgePolicy.execute(vertx, FLAKY_PATH, () -> send(slowOncePath)));
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(2000L));
+    MockServer.getInstance().verify(2, getRequestedFor(urlEqualTo(slowOncePath)));
+  }
+
+  @Test
+  void testCircuitBreakerOpensAndRecovers() throws Exception {
+    logger.info("===== Verify circuit breaker opens after failures, fails fast with 503 and closes after recovery =====");
+
+    String path = FLAKY_PATH + "/breaker";
+    MockServer.getInstance().stubFor(get(urlEqualTo(path)).willReturn(aResponse().withStatus(500)));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StorageCircuitBreakers circuitBreakers = new StorageCircuitBreakers(true, 2, 200, -1, meterRegistry);
+
+    for (int i = 0; i < 2; i++) {
+      Throwable failure = awaitFailure(circuitBreakers.execute(vertx, BREAKER_RESOURCE, () -> send(path)));
+      assertThat(((HttpException) failure).getCode(), is(500));
+    }
+    assertThat(circuitBreakers.getState(BREAKER_RESOURCE), is(CircuitBreakerState.OPEN));
+
+    Throwable failure = awaitFailure(circuitBreakers.execute(vertx, BREAKER_RESOURCE, () -> send(path)));
+    assertThat(((HttpException) failure).getCode(), is(HttpStatus.HTTP_UNAVAILABLE.toInt()));
+    assertThat(((HttpException) failure).getError().getCode(), is(STORAGE_UNAVAILABLE.getCode()));
+    MockServer.getInstance().verify(2, getRequestedFor(urlEqualTo(path)));
+    assertThat(getGaugeValue(meterRegistry), is(2.0));
+
+    MockServer.getInstance().stubFor(get(urlEqualTo(path)).willReturn(aResponse().withStatus(200)));
+    Thread.sleep(300);
+    HttpResponse<Buffer> response = await(circuitBreakers.execute(vertx, BREAKER_RESOURCE, () -> send(path)));
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(circuitBreakers.getState(BREAKER_RESOURCE), is(CircuitBreakerState.CLOSED));
+    assertThat(getGaugeValue(meterRegistry), is(0.0));
+    assertThat(getTransitions(meterRegistry, "open"), is(1.0));
+    assertThat(getTransitions(meterRegistry, "half_open"), is(1.0));
+    assertThat(getTransitions(meterRegistry, "closed"), is(1.0));
+  }
+
+  @Test
+  void testCircuitBreakerIgnoresClientErrors() throws Exception {
+    logger.info("===== Verify circuit breaker does not count 4xx responses as failures =====");
+
+    String path = FLAKY_PATH + "/not-found";
+    MockServer.getInstance().stubFor(get(urlEqualTo(path)).willReturn(aResponse().withStatus(404)));
+    StorageCircuitBreakers circuitBreakers = new StorageCircuitBreakers(true, 2, 200, -1, new SimpleMeterRegistry());
+
+    for (int i = 0; i < 3; i++) {
+      Throwable failure = awaitFailure(circuitBreakers.execute(vertx, BREAKER_RESOURCE, () -> send(path)));
+      assertThat(((HttpException) failure).getCode(), is(404));
+    }
+
+    assertThat(circuitBreakers.getState(BREAKER_RESOURCE), is(CircuitBreakerState.CLOSED));
+  }
+
+  @Test
+  void testGetByIdFailsFastWhenDeadlineExceeded() {
+    logger.info("===== Verify GET by ID fails with 504 when storage does not respond before the request deadline =====");
+
+    String storageUrl = resourceByIdPath(ORGANIZATIONS, SLOW_ORGANIZATION_ID);
+    MockServer.getInstance().stubFor(get(urlEqualTo(storageUrl))
+      .willReturn(aResponse()
+        .withFixedDelay(3000)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(ORGANIZATION_NO_ACQ.getSample().put(ID, SLOW_ORGANIZATION_ID).encode())));
+
+    Headers headers = Headers.headers(X_OKAPI_URL, X_OKAPI_TENANT, new Header(OKAPI_USERID_HEADER, USER_NO_MEMBERSHIP_ID),
+      new Header(REQUEST_TIMEOUT_HEADER, "300"));
+
+    long start = System.nanoTime();
+    Errors errors = verifyGetRequest(ORGANIZATION_NO_ACQ.getUrl() + PATH_SEPARATOR + SLOW_ORGANIZATION_ID, headers,
+      APPLICATION_JSON, GATEWAY_TIMEOUT.getStatusCode()).as(Errors.class);
+
+    assertThat(errors.getErrors().get(0).getCode(), is(REQUEST_DEADLINE_EXCEEDED.getCode()));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(2000L));
+    MockServer.getInstance().verify(1, getRequestedFor(urlEqualTo(storageUrl)));
+  }
+
+  @Test
+  void testStorageNotCalledAfterDeadline() throws Exception {
+    logger.info("===== Verify no storage request is sent once the request deadline has passed =====");
+
+    String path = FLAKY_PATH + "/expired";
+    MockServer.getInstance().stubFor(get(urlEqualTo(path)).willReturn(aResponse().withStatus(200)));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RestClient restClient = new RestClient(new RetryPolicy(3, 1, 1, 0.1, 10), new HedgePolicy(false, 1),
+      new StorageCircuitBreakers(true, 1, 1000, -1, meterRegistry),
+      new StorageConcurrencyLimiter(true, 1, 1, 1000, 1, 1000, meterRegistry),
+      new StoragePriorityLanes(true, 1, 1, 0, 0, 1, 1000, meterRegistry));
+    RequestContext requestContext = new RequestContext(vertx.getOrCreateContext(),
+      Map.of(OKAPI_URL, X_OKAPI_URL.getValue(), OKAPI_HEADER_TENANT, X_OKAPI_TENANT.getValue()));
+    requestContext.withDeadline(System.nanoTime());
+
+    for (int i = 0; i < 2; i++) {
+      Throwable failure = awaitFailure(restClient.get(path, Organization.class, requestContext));
+      assertThat(failure instanceof DeadlineExceededException, is(true));
+      assertThat(((HttpException) failure).getCode(), is(GATEWAY_TIMEOUT.getStatusCode()));
+    }
+    MockServer.getInstance().verify(0, getRequestedFor(urlEqualTo(path)));
+  }
+
+  private Headers headers() {
+    return Headers.headers(X_OKAPI_URL, X_OKAPI_TENANT, new Header(OKAPI_USERID_HEADER, USER_NO_MEMBERSHIP_ID));
+  }
+
+  private static Future<HttpResponse<Buffer>> send(String path) {
+    return webClient.getAbs("http://localhost:" + mockPort + path)
+      .send()
+      .compose(response -> response.statusCode() == 200
+        ? Future.succeededFuture(response)
+        : Future.failedFuture(new HttpException(response.statusCode(), response.bodyAsString())));
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private static Throwable awaitFailure(Future<?> future) throws Exception {
+    return await(future.map(result -> (Throwable) null).recover(Future::succeededFuture));
+  }
+
+  private static double getGaugeValue(SimpleMeterRegistry meterRegistry) {
+    return meterRegistry.get(StorageCircuitBreakers.STATE_METRIC)
+      .tag(StorageCircuitBreakers.RESOURCE_TAG, BREAKER_RESOURCE)
+      .gauge()
+      .value();
+  }
+
+  private static double getTransitions(SimpleMeterRegistry meterRegistry, String state) {
+    return meterRegistry.get(StorageCircuitBreakers.TRANSITIONS_METRIC)
+      .tags(StorageCircuitBreakers.RESOURCE_TAG, BREAKER_RESOURCE, StorageCircuitBreakers.STATE_TAG, state)
+      .counter()
+      .count();
+  }
+}
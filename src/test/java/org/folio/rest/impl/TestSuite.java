@@ -5,6 +5,13 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.vertx.core.Promise;
 import org.folio.rest.RestVerticle;
 import org.folio.rest.tools.utils.NetworkUtils;
@@ -23,6 +30,7 @@ import io.vertx.junit5.VertxExtension;
 public class TestSuite {
 
   public static final int mockPort = NetworkUtils.nextFreePort();
+  public static final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
   private static final int okapiPort = NetworkUtils.nextFreePort();
   public static boolean isInitialized = false;
   private static Vertx vertx;
@@ -39,6 +47,8 @@ public class TestSuite {
     }
 
     MockServer.init(mockPort);
+    initTracing();
+    enableOptionalFeatures();
 
     final JsonObject conf = new JsonObject();
     conf.put("http.port", okapiPort);
@@ -70,6 +80,26 @@ public class TestSuite {
     return !isInitialized;
   }
 
+  /**
+   * Turns on the features the API tests cover through the deployed module, all of them are off by default.
+   */
+  private static void enableOptionalFeatures() {
+    System.setProperty("storage.retry.max-attempts", "3");
+    System.setProperty("organizations.suggest.enabled", "true");
+    System.setProperty("organizations.duplicates.enabled", "true");
+    System.setProperty("organizations.facets.enabled", "true");
+  }
+
+  private static void initTracing() {
+    GlobalOpenTelemetry.resetForTest();
+    OpenTelemetrySdk.builder()
+      .setTracerProvider(SdkTracerProvider.builder()
+        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+        .build())
+      .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+      .buildAndRegisterGlobal();
+  }
+
   @Nested
   class TestOrganizationApi extends OrganizationApiTest {
   }
@@ -78,4 +108,20 @@ public class TestSuite {
   class TestBankingInformationAPI extends BankingInformationAPITest {
   }
 
+  @Nested
+  class TestTracing extends TracingTest {
+  }
+
+  @Nested
+  class TestAllocationBudget extends AllocationBudgetTest {
+  }
+
+  @Nested
+  class TestStorageResilience extends StorageResilienceTest {
+  }
+
+  @Nested
+  class TestOverloadControl extends OverloadControlTest {
+  }
+
 }
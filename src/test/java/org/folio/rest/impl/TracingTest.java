@@ -0,0 +1,94 @@
+package org.folio.rest.impl;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.impl.MockServer.USER_FULL_PROTECTED_MEMBERSHIP_ID;
+import static org.folio.rest.impl.TestEntities.BANKING_INFORMATION_ENTITY;
+import static org.folio.rest.impl.TestEntities.ORGANIZATION_FULL_PROTECTED;
+import static org.folio.rest.impl.TestSuite.spanExporter;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.containsString;
+import static wiremock.org.hamcrest.Matchers.everyItem;
+import static wiremock.org.hamcrest.Matchers.hasItems;
+import static wiremock.org.hamcrest.Matchers.hasSize;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+class TracingTest extends ApiTestBase {
+
+  private static final Logger logger = LogManager.getLogger(TracingTest.class);
+  private static final String TRACEPARENT = "traceparent";
+
+  @BeforeEach
+  void resetSpans() {
+    spanExporter.reset();
+  }
+
+  @Test
+  void testGetByIdSpans() {
+    logger.info("===== Verify GET by ID creates handler span with storage and protection child spans, protection storage calls under their step =====");
+
+    Headers headers = Headers.headers(X_OKAPI_URL, X_OKAPI_TENANT, new Header(OKAPI_USERID_HEADER, USER_FULL_PROTECTED_MEMBERSHIP_ID));
+    verifyGetRequest(ORGANIZATION_FULL_PROTECTED.getUrl() + PATH_SEPARATOR + ORGANIZATION_FULL_PROTECTED.getId(),
+      headers, APPLICATION_JSON, HttpStatus.HTTP_OK.toInt());
+
+    SpanData handlerSpan = getSpan("getOrganizationsOrganizationsById");
+    assertThat(handlerSpan.getKind(), is(SpanKind.SERVER));
+
+    List<SpanData> childSpans = getChildSpans(handlerSpan);
+    List<String> childSpanNames = childSpans.stream().map(SpanData::getName).collect(Collectors.toList());
+    assertThat(childSpanNames, hasItems("getUnitsByIds", "verifyUserIsMemberOfOrganizationUnits"));
+    assertThat(childSpans.stream()
+      .filter(span -> span.getKind() == SpanKind.CLIENT)
+      .collect(Collectors.toList()), hasSize(1));
+    assertThat(getChildSpans(getSpan("getUnitsByIds")), hasSize(1));
+    assertThat(getChildSpans(getSpan("getUnitsByIds")).get(0).getKind(), is(SpanKind.CLIENT));
+    assertThat(getChildSpans(getSpan("verifyUserIsMemberOfOrganizationUnits")), hasSize(1));
+    assertThat(getChildSpans(getSpan("verifyUserIsMemberOfOrganizationUnits")).get(0).getKind(), is(SpanKind.CLIENT));
+
+    List<String> propagatedContexts = MockServer.getInstance().getAllServeEvents().stream()
+      .map(event -> event.getRequest().getHeader(TRACEPARENT))
+      .collect(Collectors.toList());
+    assertThat(propagatedContexts, hasSize(3));
+    assertThat(propagatedContexts, everyItem(containsString(handlerSpan.getTraceId())));
+  }
+
+  @Test
+  void testGetBankingInformationByIdSpans() {
+    logger.info("===== Verify GET banking information by ID creates handler span with storage child span =====");
+
+    verifyGetRequest(BANKING_INFORMATION_ENTITY.getUrl() + PATH_SEPARATOR + BANKING_INFORMATION_ENTITY.getId(),
+      APPLICATION_JSON, HttpStatus.HTTP_OK.toInt());
+
+    SpanData handlerSpan = getSpan("getOrganizationsBankingInformationById");
+    List<SpanData> childSpans = getChildSpans(handlerSpan);
+    assertThat(childSpans, hasSize(1));
+    assertThat(childSpans.get(0).getKind(), is(SpanKind.CLIENT));
+  }
+
+  private static SpanData getSpan(String name) {
+    return spanExporter.getFinishedSpanItems().stream()
+      .filter(span -> span.getName().equals(name))
+      .findFirst()
+      .orElseThrow();
+  }
+
+  private static List<SpanData> getChildSpans(SpanData parent) {
+    return spanExporter.getFinishedSpanItems().stream()
+      .filter(span -> span.getParentSpanId().equals(parent.getSpanId()))
+      .collect(Collectors.toList());
+  }
+}
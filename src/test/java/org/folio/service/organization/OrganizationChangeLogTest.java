@@ -0,0 +1,120 @@
+package org.folio.service.organization;
+
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.service.organization.OrganizationChangeLog.Position;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+
+class OrganizationChangeLogTest {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationChangeLogTest.class);
+  private static final String ACME_ID = "4a7c2e3f-5b6d-4c8e-9f0a-1b2c3d4e5f61";
+  private static final String GLOBEX_ID = "4a7c2e3f-5b6d-4c8e-9f0a-1b2c3d4e5f62";
+  private static final String INITECH_ID = "4a7c2e3f-5b6d-4c8e-9f0a-1b2c3d4e5f63";
+  private static final String READABLE_UNIT_ID = "8e1d4c2b-6a5f-4e3d-9c2b-1a0f9e8d7c61";
+  private static final String HIDDEN_UNIT_ID = "8e1d4c2b-6a5f-4e3d-9c2b-1a0f9e8d7c62";
+  private static final List<String> READABLE_UNITS = List.of(READABLE_UNIT_ID);
+
+  private static Vertx vertx;
+
+  @BeforeAll
+  static void createVertx() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterAll
+  static void closeVertx() {
+    vertx.close();
+  }
+
+  @Test
+  void testDeletesAfterPositionOfTenant() {
+    logger.info("===== Verify tombstones are returned after the position for the tenant only, the oldest first =====");
+
+    OrganizationChangeLog changeLog = new OrganizationChangeLog(10);
+    RequestContext requestContext = requestContext("changes_tenant");
+    Position start = new Position(Instant.now().minusSeconds(1), null);
+    changeLog.recordDelete(ACME_ID, List.of(), requestContext);
+    changeLog.recordDelete(GLOBEX_ID, List.of(), requestContext);
+    changeLog.recordDelete(INITECH_ID, List.of(), requestContext("changes_other_tenant"));
+
+    List<Position> deletes = changeLog.getDeletes(start, READABLE_UNITS, 10, requestContext);
+    assertThat(deletes.stream().map(Position::id).toList(), contains(ACME_ID, GLOBEX_ID));
+    assertThat(changeLog.getDeletes(deletes.get(0), READABLE_UNITS, 10, requestContext).stream().map(Position::id).toList(), contains(GLOBEX_ID));
+    assertThat(changeLog.getDeletes(start, READABLE_UNITS, 1, requestContext).size(), is(1));
+    assertThat(changeLog.getDeletes(deletes.get(1), READABLE_UNITS, 10, requestContext), is(empty()));
+    assertThat(changeLog.getDeletes(start, READABLE_UNITS, 10, requestContext("changes_unknown_tenant")), is(empty()));
+  }
+
+  @Test
+  void testDeletesOfInvisibleOrganizationsHidden() {
+    logger.info("===== Verify tombstones are returned only to users who could see the deleted organizations =====");
+
+    OrganizationChangeLog changeLog = new OrganizationChangeLog(10);
+    RequestContext requestContext = requestContext("changes_units_tenant");
+    Position start = new Position(Instant.EPOCH, null);
+    changeLog.recordDelete(ACME_ID, List.of(HIDDEN_UNIT_ID), requestContext);
+    changeLog.recordDelete(GLOBEX_ID, List.of(HIDDEN_UNIT_ID, READABLE_UNIT_ID), requestContext);
+    changeLog.recordDelete(INITECH_ID, null, requestContext);
+
+    assertThat(changeLog.getDeletes(start, READABLE_UNITS, 10, requestContext).stream().map(Position::id).toList(),
+      contains(GLOBEX_ID, INITECH_ID));
+    assertThat(changeLog.getDeletes(start, List.of(), 1, requestContext).stream().map(Position::id).toList(),
+      contains(INITECH_ID));
+    assertThat(changeLog.getDeletes(start, List.of(HIDDEN_UNIT_ID), 10, requestContext).size(), is(3));
+  }
+
+  @Test
+  void testOldestTombstonesDroppedAboveLimit() {
+    logger.info("===== Verify the oldest tombstones are dropped above the limit and none are kept with limit 0 =====");
+
+    OrganizationChangeLog changeLog = new OrganizationChangeLog(2);
+    RequestContext requestContext = requestContext("changes_limit_tenant");
+    Position start = new Position(Instant.EPOCH, null);
+    changeLog.recordDelete(ACME_ID, List.of(), requestContext);
+    changeLog.recordDelete(GLOBEX_ID, List.of(), requestContext);
+    changeLog.recordDelete(INITECH_ID, List.of(), requestContext);
+
+    assertThat(changeLog.getDeletes(start, READABLE_UNITS, 10, requestContext).size(), is(2));
+    assertThat(changeLog.getDeletes(start, READABLE_UNITS, 10, requestContext).stream().map(Position::id).toList().contains(INITECH_ID), is(true));
+
+    OrganizationChangeLog disabled = new OrganizationChangeLog(0);
+    disabled.recordDelete(ACME_ID, List.of(), requestContext);
+    assertThat(disabled.getDeletes(start, READABLE_UNITS, 10, requestContext), is(empty()));
+  }
+
+  @Test
+  void testCursorRoundTrip() {
+    logger.info("===== Verify positions are restored from their cursors and malformed cursors are rejected =====");
+
+    Position position = new Position(Instant.ofEpochMilli(1_700_000_000_123L), ACME_ID);
+    assertThat(Position.fromCursor(position.toCursor()), is(position));
+    Position date = new Position(Instant.ofEpochMilli(1_700_000_000_123L), null);
+    assertThat(Position.fromCursor(date.toCursor()), is(date));
+    assertThat(Position.ORDER.compare(date, position) < 0, is(true));
+
+    assertThrows(IllegalArgumentException.class, () -> Position.fromCursor("not a cursor"));
+    assertThrows(IllegalArgumentException.class, () -> Position.fromCursor("YWJj"));
+  }
+
+  private static RequestContext requestContext(String tenant) {
+    return new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_URL, "http://localhost", OKAPI_HEADER_TENANT, tenant));
+  }
+}
@@ -0,0 +1,116 @@
+package org.folio.service.organization;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationDuplicate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+class OrganizationDuplicateIndexTest extends StorageStubTestBase {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationDuplicateIndexTest.class);
+  private static final int PAGE_SIZE = 7;
+  private static final String ACME_ID = "8d1a3b5c-7e9f-4a2b-9c4d-6e8f0a1b2c31";
+  private static final String ACME_SUPPLIES_ID = "8d1a3b5c-7e9f-4a2b-9c4d-6e8f0a1b2c32";
+  private static final String GLOBEX_ID = "8d1a3b5c-7e9f-4a2b-9c4d-6e8f0a1b2c33";
+  private static final String INITECH_ID = "8d1a3b5c-7e9f-4a2b-9c4d-6e8f0a1b2c34";
+  private static final String READABLE_UNIT_ID = "2e4f6a8b-0c1d-4e3f-8a5b-7c9d1e2f3a41";
+  private static final String HIDDEN_UNIT_ID = "2e4f6a8b-0c1d-4e3f-8a5b-7c9d1e2f3a42";
+  private static final List<String> READABLE_UNITS = List.of(READABLE_UNIT_ID);
+
+  @BeforeAll
+  static void stubOrganizationPages() {
+    OrganizationCollection collection = new OrganizationCollection()
+      .withOrganizations(List.of(
+        new Organization().withId(ACME_ID).withName("ACME Inc").withCode("ACME-01").withErpCode("ERP-1"),
+        new Organization().withId(ACME_SUPPLIES_ID).withName("Acme Supplies").withCode("ACS")
+          .withAcqUnitIds(List.of(READABLE_UNIT_ID)),
+        new Organization().withId(GLOBEX_ID).withName("Globex Corporation").withCode("GLX")
+          .withAcqUnitIds(List.of(HIDDEN_UNIT_ID))))
+      .withTotalRecords(3);
+    storage.stubFor(get(urlEqualTo(String.format(GET_ORGANIZATIONS_BY_QUERY, PAGE_SIZE, 0,
+        buildQuery("cql.allRecords=1 sortBy id"))))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(collection).encode())));
+  }
+
+  @Test
+  void testSimilarNamesAndCodesFound() throws Exception {
+    logger.info("===== Verify organizations with similar names, codes or ERP codes are found as duplicates =====");
+
+    OrganizationDuplicateIndex index = new OrganizationDuplicateIndex(true, 0.6, organizationIndex());
+    RequestContext requestContext = requestContext("duplicates_tenant");
+
+    List<OrganizationDuplicate> byName = await(index.find(candidate("Acme, Inc.", "NEW", null), READABLE_UNITS, 10, requestContext));
+    assertThat(ids(byName), contains(ACME_ID));
+    assertThat(byName.get(0).getScore(), is(1.0));
+    assertThat(byName.get(0).getMatchedFields(), contains("name"));
+
+    List<OrganizationDuplicate> byCodes = await(index.find(candidate("Other", "acme 01", "erp1"), READABLE_UNITS, 10, requestContext));
+    assertThat(ids(byCodes), contains(ACME_ID));
+    assertThat(byCodes.get(0).getMatchedFields(), contains("code", "erpCode"));
+
+    assertThat(ids(await(index.find(candidate("ACME Supplies Ltd.", "X", null), READABLE_UNITS, 10, requestContext))),
+      contains(ACME_SUPPLIES_ID));
+    assertThat(await(index.find(candidate("ACME Inc", "ACME-01", null).withId(ACME_ID), READABLE_UNITS, 10, requestContext)),
+      is(empty()));
+    assertThat(await(index.find(candidate("Globex Corp.", "X", null), READABLE_UNITS, 10, requestContext)), is(empty()));
+    assertThat(ids(await(index.find(candidate("Globex Corp.", "X", null), List.of(HIDDEN_UNIT_ID), 10, requestContext))),
+      contains(GLOBEX_ID));
+  }
+
+  @Test
+  void testWritesUpdateLoadedIndex() throws Exception {
+    logger.info("===== Verify organization writes update the loaded duplicates index =====");
+
+    TenantOrganizationIndex organizationIndex = organizationIndex();
+    OrganizationDuplicateIndex index = new OrganizationDuplicateIndex(true, 0.6, organizationIndex);
+    RequestContext requestContext = requestContext("duplicates_writes_tenant");
+    await(index.find(candidate("Initech", "X", null), READABLE_UNITS, 10, requestContext));
+
+    organizationIndex.put(new Organization().withId(INITECH_ID).withName("Initech LLC").withCode("INI"), requestContext);
+    assertThat(ids(await(index.find(candidate("initech", "X", null), READABLE_UNITS, 10, requestContext))), contains(INITECH_ID));
+
+    organizationIndex.remove(INITECH_ID, requestContext);
+    assertThat(await(index.find(candidate("initech", "X", null), READABLE_UNITS, 10, requestContext)), is(empty()));
+  }
+
+  private static Organization candidate(String name, String code, String erpCode) {
+    return new Organization().withName(name).withCode(code).withErpCode(erpCode);
+  }
+
+  private static List<String> ids(List<OrganizationDuplicate> duplicates) {
+    return duplicates.stream().map(OrganizationDuplicate::getId).toList();
+  }
+
+  private static TenantOrganizationIndex organizationIndex() {
+    return new TenantOrganizationIndex(PAGE_SIZE, 0, restClient(), new SimpleMeterRegistry());
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,160 @@
+package org.folio.service.organization;
+
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.containsString;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+import static wiremock.org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.service.organization.OrganizationEventBroker.Event;
+import org.folio.service.organization.OrganizationEventBroker.EventType;
+import org.folio.service.organization.OrganizationEventBroker.Poll;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+class OrganizationEventBrokerTest {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationEventBrokerTest.class);
+  private static final String ACME_ID = "5b8d3f4a-6c7e-4d9f-8a1b-2c3d4e5f6a71";
+  private static final String GLOBEX_ID = "5b8d3f4a-6c7e-4d9f-8a1b-2c3d4e5f6a72";
+  private static final String INITECH_ID = "5b8d3f4a-6c7e-4d9f-8a1b-2c3d4e5f6a73";
+  private static final String MEMBER_USER_ID = "8e9f0a1b-2c3d-4e5f-9a6b-7c8d9e0f1a21";
+  private static final String OTHER_USER_ID = "8e9f0a1b-2c3d-4e5f-9a6b-7c8d9e0f1a22";
+  private static final String PROTECTED_UNIT_ID = "9f0a1b2c-3d4e-4f5a-8b6c-7d8e9f0a1b31";
+  private static final String SUBSCRIPTION = "vendor-sync";
+
+  private static Vertx vertx;
+
+  @BeforeAll
+  static void createVertx() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterAll
+  static void closeVertx() {
+    vertx.close();
+  }
+
+  @Test
+  void testEventsFilteredByVisibilityOfSubscriber() throws Exception {
+    logger.info("===== Verify events are delivered to the subscriptions of users who can read the organization =====");
+
+    OrganizationEventBroker broker = new OrganizationEventBroker(true, 10, 60000, new SimpleMeterRegistry());
+    RequestContext member = requestContext("events_tenant", MEMBER_USER_ID);
+    RequestContext other = requestContext("events_tenant", OTHER_USER_ID);
+    await(broker.poll(SUBSCRIPTION, List.of(PROTECTED_UNIT_ID), 10, 0, member));
+    await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, other));
+
+    broker.publish(EventType.CREATE, ACME_ID, new Organization().withId(ACME_ID).withName("Acme"), member);
+    broker.publish(EventType.UPDATE, GLOBEX_ID, new Organization().withId(GLOBEX_ID).withName("Globex")
+      .withAcqUnitIds(List.of(PROTECTED_UNIT_ID)), member);
+    broker.publish(EventType.DELETE, INITECH_ID, null, requestContext("events_other_tenant", MEMBER_USER_ID));
+    broker.publish(EventType.DELETE, INITECH_ID, null, member);
+    broker.publish(EventType.DELETE, GLOBEX_ID, new Organization().withId(GLOBEX_ID).withName("Globex")
+      .withAcqUnitIds(List.of(PROTECTED_UNIT_ID)), member);
+
+    Poll memberEvents = await(broker.poll(SUBSCRIPTION, List.of(PROTECTED_UNIT_ID), 10, 0, member));
+    assertThat(memberEvents.events().stream().map(Event::type).toList(),
+      contains(EventType.CREATE, EventType.UPDATE, EventType.DELETE, EventType.DELETE));
+    assertThat(memberEvents.events().get(1).data(), containsString("\"name\":\"Globex\""));
+    assertThat(memberEvents.events().get(3).data(), not(containsString("\"organization\"")));
+    Poll otherEvents = await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, other));
+    assertThat(otherEvents.events().stream().map(Event::type).toList(), contains(EventType.CREATE, EventType.DELETE));
+    assertThat(await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, other)).events(), is(empty()));
+
+    String stream = otherEvents.toEventStream();
+    assertThat(stream, containsString("event: delete\ndata: {\"id\":\"" + INITECH_ID + "\",\"type\":\"delete\""));
+    assertThat(stream, containsString("id: " + otherEvents.events().get(0).sequence() + "\nevent: create\n"));
+  }
+
+  @Test
+  void testWaitingPollCompletedByEvent() throws Exception {
+    logger.info("===== Verify a waiting poll ends with the first event or when the wait is over =====");
+
+    OrganizationEventBroker broker = new OrganizationEventBroker(true, 10, 60000, new SimpleMeterRegistry());
+    RequestContext requestContext = requestContext("events_wait_tenant", MEMBER_USER_ID);
+
+    Future<Poll> waiting = broker.poll(SUBSCRIPTION, List.of(), 10, 20000, requestContext);
+    assertThat(waiting.isComplete(), is(false));
+    broker.publish(EventType.UPDATE, ACME_ID, new Organization().withId(ACME_ID).withName("Acme"), requestContext);
+    assertThat(await(waiting).events().size(), is(1));
+
+    Poll timedOut = await(broker.poll(SUBSCRIPTION, List.of(), 10, 50, requestContext));
+    assertThat(timedOut.events(), is(empty()));
+    assertThat(timedOut.toEventStream(), containsString(": no events"));
+  }
+
+  @Test
+  void testSlowSubscriptionDroppedOnOverflow() throws Exception {
+    logger.info("===== Verify a subscription overflowing its buffer drops its events and gets a reset event =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    OrganizationEventBroker broker = new OrganizationEventBroker(true, 2, 60000, meterRegistry);
+    RequestContext requestContext = requestContext("events_overflow_tenant", MEMBER_USER_ID);
+    await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, requestContext));
+
+    broker.publish(EventType.DELETE, ACME_ID, null, requestContext);
+    broker.publish(EventType.DELETE, GLOBEX_ID, null, requestContext);
+    broker.publish(EventType.DELETE, INITECH_ID, null, requestContext);
+
+    Poll reset = await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, requestContext));
+    assertThat(reset.reset(), is(true));
+    assertThat(reset.events(), is(empty()));
+    assertThat(reset.toEventStream(), containsString("event: reset\n"));
+    assertThat(meterRegistry.get(OrganizationEventBroker.DROPPED_METRIC).counter().count(), is(1.0));
+
+    broker.publish(EventType.DELETE, ACME_ID, null, requestContext);
+    Poll resumed = await(broker.poll(SUBSCRIPTION, List.of(), 10, 0, requestContext));
+    assertThat(resumed.reset(), is(false));
+    assertThat(resumed.events().size(), is(1));
+  }
+
+  @Test
+  void testIdleSubscriptionRemovedAfterTimedOutPoll() throws Exception {
+    logger.info("===== Verify a subscription whose poll timed out is removed once idle =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    OrganizationEventBroker broker = new OrganizationEventBroker(true, 10, 50, meterRegistry);
+    RequestContext requestContext = requestContext("events_idle_tenant", MEMBER_USER_ID);
+
+    assertThat(await(broker.poll(SUBSCRIPTION, List.of(), 10, 10, requestContext)).events(), is(empty()));
+    assertThat(subscriptions(meterRegistry, "events_idle_tenant"), is(1.0));
+    TimeUnit.MILLISECONDS.sleep(100);
+
+    broker.publish(EventType.DELETE, ACME_ID, null, requestContext);
+    assertThat(subscriptions(meterRegistry, "events_idle_tenant"), is(0.0));
+  }
+
+  private static double subscriptions(SimpleMeterRegistry meterRegistry, String tenant) {
+    return meterRegistry.get(OrganizationEventBroker.SUBSCRIPTIONS_METRIC)
+      .tag(OrganizationEventBroker.TENANT_TAG, tenant)
+      .gauge()
+      .value();
+  }
+
+  private static RequestContext requestContext(String tenant, String userId) {
+    return new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_URL, "http://localhost", OKAPI_HEADER_TENANT, tenant,
+      OKAPI_USERID_HEADER, userId));
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
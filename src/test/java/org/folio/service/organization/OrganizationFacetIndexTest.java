@@ -0,0 +1,150 @@
+package org.folio.service.organization;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationFacetCollection;
+import org.folio.service.organization.OrganizationFacetIndex.Facet;
+import org.folio.util.CqlParser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+class OrganizationFacetIndexTest extends StorageStubTestBase {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationFacetIndexTest.class);
+  private static final int PAGE_SIZE = 4;
+  private static final String FIRST_PAGE_QUERY = "cql.allRecords=1 sortBy id";
+  private static final String ACME_ID = "3f6b1d2e-4a5c-4b7d-9e8f-0a1b2c3d4e51";
+  private static final String GLOBEX_ID = "3f6b1d2e-4a5c-4b7d-9e8f-0a1b2c3d4e52";
+  private static final String INITECH_ID = "3f6b1d2e-4a5c-4b7d-9e8f-0a1b2c3d4e53";
+  private static final String UMBRELLA_ID = "3f6b1d2e-4a5c-4b7d-9e8f-0a1b2c3d4e54";
+  private static final String BOOKS_TYPE_ID = "7a8b9c0d-1e2f-4a3b-8c4d-5e6f7a8b9c01";
+  private static final String SERIALS_TYPE_ID = "7a8b9c0d-1e2f-4a3b-8c4d-5e6f7a8b9c02";
+  private static final String READABLE_UNIT_ID = "6c7d8e9f-0a1b-4c2d-9e3f-4a5b6c7d8e91";
+  private static final String HIDDEN_UNIT_ID = "6c7d8e9f-0a1b-4c2d-9e3f-4a5b6c7d8e92";
+  private static final List<String> READABLE_UNITS = List.of(READABLE_UNIT_ID);
+  private static final List<Facet> ALL_FACETS = List.of(Facet.values());
+
+  @BeforeAll
+  static void stubOrganizationPages() {
+    OrganizationCollection collection = new OrganizationCollection()
+      .withOrganizations(List.of(
+        new Organization().withId(ACME_ID).withName("Acme").withStatus(Organization.Status.ACTIVE).withIsVendor(true)
+          .withOrganizationTypes(List.of(BOOKS_TYPE_ID)),
+        new Organization().withId(GLOBEX_ID).withName("Globex").withStatus(Organization.Status.ACTIVE).withIsVendor(false)
+          .withOrganizationTypes(List.of(SERIALS_TYPE_ID, BOOKS_TYPE_ID)).withAcqUnitIds(List.of(READABLE_UNIT_ID)),
+        new Organization().withId(INITECH_ID).withName("Initech").withStatus(Organization.Status.INACTIVE).withIsVendor(true)
+          .withAcqUnitIds(List.of(HIDDEN_UNIT_ID))))
+      .withTotalRecords(3);
+    storage.stubFor(get(urlEqualTo(pageUrl()))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(collection).encode())));
+  }
+
+  @Test
+  void testCountsOfVisibleOrganizationsMatchingQuery() throws Exception {
+    logger.info("===== Verify facets count the values of the visible organizations matching the query =====");
+
+    OrganizationFacetIndex index = new OrganizationFacetIndex(true, organizationIndex());
+    RequestContext requestContext = requestContext("facets_tenant");
+
+    OrganizationFacetCollection all = await(index.count(null, ALL_FACETS, READABLE_UNITS, false, requestContext));
+    assertThat(all.getTotalRecords(), is(2));
+    assertThat(values(all, 0), contains("Active=2"));
+    assertThat(values(all, 1), contains("false=1", "true=1"));
+    assertThat(values(all, 2), contains(BOOKS_TYPE_ID + "=2", SERIALS_TYPE_ID + "=1"));
+
+    OrganizationFacetCollection vendors = await(index.count(CqlParser.parse("isVendor==true and status==\"Active\" sortBy name"),
+      List.of(Facet.ORGANIZATION_TYPES), READABLE_UNITS, false, requestContext));
+    assertThat(vendors.getTotalRecords(), is(1));
+    assertThat(vendors.getFacets().size(), is(1));
+    assertThat(values(vendors, 0), contains(BOOKS_TYPE_ID + "=1"));
+
+    assertThat(await(index.count(CqlParser.parse("organizationTypes==(" + SERIALS_TYPE_ID + " or unknown)"), ALL_FACETS,
+      READABLE_UNITS, false, requestContext)).getTotalRecords(), is(1));
+    OrganizationFacetCollection inactive = await(index.count(CqlParser.parse("status<>active"), ALL_FACETS, READABLE_UNITS,
+      false, requestContext));
+    assertThat(inactive.getTotalRecords(), is(0));
+    assertThat(values(inactive, 0), is(empty()));
+    assertThat(await(index.count(CqlParser.parse("status<>active"), ALL_FACETS, List.of(HIDDEN_UNIT_ID), false,
+      requestContext)).getTotalRecords(), is(1));
+  }
+
+  @Test
+  void testOnlyQueriesOfAggregatedFieldsSupported() {
+    logger.info("===== Verify only queries of the aggregated fields with exact terms are counted in memory =====");
+
+    assertThat(OrganizationFacetIndex.isSupported(null), is(true));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("cql.allRecords=1 not isVendor==true")), is(true));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("(status==Active or status==Pending) and isVendor=true")), is(true));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("status==Act*")), is(false));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("isVendor==true and name==Acme")), is(false));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("status=/masked Active")), is(false));
+    assertThat(OrganizationFacetIndex.isSupported(CqlParser.parse("Active")), is(false));
+  }
+
+  @Test
+  void testWritesUpdateCountsAndRebuildReloads() throws Exception {
+    logger.info("===== Verify organization writes update the counts and a rebuild reloads them from storage =====");
+
+    TenantOrganizationIndex organizationIndex = organizationIndex();
+    OrganizationFacetIndex index = new OrganizationFacetIndex(true, organizationIndex);
+    RequestContext requestContext = requestContext("facets_writes_tenant");
+    await(index.count(null, ALL_FACETS, READABLE_UNITS, false, requestContext));
+
+    organizationIndex.put(new Organization().withId(UMBRELLA_ID).withName("Umbrella").withStatus(Organization.Status.PENDING)
+      .withIsVendor(true), requestContext);
+    organizationIndex.put(new Organization().withId(GLOBEX_ID).withName("Globex").withStatus(Organization.Status.INACTIVE)
+      .withIsVendor(false), requestContext);
+    organizationIndex.remove(ACME_ID, requestContext);
+
+    OrganizationFacetCollection updated = await(index.count(null, ALL_FACETS, READABLE_UNITS, false, requestContext));
+    assertThat(updated.getTotalRecords(), is(2));
+    assertThat(values(updated, 0), contains("Inactive=1", "Pending=1"));
+    assertThat(values(updated, 2), is(empty()));
+
+    OrganizationFacetCollection rebuilt = await(index.count(null, ALL_FACETS, READABLE_UNITS, true, requestContext));
+    assertThat(rebuilt.getTotalRecords(), is(2));
+    assertThat(values(rebuilt, 0), contains("Active=2"));
+  }
+
+  private static List<String> values(OrganizationFacetCollection collection, int facet) {
+    return collection.getFacets().get(facet).getValues().stream()
+      .map(value -> value.getValue() + "=" + value.getCount())
+      .toList();
+  }
+
+  private static String pageUrl() {
+    return String.format(GET_ORGANIZATIONS_BY_QUERY, PAGE_SIZE, 0, buildQuery(FIRST_PAGE_QUERY));
+  }
+
+  private static TenantOrganizationIndex organizationIndex() {
+    return new TenantOrganizationIndex(PAGE_SIZE, 0, restClient(), new SimpleMeterRegistry());
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,100 @@
+package org.folio.service.organization;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+import static org.folio.util.RestUtils.convertIdsToCqlQuery;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.util.CqlParser;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+class OrganizationIdBatchFetcherTest extends StorageStubTestBase {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationIdBatchFetcherTest.class);
+  private static final String VISIBLE_ID = "3a1c5e2f-6b7d-4e8f-9a0b-1c2d3e4f5a61";
+  private static final String HIDDEN_ID = "3a1c5e2f-6b7d-4e8f-9a0b-1c2d3e4f5a62";
+  private static final String MISSING_ID = "3a1c5e2f-6b7d-4e8f-9a0b-1c2d3e4f5a63";
+  private static final String READABLE_ID = "3a1c5e2f-6b7d-4e8f-9a0b-1c2d3e4f5a64";
+  private static final String READABLE_UNIT_ID = "7d3e1f0a-2b4c-4d6e-8f0a-1b2c3d4e5f61";
+  private static final String HIDDEN_UNIT_ID = "7d3e1f0a-2b4c-4d6e-8f0a-1b2c3d4e5f62";
+
+  @Test
+  void testOnlyLongExactIdListsFetchedInChunks() {
+    logger.info("===== Verify only long lists of exact ids are fetched in chunks =====");
+
+    OrganizationIdBatchFetcher fetcher = new OrganizationIdBatchFetcher(3, 2, 1, null);
+
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id==(c or a or b or a)")), contains("c", "a", "b"));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id=(a or b or c)")), contains("a", "b", "c"));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id==(a or b or a)")), is(empty()));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id==(a or b or c*)")), is(empty()));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id==(a or b or c) sortBy name")), is(empty()));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id==(a or b or c) and status==Active")), is(empty()));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("code==(a or b or c)")), is(empty()));
+    assertThat(fetcher.getRequestedIds(CqlParser.tryParse("id<>(a or b or c)")), is(empty()));
+    assertThat(fetcher.getRequestedIds(null), is(empty()));
+    assertThat(new OrganizationIdBatchFetcher(0, 2, 1, null)
+      .getRequestedIds(CqlParser.tryParse("id==(a or b or c)")), is(empty()));
+  }
+
+  @Test
+  void testChunksMergedInRequestedOrderWithUnitsApplied() throws Exception {
+    logger.info("===== Verify chunks fetched one window after the other are merged in requested order and filtered by acquisitions units =====");
+
+    List<String> ids = List.of(READABLE_ID, HIDDEN_ID, MISSING_ID, VISIBLE_ID);
+    stubChunk(ids.subList(0, 2),
+      new Organization().withId(HIDDEN_ID).withAcqUnitIds(List.of(HIDDEN_UNIT_ID)),
+      new Organization().withId(READABLE_ID).withAcqUnitIds(List.of(HIDDEN_UNIT_ID, READABLE_UNIT_ID)));
+    stubChunk(ids.subList(2, 4), new Organization().withId(VISIBLE_ID));
+    OrganizationIdBatchFetcher fetcher = new OrganizationIdBatchFetcher(3, 2, 1, restClient());
+    RequestContext requestContext = requestContext("id_batch_tenant");
+
+    OrganizationCollection all = await(fetcher.fetch(ids, List.of(READABLE_UNIT_ID), 0, 10, requestContext));
+    OrganizationCollection page = await(fetcher.fetch(ids, List.of(READABLE_UNIT_ID), 1, 10, requestContext));
+
+    assertThat(all.getTotalRecords(), is(2));
+    assertThat(all.getOrganizations().stream().map(Organization::getId).toList(), contains(READABLE_ID, VISIBLE_ID));
+    assertThat(page.getTotalRecords(), is(2));
+    assertThat(page.getOrganizations().stream().map(Organization::getId).toList(), contains(VISIBLE_ID));
+    storage.verify(2, getRequestedFor(urlEqualTo(chunkUrl(ids.subList(0, 2)))));
+    storage.verify(2, getRequestedFor(urlEqualTo(chunkUrl(ids.subList(2, 4)))));
+  }
+
+  private static void stubChunk(List<String> chunk, Organization... organizations) {
+    OrganizationCollection collection = new OrganizationCollection()
+      .withOrganizations(List.of(organizations))
+      .withTotalRecords(organizations.length);
+    storage.stubFor(get(urlEqualTo(chunkUrl(chunk)))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(collection).encode())));
+  }
+
+  private static String chunkUrl(List<String> chunk) {
+    return String.format(GET_ORGANIZATIONS_BY_QUERY, chunk.size(), 0, buildQuery(convertIdsToCqlQuery(chunk)));
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,125 @@
+package org.folio.service.organization;
+
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.util.CqlCanonicalizer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+class OrganizationQueryCacheTest {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationQueryCacheTest.class);
+  private static final String TENANT = "cache_tenant";
+  private static final String OTHER_TENANT = "other_cache_tenant";
+  private static final String UNITS_CLAUSE = "acqUnitIds=\"\" or cql.allRecords=1 NOT acqUnitIds <> []";
+  private static final String OTHER_UNITS_CLAUSE = "cql.allRecords=1 NOT acqUnitIds <> []";
+
+  private static Vertx vertx;
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private SimpleMeterRegistry meterRegistry;
+  private OrganizationQueryCache queryCache;
+
+  @BeforeAll
+  static void createVertx() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterAll
+  static void closeVertx() {
+    vertx.close();
+  }
+
+  @BeforeEach
+  void createCache() {
+    loads.set(0);
+    meterRegistry = new SimpleMeterRegistry();
+    queryCache = new OrganizationQueryCache(true, 60_000, 1024 * 1024, meterRegistry);
+  }
+
+  @Test
+  void testRepeatedQueryServedFromCache() throws Exception {
+    logger.info("===== Verify repeated collection queries are served from the cache =====");
+
+    OrganizationCollection first = await(get("name=abc*", UNITS_CLAUSE, TENANT, this::load));
+    first.setTotalRecords(100);
+    OrganizationCollection second = await(get("  name = \"abc*\"\n", UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=\"abc  *\"", UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=abc*", OTHER_UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=abc*", UNITS_CLAUSE, OTHER_TENANT, this::load));
+
+    assertThat(loads.get(), is(4));
+    assertThat(second.getTotalRecords(), is(1));
+    assertThat(second.getOrganizations().get(0).getName(), is("abc"));
+    assertThat(meterRegistry.get("cache.gets")
+      .tag("cache", OrganizationQueryCache.CACHE_NAME)
+      .tag("result", "hit")
+      .functionCounter()
+      .count(), is(1.0));
+  }
+
+  @Test
+  void testOrganizationWriteInvalidatesTenantResults() throws Exception {
+    logger.info("===== Verify organization writes drop the cached results of the tenant =====");
+
+    await(get("name=abc*", UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=abc*", UNITS_CLAUSE, OTHER_TENANT, this::load));
+    Promise<OrganizationCollection> running = Promise.promise();
+    Future<OrganizationCollection> loadedDuringWrite = get("name=xyz*", UNITS_CLAUSE, TENANT, running::future);
+
+    queryCache.invalidate(requestContext(TENANT));
+    running.complete(collection());
+    await(loadedDuringWrite);
+    await(get("name=abc*", UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=xyz*", UNITS_CLAUSE, TENANT, this::load));
+    await(get("name=abc*", UNITS_CLAUSE, OTHER_TENANT, this::load));
+
+    assertThat(loads.get(), is(4));
+  }
+
+  private Future<OrganizationCollection> get(String query, String clause, String tenant,
+                                             Supplier<Future<OrganizationCollection>> loader) {
+    return queryCache.get(CqlCanonicalizer.canonicalize(query), clause, 0, 10, requestContext(tenant), loader);
+  }
+
+  private Future<OrganizationCollection> load() {
+    loads.incrementAndGet();
+    return Future.succeededFuture(collection());
+  }
+
+  private static OrganizationCollection collection() {
+    return new OrganizationCollection()
+      .withOrganizations(new ArrayList<>(List.of(new Organization().withName("abc"))))
+      .withTotalRecords(1);
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+
+  private static RequestContext requestContext(String tenant) {
+    return new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_URL, "http://localhost", OKAPI_HEADER_TENANT, tenant));
+  }
+}
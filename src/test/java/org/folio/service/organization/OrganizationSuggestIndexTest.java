@@ -0,0 +1,145 @@
+package org.folio.service.organization;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.folio.service.organization.OrganizationStorageService.GET_ORGANIZATIONS_BY_QUERY;
+import static org.folio.util.RestUtils.buildQuery;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.contains;
+import static wiremock.org.hamcrest.Matchers.empty;
+import static wiremock.org.hamcrest.Matchers.is;
+import static wiremock.org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.jaxrs.model.Alias;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.folio.rest.jaxrs.model.OrganizationDuplicate;
+import org.folio.rest.jaxrs.model.OrganizationSuggestion;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+class OrganizationSuggestIndexTest extends StorageStubTestBase {
+
+  private static final Logger logger = LogManager.getLogger(OrganizationSuggestIndexTest.class);
+  private static final String AMAZON_ID = "5b2e7c1a-0d3f-4a6b-8c9d-1e2f3a4b5c61";
+  private static final String EBENE_ID = "5b2e7c1a-0d3f-4a6b-8c9d-1e2f3a4b5c62";
+  private static final String ACME_ID = "5b2e7c1a-0d3f-4a6b-8c9d-1e2f3a4b5c63";
+  private static final String DELTA_ID = "5b2e7c1a-0d3f-4a6b-8c9d-1e2f3a4b5c64";
+  private static final String READABLE_UNIT_ID = "9c4f2a1b-3d5e-4f6a-8b7c-0d1e2f3a4b61";
+  private static final String HIDDEN_UNIT_ID = "9c4f2a1b-3d5e-4f6a-8b7c-0d1e2f3a4b62";
+  private static final List<String> READABLE_UNITS = List.of(READABLE_UNIT_ID);
+
+  @BeforeAll
+  static void stubOrganizationPages() {
+    Organization amazon = new Organization().withId(AMAZON_ID).withName("Amazon Web Services").withCode("AMAZ")
+      .withAliases(List.of(new Alias().withValue("Zon  Books")));
+    Organization ebene = new Organization().withId(EBENE_ID).withName("\u00c9b\u00e8ne Supply").withCode("EBS")
+      .withAcqUnitIds(List.of(HIDDEN_UNIT_ID));
+    Organization acme = new Organization().withId(ACME_ID).withName("Acme").withCode("SERV1")
+      .withAcqUnitIds(List.of(HIDDEN_UNIT_ID, READABLE_UNIT_ID));
+    stubPage(2, "cql.allRecords=1 sortBy id", amazon, ebene);
+    stubPage(2, "id>\"" + EBENE_ID + "\" sortBy id", acme);
+    stubPage(10, "cql.allRecords=1 sortBy id", amazon, ebene, acme);
+  }
+
+  @Test
+  void testPrefixMatchesNamesCodesAliasesAndWords() throws Exception {
+    logger.info("===== Verify prefixes match names, codes, aliases and their words of visible organizations =====");
+
+    OrganizationSuggestIndex index = new OrganizationSuggestIndex(true,
+      new TenantOrganizationIndex(2, 0, restClient(), new SimpleMeterRegistry()));
+    RequestContext requestContext = requestContext("suggest_tenant");
+
+    List<OrganizationSuggestion> amaz = await(index.suggest("  AMAZ", READABLE_UNITS, 10, requestContext));
+    assertThat(ids(amaz), contains(AMAZON_ID));
+    assertThat(amaz.get(0).getMatchedValue(), is("AMAZ"));
+    assertThat(ids(await(index.suggest("serv", READABLE_UNITS, 10, requestContext))), contains(ACME_ID, AMAZON_ID));
+    assertThat(ids(await(index.suggest("serv", READABLE_UNITS, 1, requestContext))), contains(ACME_ID));
+    assertThat(await(index.suggest("zon b", READABLE_UNITS, 10, requestContext)).get(0).getMatchedValue(), is("Zon  Books"));
+    assertThat(await(index.suggest("ebe", READABLE_UNITS, 10, requestContext)), is(empty()));
+    assertThat(ids(await(index.suggest("ebe", List.of(HIDDEN_UNIT_ID), 10, requestContext))), contains(EBENE_ID));
+    assertThat(ids(await(index.suggest("\u00c9B\u00c8NE s", List.of(HIDDEN_UNIT_ID), 10, requestContext))), contains(EBENE_ID));
+    assertThat(await(index.suggest("services x", READABLE_UNITS, 10, requestContext)), is(empty()));
+  }
+
+  @Test
+  void testWritesUpdateLoadedIndex() throws Exception {
+    logger.info("===== Verify organization writes update the loaded index without reloading it =====");
+
+    TenantOrganizationIndex organizationIndex = new TenantOrganizationIndex(10, 0, restClient(), new SimpleMeterRegistry());
+    OrganizationSuggestIndex index = new OrganizationSuggestIndex(true, organizationIndex);
+    RequestContext requestContext = requestContext("suggest_writes_tenant");
+    await(index.suggest("a", READABLE_UNITS, 10, requestContext));
+
+    organizationIndex.put(new Organization().withId(DELTA_ID).withName("Delta Books").withCode("DB"), requestContext);
+    organizationIndex.put(new Organization().withId(AMAZON_ID).withName("Bezos Books").withCode("BB"), requestContext);
+    organizationIndex.remove(ACME_ID, requestContext);
+
+    assertThat(ids(await(index.suggest("books", READABLE_UNITS, 10, requestContext))), contains(AMAZON_ID, DELTA_ID));
+    assertThat(await(index.suggest("amaz", READABLE_UNITS, 10, requestContext)), is(empty()));
+    assertThat(await(index.suggest("acme", READABLE_UNITS, 10, requestContext)), is(empty()));
+    storage.verify(1, getRequestedFor(urlEqualTo(pageUrl(10, "cql.allRecords=1 sortBy id"))));
+  }
+
+  @Test
+  void testIndexesShareLoadAndWrites() throws Exception {
+    logger.info("===== Verify the indexes of a tenant are loaded with one pass over storage and updated by the same writes =====");
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TenantOrganizationIndex organizationIndex = new TenantOrganizationIndex(10, 0, restClient(), meterRegistry);
+    OrganizationSuggestIndex suggestIndex = new OrganizationSuggestIndex(true, organizationIndex);
+    OrganizationDuplicateIndex duplicateIndex = new OrganizationDuplicateIndex(true, 0.6, organizationIndex);
+    new OrganizationFacetIndex(false, organizationIndex);
+    RequestContext requestContext = requestContext("suggest_shared_tenant");
+
+    Future<List<OrganizationSuggestion>> suggestions = suggestIndex.suggest("acme", READABLE_UNITS, 10, requestContext);
+    Future<List<OrganizationDuplicate>> duplicates = duplicateIndex.find(new Organization().withName("Acme Inc"),
+      READABLE_UNITS, 10, requestContext);
+    assertThat(ids(await(suggestions)), contains(ACME_ID));
+    assertThat(await(duplicates).get(0).getId(), is(ACME_ID));
+    storage.verify(1, getRequestedFor(urlEqualTo(pageUrl(10, "cql.allRecords=1 sortBy id"))));
+
+    organizationIndex.put(new Organization().withId(DELTA_ID).withName("Delta Books").withCode("DB"), requestContext);
+    assertThat(ids(await(suggestIndex.suggest("delta", READABLE_UNITS, 10, requestContext))), contains(DELTA_ID));
+    assertThat(await(duplicateIndex.find(new Organization().withName("Delta Books Ltd"), READABLE_UNITS, 10,
+      requestContext)).get(0).getId(), is(DELTA_ID));
+    assertThat(meterRegistry.get(OrganizationSuggestIndex.DOCUMENTS_METRIC).gauge().value(), is(4.0));
+    assertThat(meterRegistry.find(OrganizationFacetIndex.DOCUMENTS_METRIC).gauge(), is(nullValue()));
+  }
+
+  private static void stubPage(int pageSize, String query, Organization... organizations) {
+    OrganizationCollection collection = new OrganizationCollection()
+      .withOrganizations(List.of(organizations))
+      .withTotalRecords(organizations.length);
+    storage.stubFor(get(urlEqualTo(pageUrl(pageSize, query)))
+      .willReturn(aResponse()
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody(JsonObject.mapFrom(collection).encode())));
+  }
+
+  private static String pageUrl(int pageSize, String query) {
+    return String.format(GET_ORGANIZATIONS_BY_QUERY, pageSize, 0, buildQuery(query));
+  }
+
+  private static List<String> ids(List<OrganizationSuggestion> suggestions) {
+    return suggestions.stream().map(OrganizationSuggestion::getId).toList();
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.service.organization;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.folio.config.Constants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.util.Map;
+
+import org.folio.rest.client.HedgePolicy;
+import org.folio.rest.client.RequestContext;
+import org.folio.rest.client.RestClient;
+import org.folio.rest.client.RetryPolicy;
+import org.folio.rest.client.StorageCircuitBreakers;
+import org.folio.rest.client.StorageConcurrencyLimiter;
+import org.folio.rest.client.StoragePriorityLanes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+
+/**
+ * Base of the service tests reading organizations from a WireMock storage stub of their own, without the module
+ * deployed.
+ */
+abstract class StorageStubTestBase {
+
+  protected static Vertx vertx;
+  protected static WireMockServer storage;
+
+  @BeforeAll
+  static void startStorageStub() {
+    vertx = Vertx.vertx();
+    storage = new WireMockServer(wireMockConfig().dynamicPort());
+    storage.start();
+  }
+
+  @AfterAll
+  static void stopStorageStub() {
+    storage.stop();
+    vertx.close();
+  }
+
+  @BeforeEach
+  void resetStorageRequests() {
+    storage.resetRequests();
+  }
+
+  /**
+   * @return request context of a request of the tenant with the storage stub as Okapi
+   */
+  static RequestContext requestContext(String tenant) {
+    return new RequestContext(vertx.getOrCreateContext(),
+      Map.of(OKAPI_URL, "http://localhost:" + storage.port(), OKAPI_HEADER_TENANT, tenant));
+  }
+
+  /**
+   * @return storage client sending each request once, without circuit breakers, concurrency limits and priority lanes
+   */
+  static RestClient restClient() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    return new RestClient(new RetryPolicy(1, 1, 1, 0, 1), new HedgePolicy(false, 1),
+      new StorageCircuitBreakers(false, 1, 1000, -1, meterRegistry),
+      new StorageConcurrencyLimiter(false, 1, 1, 1000, 1, 1000, meterRegistry),
+      new StoragePriorityLanes(false, 1, 1, 0, 0, 1, 1000, meterRegistry));
+  }
+}
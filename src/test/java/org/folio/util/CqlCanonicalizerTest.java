@@ -0,0 +1,62 @@
+package org.folio.util;
+
+import static org.folio.util.RestUtils.combineCqlExpressions;
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CqlCanonicalizerTest {
+
+  private static final Logger logger = LogManager.getLogger(CqlCanonicalizerTest.class);
+
+  static Stream<Arguments> equivalentQueries() {
+    return Stream.of(
+      Arguments.of("  name = abc*  ", "name=abc*"),
+      Arguments.of("name=\"abc*\"", "name=abc*"),
+      Arguments.of("name==\"Amazon Inc\" AND status==Active", "name==\"Amazon Inc\" and status==Active"),
+      Arguments.of("((name=abc*))", "name=abc*"),
+      Arguments.of("(a=1) and ((b=2) and (c=3))", "a=1 and b=2 and c=3"),
+      Arguments.of("a=1 not (b=2 or c=3)", "a=1 not (b=2 or c=3)"),
+      Arguments.of("a=1 and (b=2 not c=3)", "a=1 and (b=2 not c=3)"),
+      Arguments.of("id==(c OR a or b or a)", "id==(a or b or c)"),
+      Arguments.of("id==(a)", "id==a"),
+      Arguments.of("title ANY \"x y\"", "title any \"x y\""),
+      Arguments.of("name==/ignoreCase abc", "name ==/ignoreCase abc"),
+      Arguments.of("cql.allRecords=1 NOT acqUnitIds <> []", "cql.allRecords=1 not acqUnitIds<>[]"),
+      Arguments.of("name=\"and\"", "name=\"and\""),
+      Arguments.of("name=\"\"", "name=\"\""),
+      Arguments.of("(name=abc*) SORTBY name/sort.descending code", "name=abc* sortBy name/sort.descending code"),
+      Arguments.of(combineCqlExpressions("and", "acqUnitIds=(u2 or u1) or (cql.allRecords=1)", "name=abc* sortBy name"),
+        "(acqUnitIds=(u1 or u2) or cql.allRecords=1) and name=abc* sortBy name"));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("equivalentQueries")
+  void testQueryCanonicalized(String query, String expected) {
+    logger.info("===== Verify query is canonicalized: {} =====", query);
+
+    String canonical = CqlCanonicalizer.canonicalize(query);
+
+    assertThat(canonical, is(expected));
+    assertThat(CqlCanonicalizer.canonicalize(canonical), is(expected));
+  }
+
+  @Test
+  void testInvalidQueryKeptAsIs() {
+    logger.info("===== Verify queries that are not valid CQL are kept as is =====");
+
+    assertThat(CqlCanonicalizer.canonicalize(" name=\"abc "), is("name=\"abc"));
+    assertThat(CqlCanonicalizer.canonicalize("id==(a or b and c)"), is("id==(a or b and c)"));
+    assertThat(CqlCanonicalizer.canonicalize("   "), is(""));
+    Assertions.assertThrows(CqlParser.CqlParseException.class, () -> CqlParser.parse("(name=abc"));
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.util;
+
+import static wiremock.org.hamcrest.MatcherAssert.assertThat;
+import static wiremock.org.hamcrest.Matchers.containsInAnyOrder;
+import static wiremock.org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Alias;
+import org.folio.rest.jaxrs.model.BankingInformation;
+import org.folio.rest.jaxrs.model.BankingInformationCollection;
+import org.folio.rest.jaxrs.model.Organization;
+import org.folio.rest.jaxrs.model.OrganizationCollection;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class JsonProjectionTest {
+
+  private static final Logger logger = LogManager.getLogger(JsonProjectionTest.class);
+  private static final Organization AMAZON = new Organization()
+    .withId("2b9c1f4e-5d6a-4b7c-8d9e-0f1a2b3c4d51")
+    .withName("Amazon")
+    .withCode("AMAZ")
+    .withErpCode("ERP-AMAZ")
+    .withStatus(Organization.Status.ACTIVE)
+    .withAliases(List.of(new Alias().withValue("Amazon Books").withDescription("Books")));
+
+  @Test
+  void testRecordProjectedToFields() {
+    logger.info("===== Verify a record is written with the requested fields and nested fields only =====");
+
+    JsonObject json = new JsonObject(JsonProjection.ofRecord("id, name,aliases.value").write(AMAZON));
+
+    assertThat(json.fieldNames(), containsInAnyOrder("id", "name", "aliases"));
+    assertThat(json.getString("name"), is("Amazon"));
+    assertThat(json.getJsonArray("aliases").getJsonObject(0).fieldNames(), containsInAnyOrder("value"));
+
+    JsonObject whole = new JsonObject(JsonProjection.ofRecord("aliases.value,aliases").write(AMAZON));
+    assertThat(whole.getJsonArray("aliases").getJsonObject(0).fieldNames(), containsInAnyOrder("value", "description"));
+  }
+
+  @Test
+  void testCollectionRecordsProjectedToFields() {
+    logger.info("===== Verify each record of a collection is projected and other properties are kept =====");
+
+    OrganizationCollection organizations = new OrganizationCollection()
+      .withOrganizations(List.of(AMAZON, new Organization().withId("2b9c1f4e-5d6a-4b7c-8d9e-0f1a2b3c4d52").withName("Acme")))
+      .withTotalRecords(2);
+
+    JsonObject json = new JsonObject(JsonProjection.ofCollection("organizations", "id,code,status").write(organizations));
+    assertThat(json.getInteger("totalRecords"), is(2));
+    JsonArray records = json.getJsonArray("organizations");
+    assertThat(records.size(), is(2));
+    assertThat(records.getJsonObject(0).fieldNames(), containsInAnyOrder("id", "code", "status"));
+    assertThat(records.getJsonObject(0).getString("status"), is("Active"));
+    assertThat(records.getJsonObject(1).getString("name"), is((String) null));
+
+    BankingInformationCollection bankingInformation = new BankingInformationCollection()
+      .withBankingInformation(List.of(new BankingInformation().withId("2b9c1f4e-5d6a-4b7c-8d9e-0f1a2b3c4d53")
+        .withBankName("TRC").withBankAccountNumber("12345")))
+      .withTotalRecords(1);
+    JsonObject banking = new JsonObject(JsonProjection.ofCollection("bankingInformation", "unknown").write(bankingInformation));
+    assertThat(banking.getJsonArray("bankingInformation").getJsonObject(0).isEmpty(), is(true));
+    assertThat(banking.getInteger("totalRecords"), is(1));
+  }
+
+  @Test
+  void testBlankFieldsWriteWholeEntity() {
+    logger.info("===== Verify blank fields write the whole entity =====");
+
+    JsonProjection projection = JsonProjection.ofCollection("organizations", " ");
+
+    assertThat(projection.isEmpty(), is(true));
+    assertThat(JsonProjection.ofRecord(null).isEmpty(), is(true));
+    assertThat(new JsonObject(JsonProjection.ofRecord(null).write(AMAZON)).getString("erpCode"), is("ERP-AMAZ"));
+  }
+}